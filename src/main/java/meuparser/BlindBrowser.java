@@ -9,7 +9,13 @@ package meuparser;
 
 import com.fazecast.jSerialComm.SerialPort;
 import meuparser.cache.ContentCache;
+import meuparser.ia.LinkTable;
+import meuparser.ia.SummaryPyramid;
+import meuparser.ia.DualModeManager.DocumentSession;
 import meuparser.ia.DualModeManager.DualModeContentManager;
+import meuparser.ia.DualModeManager.PagedDocument;
+import meuparser.ia.DualModeManager.TabSessionManager;
+import meuparser.scheduler.TaskScheduler;
 import meuparser.tts.TTSManager;
 import serialcomm.LeituraEscrita;
 
@@ -26,6 +32,11 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 /**
@@ -47,6 +58,12 @@ public class BlindBrowser extends JFrame implements Runnable {
 
     // NOVO: Gerenciador de Dual Mode
     private final DualModeContentManager dualModeManager = new DualModeContentManager();
+    // Sessão de documento de cada aba (modo, posição de leitura, estado descarregável)
+    private final TabSessionManager tabSessions = new TabSessionManager();
+    private Component abaAtiva;
+    // Troca de modo/nível esperando o resumo ficar pronto (aplicada na EDT)
+    private CompletableFuture<DualModeContentManager.ContentSwitchResult> trocaPendente =
+            CompletableFuture.completedFuture(null);
     private JLabel modeIndicatorLabel; // Indicador visual do modo
     private JLabel statusLabel;
 
@@ -74,6 +91,10 @@ public class BlindBrowser extends JFrame implements Runnable {
 
         jButtonSerialMouseClicked(new MouseEvent(rootPane, WIDTH, WIDTH, WIDTH, WIDTH, WIDTH, WIDTH, rootPaneCheckingEnabled));
 
+        // Troca de aba troca a sessão do DualModeManager, sem recarregar a página
+        abaAtiva = jTabbedPane1.getSelectedComponent();
+        jTabbedPane1.addChangeListener(e -> onTabChanged());
+
         Tratador trat = new Tratador();
         addKeyListener(trat);
         //cada textfield precisa desse keyListener, pois eles "roubam"
@@ -87,6 +108,8 @@ public class BlindBrowser extends JFrame implements Runnable {
             @Override
             public void windowClosing(java.awt.event.WindowEvent e) {
                 stopSerialListener();
+                // Apaga os textos de abas descarregados em disco
+                tabSessions.removeAll();
                 // Fechar porta serial se estiver aberta
                 if (portaSerial != null && portaSerial.isOpen()) {
                     System.out.println("Fechando porta serial: " + portaSelecionada);
@@ -335,10 +358,8 @@ public class BlindBrowser extends JFrame implements Runnable {
                 return;
             }
 
-            // Feedback visual inicial para o usuário
+            // Feedback visual inicial para o usuário (a interface segue respondendo durante o carregamento)
             textArea.setText("Processando...");
-            textArea.paintImmediately(textArea.getBounds());
-            scrollPane.paintImmediately(scrollPane.getBounds());
 
             // Obter a URL
             String endereco = jTextFieldURL.getText().trim();
@@ -352,52 +373,307 @@ public class BlindBrowser extends JFrame implements Runnable {
 
             final String urlFinal = endereco;
 
-            // MODIFICADO: Usar DualModeContentManager
-            try {
-                // Carregar conteúdo no DualModeManager
-                dualModeManager.loadContent(urlFinal);
+            // MODIFICADO: rede, extração e resumo fora da EDT; navegar de novo (ou Esc) cancela este carregamento
+            dualModeManager.loadContentAsync(urlFinal, etapa -> SwingUtilities.invokeLater(() -> {
+                        textArea.setText("Processando...\n" + etapa);
+                        modeIndicatorLabel.setText("⏳ " + etapa);
+                    }))
+                    .whenComplete((sessao, erro) -> SwingUtilities.invokeLater(() -> {
+                        if (erro != null) {
+                            carregamentoFalhou(urlFinal, erro, textArea, scrollPane);
+                        } else {
+                            carregamentoConcluido(urlFinal, sessao, textArea, scrollPane);
+                        }
+                    }));
 
-                // Obter conteúdo inicial (modo resumido por padrão)
-                String conteudoInicial = dualModeManager.getEssentialContent();
+        } catch (Exception ex) {
+            System.err.println("Erro geral no processamento: " + ex.getMessage());
+            ex.printStackTrace();
+            JOptionPane.showMessageDialog(this,
+                    "Ocorreu um erro durante o processamento: " + ex.getMessage(),
+                    "Erro", JOptionPane.ERROR_MESSAGE);
+        }
+    }
 
-                // Armazenar no cache
-                contentCache.put(urlFinal, conteudoInicial);
+    /**
+     * Página carregada (na EDT): associa à aba de origem e publica o conteúdo completo
+     */
+    private void carregamentoConcluido(String urlFinal, DocumentSession sessao, JTextArea textArea, JScrollPane scrollPane) {
+        liberarAbas(tabSessions.put(scrollPane, sessao));
 
-                // Salvar em arquivo
-                ArmazenaArquivo armz = new ArmazenaArquivo();
-                armz.salvar(conteudoInicial);
-                System.out.println("Página salva em arquivo.");
+        // O usuário pode ter trocado de aba durante o carregamento: só ativa se a aba de origem está em foco
+        if (jTabbedPane1.getSelectedComponent() == scrollPane) {
+            dualModeManager.setSession(sessao);
+        }
+        exibirPaginado(textArea, sessao, "Modo: COMPLETO (F2 para o resumo)\n" +
+                "─".repeat(50) + "\n\n", sessao.getCompleteContent(), 0);
+        updateModeIndicator();
+        if (!sessao.getLinks().isEmpty()) {
+            statusLabel.setText("🔗 " + sessao.getLinks().size() + " links (Ctrl+K)");
+        }
+        System.out.println("DEBUG: " + dualModeManager.getPrefetchStats());
 
-                // Atualizar interface
-                final String mensagemFinal = "Modo: RESUMIDO (F2 para alternar)\n" +
-                        "─".repeat(50) + "\n\n" +
-                        conteudoInicial;
+        // Quando o resumo ficar pronto: cache e arquivo na thread do resumo, estatísticas na EDT
+        // (resumo de página substituída ou aba fechada é cancelado e não chega aqui)
+        sessao.getEssentialFuture().thenAccept(resumo -> {
+            if (resumo == null) return;
 
-                SwingUtilities.invokeLater(() -> {
-                    textArea.setText(mensagemFinal);
-                    textArea.setCaretPosition(0);
-                    updateModeIndicator();
+            contentCache.put(urlFinal, resumo);
 
-                    // Mostrar estatísticas
-                    DualModeContentManager.ContentStats stats = dualModeManager.getContentStats();
-                    System.out.println(stats.toString());
-                });
+            ArmazenaArquivo armz = new ArmazenaArquivo();
+            armz.salvar(resumo);
+            System.out.println("Página salva em arquivo.");
 
-            } catch (Exception e) {
-                System.err.println("Erro ao processar com DualMode: " + e.getMessage());
-                e.printStackTrace();
+            SwingUtilities.invokeLater(() -> {
+                if (dualModeManager.getSession() != sessao) return;
+                updateModeIndicator();
+                DualModeContentManager.ContentStats stats = dualModeManager.getContentStats();
+                System.out.println(stats.toString());
+            });
+        });
+    }
 
-                // Fallback para método antigo
-                processarMetodoAntigo(urlFinal, textArea, scrollPane);
+    /**
+     * Falha no carregamento (na EDT); cancelamento por nova navegação não é erro
+     */
+    private void carregamentoFalhou(String urlFinal, Throwable erro, JTextArea textArea, JScrollPane scrollPane) {
+        Throwable causa = erro instanceof CompletionException && erro.getCause() != null
+                ? erro.getCause() : erro;
+        if (causa instanceof CancellationException) {
+            System.out.println("DEBUG: Carregamento cancelado: " + urlFinal);
+            if (textArea.getText().startsWith("Processando...")) {
+                textArea.setText("Carregamento cancelado: " + urlFinal);
             }
+            updateModeIndicator();
+            return;
+        }
 
-        } catch (Exception ex) {
-            System.err.println("Erro geral no processamento: " + ex.getMessage());
-            ex.printStackTrace();
-            JOptionPane.showMessageDialog(this,
-                    "Ocorreu um erro durante o processamento: " + ex.getMessage(),
-                    "Erro", JOptionPane.ERROR_MESSAGE);
+        System.err.println("Erro ao processar com DualMode: " + causa.getMessage());
+        causa.printStackTrace();
+        textArea.setText("Erro ao carregar " + urlFinal + ": " + causa.getMessage());
+        updateModeIndicator();
+
+        // Fallback para método antigo
+        processarMetodoAntigo(urlFinal, textArea, scrollPane);
+    }
+
+    /**
+     * Aba selecionada: guarda a posição de leitura da anterior e ativa a sessão da nova
+     */
+    private void onTabChanged() {
+        Component selecionada = jTabbedPane1.getSelectedComponent();
+        if (selecionada == null || selecionada == abaAtiva) return;
+
+        if (abaAtiva != null) {
+            salvarPosicaoDeLeitura(textAreaDe(abaAtiva), tabSessions.activate(abaAtiva));
+        }
+        abaAtiva = selecionada;
+
+        DocumentSession sessao = tabSessions.activate(selecionada);
+        ativarSessao(selecionada, sessao, () -> {
+            JTextArea textArea = textAreaDe(selecionada);
+            if (textArea != null) renderSession(textArea, sessao);
+        });
+        jTextFieldURL.setText(sessao.isLoaded() ? sessao.getUrl() : "http://");
+        updateModeIndicator();
+        liberarAbas(tabSessions.enforceBudget(selecionada));
+        System.out.println("DEBUG: " + tabSessions.getStats());
+    }
+
+    /**
+     * Ativa a sessão da aba; se o estado estava em disco, a reconstrução roda fora da EDT
+     * e a aba é redesenhada quando terminar (se ainda for a aba em foco)
+     *
+     * @return true se a sessão estava em memória (pode ser exibida já)
+     */
+    private boolean ativarSessao(Component aba, DocumentSession sessao, Runnable redesenhar) {
+        CompletableFuture<Boolean> reconstrucao = dualModeManager.setSession(sessao);
+        if (reconstrucao.isDone()) {
+            return true; // estava em memória: nada a reconstruir
         }
+
+        statusLabel.setText("⏳ Carregando aba do disco…");
+        reconstrucao.whenComplete((reconstruida, erro) -> SwingUtilities.invokeLater(() -> {
+            if (dualModeManager.getSession() != sessao || jTabbedPane1.getSelectedComponent() != aba) return;
+            if (erro != null || !Boolean.TRUE.equals(reconstruida)) {
+                statusLabel.setText("❌ Falha ao reconstruir a aba: " + sessao.getUrl());
+                return;
+            }
+            // Estado veio do disco: redesenha a aba, que foi esvaziada ao ser descarregada
+            redesenhar.run();
+            statusLabel.setText(" ");
+            updateModeIndicator();
+            liberarAbas(tabSessions.enforceBudget(aba));
+        }));
+        return false;
+    }
+
+    /**
+     * Mostra a visão atual da sessão e volta à posição de leitura
+     */
+    private void renderSession(JTextArea textArea, DocumentSession sessao) {
+        if (!sessao.isLoaded()) return;
+        String cabecalho = "Modo: " + sessao.getCurrentLevel().getName().toUpperCase() + " (F2 para alternar)\n" +
+                "─".repeat(50) + "\n\n";
+        exibirPaginado(textArea, sessao, cabecalho, dualModeManager.getCurrentContent(), sessao.getReadingPosition());
+    }
+
+    /**
+     * Exibe apenas a página que contém a posição (offset do conteúdo inteiro): o JTextArea nunca
+     * recebe o texto todo, então o layout custa o mesmo em páginas web de qualquer tamanho
+     */
+    private void exibirPaginado(JTextArea textArea, DocumentSession sessao, String cabecalho, String conteudo, int posicao) {
+        PagedDocument view = new PagedDocument(cabecalho, conteudo);
+        view.setCurrentPage(view.pageOf(posicao));
+        sessao.setView(view);
+        sessao.setReadingPosition(posicao);
+        textArea.setText(view.renderCurrentPage());
+        textArea.setCaretPosition(view.toCaret(posicao));
+        if (view.isPaged()) {
+            System.out.println("DEBUG: " + view);
+        }
+    }
+
+    /**
+     * Próxima (+1) ou anterior (-1) página da aba atual; o cursor vai para o início da página
+     */
+    private void mudarPagina(int delta) {
+        JTextArea textArea = textAreaDe(jTabbedPane1.getSelectedComponent());
+        DocumentSession sessao = dualModeManager.getSession();
+        PagedDocument view = sessao.getView();
+        if (textArea == null || view == null || !view.setCurrentPage(view.getCurrentPage() + delta)) {
+            Toolkit.getDefaultToolkit().beep(); // primeira/última página ou nada paginado
+            return;
+        }
+
+        int posicao = view.getPageStart(view.getCurrentPage());
+        sessao.setReadingPosition(posicao);
+        textArea.setText(view.renderCurrentPage());
+        textArea.setCaretPosition(view.toCaret(posicao));
+        statusLabel.setText(String.format("📄 Página %d/%d", view.getCurrentPage() + 1, view.getPageCount()));
+    }
+
+    /**
+     * Volta (-1) ou avança (+1) no histórico da aba atual: a sessão guardada (resumos, nível e
+     * posição de leitura) é reativada da memória ou do disco; o site é revalidado em segundo plano
+     */
+    private void navegarHistorico(int delta) {
+        Component aba = jTabbedPane1.getSelectedComponent();
+        JTextArea textArea = textAreaDe(aba);
+        if (textArea == null) return;
+
+        long inicio = System.nanoTime();
+        Optional<DocumentSession> destino = tabSessions.navigate(aba, delta);
+        if (destino.isEmpty()) {
+            Toolkit.getDefaultToolkit().beep();
+            statusLabel.setText(delta < 0 ? "⚠️ Início do histórico" : "⚠️ Fim do histórico");
+            return;
+        }
+
+        // Carregamento em andamento deixa de interessar: o usuário escolheu outra página
+        dualModeManager.cancelLoad();
+        salvarPosicaoDeLeitura(textArea, dualModeManager.getSession());
+
+        DocumentSession sessao = destino.get();
+        if (ativarSessao(aba, sessao, () -> renderSession(textArea, sessao))) {
+            renderSession(textArea, sessao);
+        }
+        jTextFieldURL.setText(sessao.getUrl());
+        updateModeIndicator();
+        statusLabel.setText(String.format("%s Histórico %s (%.0f ms)", delta < 0 ? "⬅️" : "➡️",
+                tabSessions.getHistoryPosition(aba), (System.nanoTime() - inicio) / 1e6));
+        liberarAbas(tabSessions.enforceBudget(aba));
+        System.out.println("DEBUG: " + tabSessions.getStats());
+
+        dualModeManager.revalidate(sessao).thenAccept(mudou -> {
+            if (!mudou) return;
+            SwingUtilities.invokeLater(() -> {
+                if (dualModeManager.getSession() != sessao) return;
+                statusLabel.setText("⚠️ A página mudou no site desde a visita (Enter na barra de URL recarrega)");
+                Toolkit.getDefaultToolkit().beep();
+            });
+        });
+    }
+
+    /**
+     * Converte o cursor da aba em posição de leitura da sessão (offset do conteúdo inteiro)
+     */
+    private void salvarPosicaoDeLeitura(JTextArea textArea, DocumentSession sessao) {
+        PagedDocument view = sessao.getView();
+        if (textArea != null && view != null) {
+            sessao.setReadingPosition(view.toContentOffset(textArea.getCaretPosition()));
+        }
+    }
+
+    /**
+     * Texto da posição de leitura até o fim da página exibida (narração e envio serial);
+     * sem visão paginada (texto legado), o conteúdo inteiro da aba
+     */
+    private String trechoDeLeitura() {
+        JTextArea textArea = textAreaDe(jTabbedPane1.getSelectedComponent());
+        if (textArea == null) textArea = jTextAreaConteudo;
+
+        DocumentSession sessao = dualModeManager.getSession();
+        PagedDocument view = sessao.getView();
+        if (view == null) return textArea.getText();
+
+        salvarPosicaoDeLeitura(textArea, sessao);
+        return view.textFrom(sessao.getReadingPosition());
+    }
+
+    /**
+     * Leitura contínua (narração e envio serial): exibe a página seguinte à da posição de leitura
+     * e põe a posição no início dela
+     *
+     * @return false se a posição já está na última página (ou não há visão paginada)
+     */
+    private boolean avancarPaginaDeLeitura() {
+        JTextArea textArea = textAreaDe(jTabbedPane1.getSelectedComponent());
+        DocumentSession sessao = dualModeManager.getSession();
+        PagedDocument view = sessao.getView();
+        if (textArea == null || view == null) return false;
+
+        int proxima = view.pageOf(sessao.getReadingPosition()) + 1;
+        if (proxima >= view.getPageCount()) return false;
+
+        view.setCurrentPage(proxima);
+        int posicao = view.getPageStart(proxima);
+        sessao.setReadingPosition(posicao);
+        textArea.setText(view.renderCurrentPage());
+        textArea.setCaretPosition(view.toCaret(posicao));
+        statusLabel.setText(String.format("📄 Página %d/%d", proxima + 1, view.getPageCount()));
+        return true;
+    }
+
+    /**
+     * Da posição de leitura até o fim do conteúdo, avançando as páginas exibidas (envio serial)
+     */
+    private String trechoAteOFim() {
+        StringBuilder trecho = new StringBuilder(trechoDeLeitura());
+        while (avancarPaginaDeLeitura()) {
+            trecho.append(trechoDeLeitura());
+        }
+        return trecho.toString();
+    }
+
+    /**
+     * Libera o texto exibido nas abas descarregadas em disco (redesenhadas ao receber foco)
+     */
+    private void liberarAbas(java.util.List<Object> abas) {
+        for (Object aba : abas) {
+            JTextArea textArea = textAreaDe((Component) aba);
+            if (textArea != null) {
+                textArea.setText(""); // posição de leitura já foi guardada ao sair da aba
+            }
+        }
+    }
+
+    private static JTextArea textAreaDe(Component aba) {
+        if (aba instanceof JScrollPane) {
+            Component view = ((JScrollPane) aba).getViewport().getView();
+            if (view instanceof JTextArea) return (JTextArea) view;
+        }
+        return null;
     }
 
     /**
@@ -412,19 +688,18 @@ public class BlindBrowser extends JFrame implements Runnable {
             return;
         }
 
-        try {
-            DualModeContentManager.ContentSwitchResult result = dualModeManager.toggleMode();
+        // Se o resumo ainda está sendo gerado, a troca acontece quando ele ficar pronto
+        trocarVisao(dualModeManager.toggleMode(SwingUtilities::invokeLater), this::modoAlternado);
+    }
 
+    private void modoAlternado(DualModeContentManager.ContentSwitchResult result) {
+        try {
             // Atualizar TextArea
             JScrollPane scrollPane = (JScrollPane) jTabbedPane1.getSelectedComponent();
             JTextArea textArea = (JTextArea) scrollPane.getViewport().getView();
 
-            String mensagem = result.mode.name() + " (F2 para alternar)\n" +
-                    "─".repeat(50) + "\n\n" +
-                    result.content;
-
-            textArea.setText(mensagem);
-            textArea.setCaretPosition(0);
+            exibirPaginado(textArea, dualModeManager.getSession(), result.mode.name() + " (F2 para alternar)\n" +
+                    "─".repeat(50) + "\n\n", result.content, 0);
 
             // Atualizar indicador
             updateModeIndicator();
@@ -436,7 +711,8 @@ public class BlindBrowser extends JFrame implements Runnable {
             JOptionPane.showMessageDialog(this,
                     result.message + "\n" +
                             "Caracteres: " + result.characterCount + "\n" +
-                            "Tempo leitura Braille: ~" + result.readingTime + " min",
+                            "Tempo leitura Braille: ~" + result.readingTime + " min" +
+                            (result.waitedMillis > 0 ? "\nEspera pelo resumo: " + result.waitedMillis + " ms" : ""),
                     "Modo Alterado",
                     JOptionPane.INFORMATION_MESSAGE);
 
@@ -446,6 +722,59 @@ public class BlindBrowser extends JFrame implements Runnable {
         }
     }
 
+    /**
+     * Sobe ou desce um nível na pirâmide (manchete / curto / resumido / completo)
+     */
+    private void changeDetailLevel(boolean maisDetalhe) {
+        if (dualModeManager.getCompleteContent() == null) {
+            JOptionPane.showMessageDialog(this,
+                    "Carregue uma página primeiro",
+                    "Aviso",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        trocarVisao(maisDetalhe
+                ? dualModeManager.moreDetail(SwingUtilities::invokeLater)
+                : dualModeManager.lessDetail(SwingUtilities::invokeLater), this::nivelAlterado);
+    }
+
+    private void nivelAlterado(DualModeContentManager.ContentSwitchResult result) {
+        try {
+            JScrollPane scrollPane = (JScrollPane) jTabbedPane1.getSelectedComponent();
+            JTextArea textArea = (JTextArea) scrollPane.getViewport().getView();
+
+            exibirPaginado(textArea, dualModeManager.getSession(), result.message + " (Ctrl+↑/↓ para mudar)\n" +
+                    "─".repeat(50) + "\n\n", result.content, 0);
+
+            updateModeIndicator();
+            Toolkit.getDefaultToolkit().beep();
+            System.out.println("📊 " + result.message + " - " + result.characterCount + " caracteres");
+
+        } catch (Exception e) {
+            System.err.println("Erro ao mudar nível de detalhe: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Troca de visão sem bloquear a EDT: enquanto o resumo é gerado o indicador avisa, e a
+     * visão só é redesenhada se a aba da troca ainda estiver ativa. Uma troca nova substitui
+     * a que ainda esperava o resumo.
+     */
+    private void trocarVisao(CompletableFuture<DualModeContentManager.ContentSwitchResult> troca,
+                             Consumer<DualModeContentManager.ContentSwitchResult> aoTrocar) {
+        trocaPendente.cancel(false);
+        trocaPendente = troca;
+        if (!troca.isDone()) {
+            modeIndicatorLabel.setText("Aguarde… gerando resumo");
+        }
+        troca.thenAccept(result -> {
+            if (dualModeManager.getSession() != result.session) return;
+            aoTrocar.accept(result);
+        });
+    }
+
     /**
      * NOVO: Buscar no conteúdo completo
      */
@@ -457,8 +786,22 @@ public class BlindBrowser extends JFrame implements Runnable {
             return;
         }
 
-        DualModeContentManager.SearchResult result = dualModeManager.searchInComplete(keyword);
+        // O índice pode ainda estar sendo montado: o resultado chega pelo EDT quando ficar pronto
+        DocumentSession sessao = dualModeManager.getSession();
+        CompletableFuture<DualModeContentManager.SearchResult> busca =
+                dualModeManager.searchInComplete(keyword, SwingUtilities::invokeLater);
+        boolean aguardando = !busca.isDone();
+        if (aguardando) {
+            statusLabel.setText("⏳ Aguarde… montando o índice de busca");
+        }
+        busca.thenAccept(result -> {
+            if (dualModeManager.getSession() != sessao) return; // usuário já mudou de página
+            if (aguardando) statusLabel.setText(" ");
+            mostrarResultadoBusca(result);
+        });
+    }
 
+    private void mostrarResultadoBusca(DualModeContentManager.SearchResult result) {
         if (!result.found) {
             JOptionPane.showMessageDialog(this, result.message, "Busca",
                     JOptionPane.INFORMATION_MESSAGE);
@@ -487,13 +830,60 @@ public class BlindBrowser extends JFrame implements Runnable {
                 "Resultados da Busca", JOptionPane.INFORMATION_MESSAGE);
     }
 
+    /**
+     * Tabela numerada dos links da página; o número digitado abre o link
+     */
+    private void showLinks() {
+        LinkTable links = dualModeManager.getLinks();
+        if (links.isEmpty()) {
+            JOptionPane.showMessageDialog(this, "Esta página não tem links no conteúdo principal",
+                    "Links", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        JTextArea linkArea = new JTextArea(links.format());
+        linkArea.setEditable(false);
+        linkArea.setFont(new Font("Monospaced", Font.PLAIN, 14));
+        linkArea.setCaretPosition(0);
+
+        JScrollPane scrollPane = new JScrollPane(linkArea);
+        scrollPane.setPreferredSize(new Dimension(700, 400));
+
+        String numero = JOptionPane.showInputDialog(this,
+                new Object[]{scrollPane, "Número do link (1-" + links.size() + "):"},
+                "Links da Página", JOptionPane.QUESTION_MESSAGE);
+        if (numero == null || numero.trim().isEmpty()) return;
+
+        try {
+            followLink(Integer.parseInt(numero.trim()));
+        } catch (NumberFormatException e) {
+            JOptionPane.showMessageDialog(this, "Número inválido: " + numero, "Links", JOptionPane.WARNING_MESSAGE);
+        }
+    }
+
+    /**
+     * Abre o link pelo número (servido pelo prefetch quando já pré-carregado)
+     */
+    private void followLink(int numero) {
+        Optional<LinkTable.Link> link = dualModeManager.getLink(numero);
+        if (link.isEmpty()) {
+            Toolkit.getDefaultToolkit().beep();
+            statusLabel.setText("⚠️ Link " + numero + " não existe nesta página");
+            return;
+        }
+
+        System.out.println("🔗 Seguindo link " + link.get() + ": " + link.get().url);
+        jTextFieldURL.setText(link.get().url);
+        jButtonIrMouseClicked(null);
+    }
+
     /**
      * NOVO: Mostrar estatísticas do conteúdo
      */
     private void showContentStats() {
         DualModeContentManager.ContentStats stats = dualModeManager.getContentStats();
         JOptionPane.showMessageDialog(this,
-                stats.toString(),
+                stats + "\n\n" + dualModeManager.getPrefetchStats() + "\n\n" + TaskScheduler.getInstance().getStats(),
                 "Estatísticas do Conteúdo",
                 JOptionPane.INFORMATION_MESSAGE);
     }
@@ -504,11 +894,17 @@ public class BlindBrowser extends JFrame implements Runnable {
     private void updateModeIndicator() {
         DualModeContentManager.ContentMode mode = dualModeManager.getCurrentMode();
 
-        if (mode == DualModeContentManager.ContentMode.ESSENTIAL) {
+        SummaryPyramid.Level level = dualModeManager.getCurrentLevel();
+
+        if (mode == DualModeContentManager.ContentMode.ESSENTIAL && level != SummaryPyramid.Level.ESSENTIAL) {
+            modeIndicatorLabel.setText("F2“„ Modo: " + level.getName().toUpperCase());
+            modeIndicatorLabel.setBackground(new Color(200, 230, 255));
+        } else if (mode == DualModeContentManager.ContentMode.ESSENTIAL) {
             modeIndicatorLabel.setText("F2“„ Modo: RESUMIDO");
             modeIndicatorLabel.setBackground(new Color(200, 255, 200));
         } else {
-            modeIndicatorLabel.setText("F2“– Modo: COMPLETO");
+            modeIndicatorLabel.setText(dualModeManager.isEssentialReady()
+                    ? "F2“– Modo: COMPLETO" : "F2“– Modo: COMPLETO (gerando resumo…)");
             modeIndicatorLabel.setBackground(new Color(255, 255, 200));
         }
     }
@@ -683,6 +1079,13 @@ public class BlindBrowser extends JFrame implements Runnable {
         String finalComando1 = comando;
         SwingUtilities.invokeLater(() -> {
             try {
+                // Comando "l<n>" (ex.: "l12") - seguir o link n
+                if (finalComando.matches("l\\d{1,4}")) {
+                    System.out.println("🔗 Comando '" + finalComando + "' - Seguir link");
+                    followLink(Integer.parseInt(finalComando.substring(1)));
+                    return;
+                }
+
                 switch (finalComando) {
                     case "a": // Comando "a" - enviar conteúdo atual
                         System.out.println("📤 Comando 'a' recebido - Enviando conteúdo");
@@ -703,6 +1106,42 @@ public class BlindBrowser extends JFrame implements Runnable {
                         }
                         break;
 
+                    case "+": // Comando "+" - mais detalhe (pirâmide de resumos)
+                        System.out.println("🔼 Comando '+' - Mais detalhe");
+                        changeDetailLevel(true);
+                        break;
+
+                    case "-": // Comando "-" - menos detalhe
+                        System.out.println("🔽 Comando '-' - Menos detalhe");
+                        changeDetailLevel(false);
+                        break;
+
+                    case ">": // Comando ">" - próxima página
+                        System.out.println("⏭️ Comando '>' - Próxima página");
+                        mudarPagina(1);
+                        break;
+
+                    case "<": // Comando "<" - página anterior
+                        System.out.println("⏮️ Comando '<' - Página anterior");
+                        mudarPagina(-1);
+                        break;
+
+                    case "b": // Comando "b" - voltar no histórico
+                        System.out.println("⬅️ Comando 'b' - Voltar");
+                        navegarHistorico(-1);
+                        break;
+
+                    case "f": // Comando "f" - avançar no histórico
+                        System.out.println("➡️ Comando 'f' - Avançar");
+                        navegarHistorico(1);
+                        break;
+
+                    case "l": // Comando "l" - enviar a tabela de links
+                        System.out.println("🔗 Comando 'l' - Enviando links");
+                        enviarRespostaSerial(dualModeManager.getLinks().isEmpty()
+                                ? "ERRO: Sem links\n" : dualModeManager.getLinks().format());
+                        break;
+
                     case "n": // Comando "n" - narrar
                         System.out.println("🎙️ Comando 'n' - Iniciar narração");
                         narrateCurrentContent();
@@ -741,7 +1180,7 @@ public class BlindBrowser extends JFrame implements Runnable {
         }
 
         try {
-            String conteudo = jTextAreaConteudo.getText();
+            String conteudo = trechoAteOFim();
 
             if (conteudo == null || conteudo.trim().isEmpty()) {
                 enviarRespostaSerial("ERRO: Sem conteúdo\n");
@@ -823,8 +1262,8 @@ public class BlindBrowser extends JFrame implements Runnable {
         }
 
         try {
-            // Pegar conteúdo atual (resumido ou completo)
-            String conteudo = jTextAreaConteudo.getText();
+            // Pegar conteúdo atual (resumido ou completo), da posição de leitura até o fim
+            String conteudo = trechoAteOFim();
 
             if (conteudo == null || conteudo.trim().isEmpty()) {
                 JOptionPane.showMessageDialog(this,
@@ -916,6 +1355,11 @@ public class BlindBrowser extends JFrame implements Runnable {
                 printComparisonReport();
             }
 
+            // Esc - cancela o carregamento em andamento
+            if (e.getKeyCode() == KeyEvent.VK_ESCAPE && dualModeManager.cancelLoad()) {
+                Toolkit.getDefaultToolkit().beep();
+            }
+
             // NOVO: F1 - Ajuda
             if (e.getKeyCode() == KeyEvent.VK_F1) {
                 showHelp();
@@ -926,11 +1370,46 @@ public class BlindBrowser extends JFrame implements Runnable {
                 toggleContentMode();
             }
 
+            // Alt+← / Alt+→ - Voltar / avançar no histórico da aba
+            if (e.getKeyCode() == KeyEvent.VK_LEFT && e.isAltDown()) {
+                navegarHistorico(-1);
+            }
+            if (e.getKeyCode() == KeyEvent.VK_RIGHT && e.isAltDown()) {
+                navegarHistorico(1);
+            }
+
+            // Ctrl+PageDown / Ctrl+PageUp - Próxima / anterior página do conteúdo
+            // (consumidos: o JTabbedPane usa os mesmos atalhos para trocar de aba)
+            if (e.getKeyCode() == KeyEvent.VK_PAGE_DOWN && e.isControlDown()) {
+                e.consume();
+                mudarPagina(1);
+            }
+            if (e.getKeyCode() == KeyEvent.VK_PAGE_UP && e.isControlDown()) {
+                e.consume();
+                mudarPagina(-1);
+            }
+
+            // Ctrl+↑ / Ctrl+↓ - Menos / mais detalhe (manchete, curto, resumido, completo)
+            // (consumidos: o JTabbedPane usa Ctrl+↑ para focar as abas)
+            if (e.getKeyCode() == KeyEvent.VK_UP && e.isControlDown()) {
+                e.consume();
+                changeDetailLevel(false);
+            }
+            if (e.getKeyCode() == KeyEvent.VK_DOWN && e.isControlDown()) {
+                e.consume();
+                changeDetailLevel(true);
+            }
+
             // NOVO: F3 - Estatísticas
             if (e.getKeyCode() == KeyEvent.VK_F3) {
                 showContentStats();
             }
 
+            // Ctrl+K - Links numerados da página (Ctrl+L é o menu rápido de vozes)
+            if (e.getKeyCode() == KeyEvent.VK_K && e.isControlDown()) {
+                showLinks();
+            }
+
             // NOVO: Ctrl+F - Buscar
             if (e.getKeyCode() == KeyEvent.VK_F && e.isControlDown()) {
                 searchInContent();
@@ -1173,10 +1652,8 @@ public class BlindBrowser extends JFrame implements Runnable {
                     return;
                 }
 
-                // Obter texto atual
-                JScrollPane scrollPane = (JScrollPane) jTabbedPane1.getSelectedComponent();
-                JTextArea textArea = (JTextArea) scrollPane.getViewport().getView();
-                String text = textArea.getText();
+                // Obter texto atual: da posição de leitura até o fim da página exibida
+                String text = trechoDeLeitura();
 
                 if (text == null || text.trim().isEmpty()) {
                     JOptionPane.showMessageDialog(this,
@@ -1186,24 +1663,24 @@ public class BlindBrowser extends JFrame implements Runnable {
                     return;
                 }
 
+                narrarTrecho(text);
+            }
+
+            /**
+             * Narra o trecho e, ao terminar sem ser parada, segue para a próxima página
+             */
+            private void narrarTrecho(String text) {
                 // Indicador visual
                 statusLabel.setText("🎙️ Narrando... (F5: pausar, F6: parar)");
 
-                // Narrar em thread separada
-                SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
-                    @Override
-                    protected Void doInBackground() throws Exception {
-                        ttsManager.narrate(text);
-                        return null;
-                    }
-
-                    @Override
-                    protected void done() {
+                // A narração roda na thread do TTSManager; a continuação volta para a EDT
+                ttsManager.narrate(text, () -> SwingUtilities.invokeLater(() -> {
+                    if (avancarPaginaDeLeitura()) {
+                        narrarTrecho(trechoDeLeitura());
+                    } else {
                         statusLabel.setText("Narração concluída");
                     }
-                };
-
-                worker.execute();
+                }));
             }
 
             /**
@@ -1261,6 +1738,9 @@ BLINDBROWSER v1.5 - AJUDA RÁPIDA
 ATALHOS DE TECLADO:
 - F1        - Esta ajuda
 - F2        - Alternar entre modo resumido/completo
+- Ctrl+↑/↓  - Menos/mais detalhe (manchete, curto, resumido, completo)
+- Ctrl+PgDn/PgUp - Próxima/anterior página de textos longos
+- Alt+←/→   - Voltar/avançar no histórico da aba (sem recarregar)
 - F3        - Estatísticas do conteúdo
 - F4        - NARRAR conteúdo atual
 - F5        - Pausar/Continuar narração
@@ -1271,14 +1751,18 @@ ATALHOS DE TECLADO:
 - +         - Aumentar velocidade da narração
 - -         - Diminuir velocidade da narração
 - Ctrl+F    - Buscar no conteúdo completo
+- Ctrl+K    - Links numerados da página (digite o número para abrir)
+- Ctrl+L    - Menu rápido de vozes
 - Ctrl+S    - Salvar conteúdo atual
 - Ctrl+R    - Relatório de comparação de cache
 - Alt+N     - Foco na barra de URL
 - Ctrl+T    - Nova aba
+- Esc       - Cancelar o carregamento da página
 
 MODOS DE LEITURA:
 [R] RESUMIDO - Essência do conteúdo (~10 min leitura Braille)
 [C] COMPLETO - Conteúdo integral
+[-/+] pelo dispositivo: manchete → curto → resumido → completo
 
 NARRAÇãO BRASILEIRA:
 [F4] para narrar com voz brasileira
@@ -1336,7 +1820,8 @@ DICAS:
                 boolean oldEditable = textArea.isEditable();
                 textArea.setEditable(true);
 
-                // Definir texto e posicionar cursor no início
+                // Definir texto e posicionar cursor no início (texto avulso, fora da visão paginada)
+                dualModeManager.getSession().setView(null);
                 textArea.setText(t);
                 textArea.setCaretPosition(0);
 
@@ -1,12 +1,19 @@
 package meuparser;
 
-import org.jsoup.Jsoup;
+import meuparser.fetch.PageFetcher;
+import meuparser.ia.AIParserIntegratorFactory;
+import meuparser.ia.DocumentAnalysis;
+import meuparser.ia.LinkTable;
+import meuparser.ia.SectionIndex;
+import meuparser.ia.rules.SiteRuleEngine;
+import meuparser.ia.rules.SiteRuleProfile;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -19,9 +26,25 @@ public class JsoupParser extends MeuParser {
     private boolean erro;
     private String currentUrl;
     private int elementosIgnorados;
+    private SiteRuleProfile siteProfile; // Perfil declarativo do site atual (pode ser nulo)
+    private SectionIndex.Builder sectionBuilder;
+    private SectionIndex sectionIndex;
+    private DocumentAnalysis analysis;
+    private LinkTable linkTable = LinkTable.EMPTY;
+    private Map<String, String> metadados = Map.of(); // Metadados do DOM declarados pelo integrador do site
+    private final PageFetcher fetcher;
+    private PageFetcher.FetchResult lastFetch;
 
     public JsoupParser() {
+        this(new PageFetcher());
+    }
+
+    /**
+     * @param fetcher Fetcher usado para baixar as páginas (permite apontar para fontes leves ou locais)
+     */
+    public JsoupParser(PageFetcher fetcher) {
         super();
+        this.fetcher = fetcher;
         this.textofinal = new StringBuilder();
         this.erro = false;
         this.elementosIgnorados = 0;
@@ -37,13 +60,17 @@ public class JsoupParser extends MeuParser {
         this.textofinal = new StringBuilder();
         this.erro = false;
         this.elementosIgnorados = 0;
+        this.siteProfile = SiteRuleEngine.getInstance().findByUrl(url).orElse(null);
+        this.sectionBuilder = new SectionIndex.Builder();
+        this.sectionIndex = null;
+        this.analysis = null;
+        this.linkTable = LinkTable.EMPTY;
+        this.metadados = Map.of();
 
         try {
-            // Conectar à URL e obter o documento
-            document = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36")
-                    .timeout(10000)
-                    .get();
+            // Conectar à URL e obter o documento (fonte leve quando o site declara uma)
+            lastFetch = fetcher.fetch(url);
+            document = lastFetch.document;
 
             // Adicionar marcador de início de conteúdo principal
             textofinal.append("[INÍCIO DO CONTEÚDO PRINCIPAL]\n");
@@ -65,6 +92,12 @@ public class JsoupParser extends MeuParser {
             // Adicionar marcador de fim de conteúdo principal
             textofinal.append("\n[FIM DO CONTEÚDO PRINCIPAL]");
 
+            // Índice de seções montado durante a extração (offsets já conhecidos)
+            sectionIndex = sectionBuilder.build(textofinal.toString());
+
+            // Integrador do site sobre o Document já parseado (só metadados por seletor, sem reparsear)
+            lerMetadados();
+
         } catch (IOException e) {
             this.erro = true;
             this.textofinal.append("Erro ao conectar ao site: ").append(e.getMessage());
@@ -72,15 +105,30 @@ public class JsoupParser extends MeuParser {
         }
     }
 
+    /**
+     * Lê os metadados do DOM pelo integrador do site. O texto extraído e o índice de seções
+     * não são substituídos: o texto formatado/resumido dos integradores (SmartFormatter,
+     * cabeçalhos do G1) não pode virar o conteúdo completo nem rodar resumo dentro da extração
+     */
+    private void lerMetadados() {
+        AIParserIntegratorFactory.findSiteIntegrator(currentUrl).ifPresent(integrator -> {
+            metadados = integrator.extractMetadata(document);
+            if (!metadados.isEmpty()) {
+                System.out.println("DEBUG: JsoupParser - Metadados de " + integrator.getClass().getSimpleName()
+                        + ": " + metadados.keySet());
+            }
+        });
+    }
+
     /**
      * Encontra os elementos que provavelmente contêm o conteúdo principal
      */
     private Elements findMainContent() {
-        // Verificar se é Wikipedia - seletor específico
-        if (currentUrl.contains("wikipedia.org")) {
-            Elements wikipediaContent = document.select("#mw-content-text, .mw-parser-output");
-            if (!wikipediaContent.isEmpty()) {
-                return wikipediaContent;
+        // Seletor principal do perfil do site (ex.: Wikipedia -> #mw-content-text)
+        if (siteProfile != null) {
+            Elements siteContent = SiteRuleEngine.getInstance().selectMain(siteProfile, document);
+            if (!siteContent.isEmpty()) {
+                return siteContent;
             }
         }
 
@@ -109,6 +157,9 @@ public class JsoupParser extends MeuParser {
         // Remover elementos irrelevantes antes do processamento
         removeIrrelevantElements(content);
 
+        // Links do conteúdo já limpo (numerados na ordem do documento)
+        linkTable = LinkTable.extract(content, currentUrl);
+
         // Extrair texto formatado
         for (Element element : content) {
             processElement(element, 0);
@@ -130,6 +181,11 @@ public class JsoupParser extends MeuParser {
         for (String id : getIrrelevantIds()) {
             content.select("#" + id).remove();
         }
+
+        // Regras específicas do site, compiladas no carregamento do perfil
+        if (siteProfile != null) {
+            elementosIgnorados += SiteRuleEngine.getInstance().removeIrrelevant(siteProfile, content);
+        }
     }
 
     /**
@@ -148,6 +204,7 @@ public class JsoupParser extends MeuParser {
         if (tagName.matches("h[1-6]")) {
             String headerLevel = tagName.substring(1);
             int level = Integer.parseInt(headerLevel);
+            int headingStart = textofinal.length() + 1;
 
             if (level == 1) {
                 textofinal.append("\n== TÍTULO PRINCIPAL: ").append(element.text()).append(" ==\n\n");
@@ -156,13 +213,19 @@ public class JsoupParser extends MeuParser {
             } else {
                 textofinal.append("\n== SEÇãO: ").append(element.text()).append(" ==\n\n");
             }
+
+            if (sectionBuilder != null) {
+                sectionBuilder.addHeading(Math.min(level, 3), element.text(), headingStart, textofinal.length());
+            }
             return;
         }
 
         // Processar parágrafos
         if (tagName.equals("p")) {
             String text = element.text().trim();
-            if (!text.isEmpty()) {
+            if (isBoilerplate(text)) {
+                elementosIgnorados++;
+            } else if (!text.isEmpty()) {
                 textofinal.append(text).append("\n\n");
             }
             return;
@@ -171,7 +234,12 @@ public class JsoupParser extends MeuParser {
         // Processar listas
         if (tagName.equals("ul") || tagName.equals("ol")) {
             for (Element li : element.select("li")) {
-                textofinal.append("• ").append(li.text()).append("\n");
+                String text = li.text();
+                if (isBoilerplate(text)) {
+                    elementosIgnorados++;
+                    continue;
+                }
+                textofinal.append("• ").append(text).append("\n");
             }
             textofinal.append("\n");
             return;
@@ -195,7 +263,9 @@ public class JsoupParser extends MeuParser {
         // Para elementos de texto simples, adicionar seu texto
         if (element.childrenSize() == 0) {
             String text = element.text().trim();
-            if (!text.isEmpty()) {
+            if (isBoilerplate(text)) {
+                elementosIgnorados++;
+            } else if (!text.isEmpty()) {
                 textofinal.append(text).append(" ");
             }
             return;
@@ -207,6 +277,13 @@ public class JsoupParser extends MeuParser {
         }
     }
 
+    /**
+     * Trecho com frase de boilerplate do perfil do site (boilerplate.lines)
+     */
+    private boolean isBoilerplate(String text) {
+        return siteProfile != null && SiteRuleEngine.getInstance().isBoilerplate(siteProfile, text);
+    }
+
     /**
      * Verifica se o elemento está oculto via CSS
      */
@@ -285,6 +362,8 @@ public class JsoupParser extends MeuParser {
     @Override
     public void setTexto(String texto) {
         this.textofinal = new StringBuilder(texto);
+        this.sectionIndex = null; // Offsets deixaram de valer
+        this.analysis = null;
     }
 
     @Override
@@ -301,4 +380,56 @@ public class JsoupParser extends MeuParser {
     public String getCurrentUrl() {
         return this.currentUrl;
     }
-}
\ No newline at end of file
+
+    /**
+     * Documento jsoup da última extração. Note que os elementos irrelevantes do conteúdo
+     * principal já foram removidos; o head (meta tags) permanece intacto.
+     * Evita que integradores reparseiem o HTML.
+     */
+    @Override
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Dados do último download (URL efetivamente usada, bytes, tempo)
+     */
+    public PageFetcher.FetchResult getLastFetch() {
+        return lastFetch;
+    }
+
+    /**
+     * Índice de seções montado durante a extração; se o texto foi substituído
+     * via setTexto, recai na varredura do texto atual
+     */
+    @Override
+    public SectionIndex getSectionIndex() {
+        return sectionIndex != null ? sectionIndex : super.getSectionIndex();
+    }
+
+    /**
+     * Metadados do DOM (autor, data, chapéu...) declarados pelo integrador do site na última extração
+     */
+    public Map<String, String> getMetadados() {
+        return metadados;
+    }
+
+    /**
+     * Links numerados do conteúdo principal da última extração
+     */
+    public LinkTable getLinkTable() {
+        return linkTable;
+    }
+
+    /**
+     * Análise da página atual, criada uma vez por extração e compartilhada
+     * por todas as etapas que consultarem o parser
+     */
+    @Override
+    public DocumentAnalysis getAnalysis() {
+        if (analysis == null) {
+            analysis = super.getAnalysis();
+        }
+        return analysis;
+    }
+}
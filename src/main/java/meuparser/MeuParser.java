@@ -4,6 +4,9 @@ import meuparser.ia.AIParserIntegrator;
 import meuparser.ia.AIParserIntegratorFactory;
 import meuparser.ia.WikipediaParserIntegrator;
 import meuparser.ia.JsoupAIIntegrator;
+import meuparser.ia.DocumentAnalysis;
+import meuparser.ia.SectionIndex;
+import org.jsoup.nodes.Document;
 
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -112,7 +115,7 @@ public class MeuParser extends HTMLEditorKit.ParserCallback {
             System.out.println("DEBUG: MeuParser.ExtraiTexto - Usando integrador: " + integrator.getClass().getSimpleName());
 
             // Processar o conteúdo com o integrador específico
-            Optional<String> processedContent = integrator.processContent(this);
+            Optional<String> processedContent = integrator.processDocument(getDocument(), this);
 
             if (processedContent.isPresent()) {
                 // Substituir o conteúdo original pelo processado
@@ -332,6 +335,30 @@ public class MeuParser extends HTMLEditorKit.ParserCallback {
         return this.currentUrl;
     }
 
+    /**
+     * Documento jsoup da última extração, para integradores que trabalham sobre o DOM
+     * @return Documento parseado ou null quando o parser não mantém DOM (caso deste parser HTMLEditorKit)
+     */
+    public Document getDocument() {
+        return null;
+    }
+
+    /**
+     * Índice de seções do texto extraído
+     * @return Índice construído por varredura do texto atual
+     */
+    public SectionIndex getSectionIndex() {
+        return SectionIndex.parse(getTexto());
+    }
+
+    /**
+     * Análise do texto extraído (categoria, sentenças, frequências, palavras-chave)
+     * @return Nova análise sobre o texto atual
+     */
+    public DocumentAnalysis getAnalysis() {
+        return DocumentAnalysis.of(getTexto());
+    }
+
     /**
      * Utilitário para extrair texto de strings usando expressões regulares
      * @param content Conteúdo a ser analisado
@@ -8,6 +8,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 // Adicione estes imports no topo do ContentCache.java
 import meuparser.cache.ContentComparator.ComparisonResult;
+import meuparser.scheduler.TaskScheduler;
 
 /**
  * Sistema de cache para conteúdo web extraído
@@ -231,8 +232,8 @@ public class ContentCache {
         Optional<String> cachedResult = get(url);
 
         if (cachedResult.isPresent() && enableComparison && freshContentProvider != null) {
-            // Executar comparação em background para não atrasar a resposta
-            new Thread(() -> {
+            // Executar comparação em background para não atrasar a resposta (espera carregamentos em primeiro plano)
+            TaskScheduler.getInstance().run(TaskScheduler.Lane.BACKGROUND, "comparação " + url, () -> {
                 try {
                     System.out.println("Iniciando comparação cache vs site para: " + url);
                     String freshContent = freshContentProvider.get();
@@ -256,7 +257,7 @@ public class ContentCache {
                 } catch (Exception e) {
                     System.err.println("Erro durante comparação: " + e.getMessage());
                 }
-            }, "ContentComparison-" + System.currentTimeMillis()).start();
+            });
         }
 
         return cachedResult;
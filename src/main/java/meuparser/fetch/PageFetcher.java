@@ -0,0 +1,196 @@
+package meuparser.fetch;
+
+import meuparser.ia.AIParserIntegratorFactory;
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Responsável por baixar páginas para o JsoupParser.
+ * Quando o site declara uma fonte leve (REST/mobile-html da Wikipedia, AMP de notícias),
+ * ela é tentada primeiro; em caso de erro ou conteúdo insuficiente, volta para a página completa.
+ * A tentativa leve tem timeout próprio e curto (-Dblindbrowser.fetch.lightweightTimeoutMs, padrão 2500),
+ * para que uma fonte leve travada não dobre a latência do pior caso.
+ */
+public class PageFetcher {
+
+    public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/91.0.4472.124 Safari/537.36";
+    public static final int DEFAULT_TIMEOUT = 10000;
+    public static final int DEFAULT_LIGHTWEIGHT_TIMEOUT =
+            Integer.getInteger("blindbrowser.fetch.lightweightTimeoutMs", 2500);
+
+    // Abaixo disso a versão leve provavelmente veio vazia/truncada
+    private static final int MIN_LIGHTWEIGHT_TEXT = 300;
+
+    private final Function<String, Optional<String>> lightweightResolver;
+    private final int timeoutMillis;
+    private final int lightweightTimeoutMillis;
+    private final int maxBodyBytes; // < 0 = limite padrão do jsoup
+
+    // Estatísticas acumuladas
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong lightweightHits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong lightweightTimeouts = new AtomicLong();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    /**
+     * Resultado de um download
+     */
+    public static class FetchResult {
+        public final Document document;
+        public final String requestedUrl;
+        public final String fetchedUrl;
+        public final boolean lightweight;
+        public final long bytes;
+        public final long elapsedMillis;
+        public final boolean truncated; // corpo cortado no limite de bytes do fetcher
+
+        FetchResult(Document document, String requestedUrl, String fetchedUrl,
+                    boolean lightweight, long bytes, long elapsedMillis, boolean truncated) {
+            this.document = document;
+            this.requestedUrl = requestedUrl;
+            this.fetchedUrl = fetchedUrl;
+            this.lightweight = lightweight;
+            this.bytes = bytes;
+            this.elapsedMillis = elapsedMillis;
+            this.truncated = truncated;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s (%d bytes%s, %dms)",
+                    lightweight ? "[LEVE]" : "[COMPLETA]", fetchedUrl, bytes, truncated ? ", cortado" : "", elapsedMillis);
+        }
+    }
+
+    /**
+     * Fetcher padrão: fontes leves declaradas pelos providers de integrador
+     */
+    public PageFetcher() {
+        this(AIParserIntegratorFactory::resolveLightweightUrl, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param lightweightResolver mapeia URL -> URL leve (empty = sem versão leve)
+     * @param timeoutMillis       timeout de cada requisição (a fonte leve usa o menor entre este e o padrão leve)
+     */
+    public PageFetcher(Function<String, Optional<String>> lightweightResolver, int timeoutMillis) {
+        this(lightweightResolver, timeoutMillis, Math.min(DEFAULT_LIGHTWEIGHT_TIMEOUT, timeoutMillis));
+    }
+
+    /**
+     * @param lightweightResolver      mapeia URL -> URL leve (empty = sem versão leve)
+     * @param timeoutMillis            timeout da página completa
+     * @param lightweightTimeoutMillis timeout da tentativa pela fonte leve
+     */
+    public PageFetcher(Function<String, Optional<String>> lightweightResolver, int timeoutMillis,
+                       int lightweightTimeoutMillis) {
+        this(lightweightResolver, timeoutMillis, lightweightTimeoutMillis, -1);
+    }
+
+    /**
+     * @param lightweightResolver      mapeia URL -> URL leve (empty = sem versão leve)
+     * @param timeoutMillis            timeout da página completa
+     * @param lightweightTimeoutMillis timeout da tentativa pela fonte leve
+     * @param maxBodyBytes             bytes lidos de cada resposta; o resto é descartado e o resultado
+     *                                 sai marcado como cortado (ex.: orçamento do prefetch)
+     */
+    public PageFetcher(Function<String, Optional<String>> lightweightResolver, int timeoutMillis,
+                       int lightweightTimeoutMillis, int maxBodyBytes) {
+        this.maxBodyBytes = maxBodyBytes;
+        this.lightweightResolver = lightweightResolver != null ? lightweightResolver : url -> Optional.empty();
+        this.timeoutMillis = timeoutMillis;
+        this.lightweightTimeoutMillis = lightweightTimeoutMillis;
+    }
+
+    /**
+     * Baixa a página preferindo a fonte leve
+     *
+     * @throws IOException se nem a fonte leve nem a página completa puderem ser obtidas
+     */
+    public FetchResult fetch(String url) throws IOException {
+        requests.incrementAndGet();
+
+        Optional<String> lightUrl = lightweightResolver.apply(url);
+        if (lightUrl.isPresent()) {
+            try {
+                FetchResult light = download(url, lightUrl.get(), true, lightweightTimeoutMillis);
+                if (light.document.body() != null
+                        && light.document.body().text().length() >= MIN_LIGHTWEIGHT_TEXT) {
+                    lightweightHits.incrementAndGet();
+                    System.out.println("DEBUG: PageFetcher - " + light);
+                    return light;
+                }
+                System.out.println("DEBUG: PageFetcher - fonte leve com pouco conteúdo, usando página completa");
+            } catch (SocketTimeoutException e) {
+                lightweightTimeouts.incrementAndGet();
+                System.out.println("DEBUG: PageFetcher - fonte leve sem resposta em " + lightweightTimeoutMillis
+                        + "ms, usando página completa");
+            } catch (IOException e) {
+                System.out.println("DEBUG: PageFetcher - fonte leve falhou (" + e.getMessage() + "), usando página completa");
+            }
+            fallbacks.incrementAndGet();
+        }
+
+        FetchResult full = download(url, url, false, timeoutMillis);
+        System.out.println("DEBUG: PageFetcher - " + full);
+        return full;
+    }
+
+    private FetchResult download(String requestedUrl, String fetchUrl, boolean lightweight, int timeout)
+            throws IOException {
+        long start = System.currentTimeMillis();
+        Connection connection = Jsoup.connect(fetchUrl)
+                .userAgent(USER_AGENT)
+                .timeout(timeout);
+        if (maxBodyBytes >= 0) {
+            connection.maxBodySize(maxBodyBytes);
+        }
+        Connection.Response response = connection.execute();
+
+        byte[] body = response.bodyAsBytes();
+        Document document = response.parse();
+        long elapsed = System.currentTimeMillis() - start;
+
+        totalBytes.addAndGet(body.length);
+        boolean truncated = maxBodyBytes > 0 && body.length >= maxBodyBytes;
+        return new FetchResult(document, requestedUrl, fetchUrl, lightweight, body.length, elapsed, truncated);
+    }
+
+    /**
+     * Estatísticas de uso do fetcher
+     */
+    public FetchStats getStats() {
+        return new FetchStats(requests.get(), lightweightHits.get(), fallbacks.get(),
+                lightweightTimeouts.get(), totalBytes.get());
+    }
+
+    public static class FetchStats {
+        public final long requests;
+        public final long lightweightHits;
+        public final long fallbacks;
+        public final long lightweightTimeouts;
+        public final long totalBytes;
+
+        FetchStats(long requests, long lightweightHits, long fallbacks, long lightweightTimeouts, long totalBytes) {
+            this.requests = requests;
+            this.lightweightHits = lightweightHits;
+            this.fallbacks = fallbacks;
+            this.lightweightTimeouts = lightweightTimeouts;
+            this.totalBytes = totalBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Requisições: %d | Fonte leve: %d | Fallbacks: %d (%d por timeout) | Bytes: %d",
+                    requests, lightweightHits, fallbacks, lightweightTimeouts, totalBytes);
+        }
+    }
+}
@@ -2,6 +2,9 @@
 package meuparser.ia;
 
 import meuparser.MeuParser;
+import org.jsoup.nodes.Document;
+
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -21,6 +24,32 @@ public interface AIParserIntegrator {
      */
     Optional<String> processContent(MeuParser parser);
 
+    /**
+     * Processa o conteúdo a partir do Document jsoup já parseado na extração.
+     * Integradores que sabem ler o DOM sobrescrevem este método para buscar metadados
+     * (autor, data, chapéu...) por seletor em vez de varrer o texto com regex ou reparsear o HTML.
+     * A implementação padrão ignora o DOM e delega para {@link #processContent(MeuParser)}.
+     *
+     * @param document Documento parseado pela extração (pode ser nulo, ex.: MeuParser HTMLEditorKit)
+     * @param parser   O parser que contém o texto extraído
+     * @return O conteúdo processado ou empty se não for possível processar
+     */
+    default Optional<String> processDocument(Document document, MeuParser parser) {
+        return processContent(parser);
+    }
+
+    /**
+     * Metadados do documento lidos por seletor no DOM (autor, data, chapéu...), sem tocar no texto.
+     * É o que o JsoupParser usa: o texto extraído e o índice de seções continuam os da extração,
+     * e o integrador só acrescenta o que o DOM declara. A implementação padrão não lê nada.
+     *
+     * @param document Documento parseado pela extração (pode ser nulo)
+     * @return Campos encontrados (vazio se o site não declara metadados)
+     */
+    default Map<String, String> extractMetadata(Document document) {
+        return Map.of();
+    }
+
     /**
      * Retorna as estatísticas de processamento
      *
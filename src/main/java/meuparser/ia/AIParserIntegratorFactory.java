@@ -1,11 +1,81 @@
 package meuparser.ia;
 
+import meuparser.ia.spi.IntegratorHosts;
+import meuparser.ia.spi.IntegratorProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Factory responsável por criar a implementação apropriada de AIParserIntegrator
- * baseado na URL da página sendo processada
+ * baseado na URL da página sendo processada.
+ *
+ * Os integradores de site são descobertos via ServiceLoader (SPI {@link IntegratorProvider}).
+ * Apenas os metadados ({@link IntegratorHosts}) são lidos na descoberta; o provider e a
+ * classe do integrador só são carregados quando um host compatível aparece.
  */
 public class AIParserIntegratorFactory {
 
+    // Providers já instanciados e integradores SINGLETON, por classe de provider
+    private static final Map<Class<?>, IntegratorProvider> providerInstances = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, AIParserIntegrator> singletons = new ConcurrentHashMap<>();
+
+    /**
+     * Entrada do índice de hosts - guarda o ServiceLoader.Provider ainda não instanciado
+     */
+    private static class ProviderEntry {
+        final ServiceLoader.Provider<IntegratorProvider> provider;
+        final IntegratorHosts hosts;
+
+        ProviderEntry(ServiceLoader.Provider<IntegratorProvider> provider, IntegratorHosts hosts) {
+            this.provider = provider;
+            this.hosts = hosts;
+        }
+
+        boolean matches(String host) {
+            for (String suffix : hosts.value()) {
+                String s = suffix.toLowerCase(Locale.ROOT);
+                if (host.equals(s) || host.endsWith("." + s)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Índice construído uma única vez, no primeiro uso (idiom holder)
+     */
+    private static class Registry {
+        static volatile List<ProviderEntry> entries = discover();
+    }
+
+    private static List<ProviderEntry> discover() {
+        List<ProviderEntry> entries = new ArrayList<>();
+        ServiceLoader<IntegratorProvider> loader = ServiceLoader.load(
+                IntegratorProvider.class, AIParserIntegratorFactory.class.getClassLoader());
+
+        loader.stream().forEach(provider -> {
+            IntegratorHosts hosts = provider.type().getAnnotation(IntegratorHosts.class);
+            if (hosts == null || hosts.value().length == 0) {
+                System.err.println("⚠️ Provider sem @IntegratorHosts ignorado: " + provider.type().getName());
+                return;
+            }
+            entries.add(new ProviderEntry(provider, hosts));
+        });
+
+        entries.sort(Comparator.comparingInt((ProviderEntry e) -> e.hosts.priority()).reversed());
+        System.out.println("DEBUG: " + entries.size() + " providers de integrador registrados via SPI");
+        return entries;
+    }
+
     /**
      * Cria a implementação apropriada de AIParserIntegrator com base na URL
      *
@@ -17,33 +87,112 @@ public class AIParserIntegratorFactory {
             return new GenericParserIntegrator();
         }
 
-        String urlLower = url.toLowerCase();
+        Optional<AIParserIntegrator> siteIntegrator = findSiteIntegrator(url);
+        if (siteIntegrator.isPresent()) {
+            return siteIntegrator.get();
+        }
+
+        // Para qualquer outro site, usar o integrador genérico melhorado
+        System.out.println("DEBUG: Usando integrador genérico para: " + url.toLowerCase());
+        return new GenericParserIntegrator();
+    }
+
+    /**
+     * Integrador específico do site, sem o fallback genérico
+     *
+     * @return Integrador do provider que atende o host, ou empty se nenhum atende
+     */
+    public static Optional<AIParserIntegrator> findSiteIntegrator(String url) {
+        if (url == null || url.isEmpty()) return Optional.empty();
+        String host = extractHost(url);
+        if (host == null) return Optional.empty();
 
-        // Integrador específico para Wikipedia - prioridade mais alta devido aos logs mostrando problemas
-        if (urlLower.contains("wikipedia.org") || urlLower.contains("wikimedia.org")) {
-            System.out.println("DEBUG: Detectada página da Wikipedia, usando integrador especializado");
-            return new WikipediaParserIntegrator(); // Nova implementação melhorada
+        for (ProviderEntry entry : Registry.entries) {
+            if (entry.matches(host)) {
+                try {
+                    AIParserIntegrator integrator = instantiate(entry, url);
+                    System.out.println("DEBUG: Host " + host + " atendido por "
+                            + integrator.getClass().getSimpleName());
+                    return Optional.of(integrator);
+                } catch (Exception | ServiceConfigurationError e) {
+                    System.err.println("ERROR: Falha ao criar integrador via "
+                            + entry.provider.type().getName() + ": " + e.getMessage());
+                }
+            }
         }
+        return Optional.empty();
+    }
 
-        // Sites de notícias brasileiros
-        if (urlLower.contains("g1.globo.com") || urlLower.contains("globo.com")) {
-            return new G1ParserIntegrator("globo");
-        } else if (urlLower.contains("uol.com.br") && !urlLower.contains("brasilescola")) {
-            return new UOLParserIntegrator("uol");
-        } else if (urlLower.contains("folha.uol.com.br")) {
-            return new G1ParserIntegrator("folha");
+    /**
+     * Resolve a fonte leve declarada pelo provider do host (sem instanciar o integrador)
+     *
+     * @return URL leve ou empty se o site não declara uma para esta página
+     */
+    public static Optional<String> resolveLightweightUrl(String url) {
+        if (url == null || url.isEmpty()) return Optional.empty();
+        String host = extractHost(url);
+        if (host == null) return Optional.empty();
+
+        for (ProviderEntry entry : Registry.entries) {
+            if (entry.matches(host)) {
+                try {
+                    IntegratorProvider provider = providerInstances.computeIfAbsent(
+                            entry.provider.type(), t -> entry.provider.get());
+                    return provider.lightweightUrl(url);
+                } catch (Exception | ServiceConfigurationError e) {
+                    System.err.println("ERROR: Falha ao resolver fonte leve via "
+                            + entry.provider.type().getName() + ": " + e.getMessage());
+                    return Optional.empty();
+                }
+            }
         }
+        return Optional.empty();
+    }
+
+    private static AIParserIntegrator instantiate(ProviderEntry entry, String url) {
+        Class<?> type = entry.provider.type();
+        IntegratorProvider provider = providerInstances.computeIfAbsent(type, t -> entry.provider.get());
 
-        // Sites educacionais
-        if (urlLower.contains("brasilescola.uol.com.br") ||
-                urlLower.contains("educacao.uol.com.br") ||
-                urlLower.contains("mundoeducacao") ||
-                urlLower.contains("infoescola")) {
-            return new BrasilEscolaParserIntegrator();
+        if (entry.hosts.lifecycle() == IntegratorHosts.Lifecycle.SINGLETON) {
+            return singletons.computeIfAbsent(type, t -> provider.create(url));
         }
+        return provider.create(url);
+    }
 
-        // Para qualquer outro site, usar o integrador genérico melhorado
-        System.out.println("DEBUG: Usando integrador genérico para: " + urlLower);
-        return new GenericParserIntegrator();
+    /**
+     * Redescobre os providers (ex.: após adicionar um jar ao classpath)
+     * e libera as instâncias SINGLETON existentes
+     */
+    public static synchronized void reload() {
+        singletons.forEach((type, integrator) -> {
+            IntegratorProvider provider = providerInstances.get(type);
+            if (provider != null) {
+                provider.release(integrator);
+            }
+        });
+        singletons.clear();
+        providerInstances.clear();
+        Registry.entries = discover();
+    }
+
+    /**
+     * Extrai o host sem java.net.URI, que rejeita URLs com espaços ou caracteres não escapados
+     */
+    public static String extractHost(String url) {
+        String rest = url.trim();
+        int scheme = rest.indexOf("://");
+        if (scheme != -1) {
+            rest = rest.substring(scheme + 3);
+        }
+        int at = rest.indexOf('@');
+        int end = rest.length();
+        for (char c : new char[]{'/', '?', '#', ':'}) {
+            int idx = rest.indexOf(c, at + 1);
+            if (idx != -1 && idx < end) {
+                end = idx;
+            }
+        }
+        String host = rest.substring(at + 1, end).toLowerCase(Locale.ROOT);
+        return host.isEmpty() ? null : host;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package meuparser.ia;
+
+import meuparser.ia.text.CharFolding;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Autômato Aho-Corasick para contar vários termos em uma única passada linear.
+ * Texto e termos são comparados já sem caixa e sem acento (fold caractere a caractere,
+ * sem alterar posições), e as contagens vão direto para um int[] por grupo - sem boxing.
+ * Instâncias são imutáveis após build() e podem ser compartilhadas entre threads.
+ */
+public final class AhoCorasickMatcher {
+
+    private final int[][] transitions;   // [estado][símbolo] -> estado (DFA completo)
+    private final int[][] outputs;       // [estado] -> índices de termos reconhecidos
+    private final int[] symbolOf;        // char ASCII dobrado -> símbolo (-1 = fora do alfabeto)
+    private final int[] termLength;
+    private final int[] termGroup;
+    private final boolean[] termWholeWord;
+    private final int groupCount;
+
+    private AhoCorasickMatcher(Builder builder) {
+        int termCount = builder.terms.size();
+        this.termLength = new int[termCount];
+        this.termGroup = new int[termCount];
+        this.termWholeWord = new boolean[termCount];
+
+        // Alfabeto: apenas os caracteres que aparecem nos termos
+        this.symbolOf = new int[128];
+        java.util.Arrays.fill(symbolOf, -1);
+        int alphabet = 0;
+        for (String term : builder.terms) {
+            for (char c : term.toCharArray()) {
+                if (c >= 128) {
+                    throw new IllegalArgumentException("Termo com caractere fora do alfabeto dobrado: " + term);
+                }
+                if (symbolOf[c] == -1) {
+                    symbolOf[c] = alphabet++;
+                }
+            }
+        }
+
+        // 1. Trie
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        trie.add(newRow(alphabet));
+        out.add(new ArrayList<>());
+
+        for (int t = 0; t < termCount; t++) {
+            String term = builder.terms.get(t);
+            termLength[t] = term.length();
+            termGroup[t] = builder.groups.get(t);
+            termWholeWord[t] = builder.wholeWord.get(t);
+
+            int state = 0;
+            for (char c : term.toCharArray()) {
+                int symbol = symbolOf[c];
+                if (trie.get(state)[symbol] == -1) {
+                    trie.get(state)[symbol] = trie.size();
+                    trie.add(newRow(alphabet));
+                    out.add(new ArrayList<>());
+                }
+                state = trie.get(state)[symbol];
+            }
+            out.get(state).add(t);
+        }
+
+        // 2. Links de falha em BFS, convertendo a trie em DFA completo
+        int[] fail = new int[trie.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(0);
+        for (int s = 0; s < alphabet; s++) {
+            if (root[s] == -1) {
+                root[s] = 0;
+            } else {
+                fail[root[s]] = 0;
+                queue.add(root[s]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            out.get(state).addAll(out.get(fail[state]));
+            int[] row = trie.get(state);
+            for (int s = 0; s < alphabet; s++) {
+                int next = row[s];
+                if (next == -1) {
+                    row[s] = trie.get(fail[state])[s];
+                } else {
+                    fail[next] = trie.get(fail[state])[s];
+                    queue.add(next);
+                }
+            }
+        }
+
+        this.transitions = trie.toArray(new int[0][]);
+        this.outputs = new int[out.size()][];
+        for (int i = 0; i < out.size(); i++) {
+            this.outputs[i] = out.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.groupCount = builder.groupCount;
+    }
+
+    private static int[] newRow(int alphabet) {
+        int[] row = new int[alphabet];
+        java.util.Arrays.fill(row, -1);
+        return row;
+    }
+
+    /**
+     * Conta ocorrências não sobrepostas por grupo, em uma única passada pelo texto
+     *
+     * @param text   texto original (o fold é feito durante a varredura)
+     * @param counts array de tamanho >= número de grupos; as contagens são somadas nele
+     */
+    public void countGroups(CharSequence text, int[] counts) {
+        if (text == null) return;
+        int[] nextFree = new int[groupCount]; // fim do último match contado por grupo
+        int state = 0;
+        int length = text.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = CharFolding.fold(text.charAt(i));
+            int symbol = c < 128 ? symbolOf[c] : -1;
+            if (symbol == -1) {
+                state = 0;
+                continue;
+            }
+            state = transitions[state][symbol];
+
+            for (int term : outputs[state]) {
+                int end = i + 1;
+                int start = end - termLength[term];
+                int group = termGroup[term];
+                if (start < nextFree[group]) continue;
+                if (termWholeWord[term] && !(isBoundary(text, start - 1) && isBoundary(text, end))) continue;
+                counts[group]++;
+                nextFree[group] = end;
+            }
+        }
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        if (index < 0 || index >= text.length()) return true;
+        char c = text.charAt(index);
+        return !(Character.isLetterOrDigit(c) || c == '_');
+    }
+
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    /**
+     * Construtor dos termos: cada termo pertence a um grupo (ex.: ordinal de categoria)
+     */
+    public static final class Builder {
+        private final List<String> terms = new ArrayList<>();
+        private final List<Integer> groups = new ArrayList<>();
+        private final List<Boolean> wholeWord = new ArrayList<>();
+        private final int groupCount;
+
+        public Builder(int groupCount) {
+            this.groupCount = groupCount;
+        }
+
+        /**
+         * @param term      termo (será dobrado: minúsculo e sem acento)
+         * @param group     grupo no qual a ocorrência é contada
+         * @param wholeWord exige fronteira de palavra nos dois lados (equivalente a \b...\b)
+         */
+        public Builder add(String term, int group, boolean wholeWord) {
+            if (group < 0 || group >= groupCount) {
+                throw new IllegalArgumentException("Grupo inválido: " + group);
+            }
+            terms.add(CharFolding.fold(term));
+            groups.add(group);
+            this.wholeWord.add(wholeWord);
+            return this;
+        }
+
+        public AhoCorasickMatcher build() {
+            return new AhoCorasickMatcher(this);
+        }
+    }
+}
@@ -2,7 +2,11 @@
 package meuparser.ia;
 
 import meuparser.MeuParser;
-import java.util.HashSet;
+import meuparser.ia.rules.SiteRuleEngine;
+import meuparser.ia.rules.SiteRuleProfile;
+import org.jsoup.nodes.Document;
+
+import java.util.Map;
 import java.util.Set;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -19,11 +23,15 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
 
     private final AIStats stats = new AIStats();
     private static final String NOME_INTEGRADOR = "BrasilEscolaParserIntegrator";
+    private static final String PERFIL_REGRAS = "brasilescola";
 
     // Padrões para extração de informações específicas do Brasil Escola
     private static final Pattern PATTERN_MATERIA = Pattern.compile("<h2[^>]*>([^<]+)</h2>");
     private static final Pattern PATTERN_AUTOR = Pattern.compile("Por\\s*:\\s*([^<]+)");
     private static final Pattern PATTERN_DISCIPLINA = Pattern.compile("Disciplina:([^<]+)");
+    private static final Pattern TAG_HTML = Pattern.compile("<[^>]*>");
+    private static final Pattern NAO_LETRA = Pattern.compile("[^\\p{L}\\s]");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
 
     // Constantes para categorias do Brasil Escola
     private static final String[] DISCIPLINAS = {
@@ -34,6 +42,19 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
 
     @Override
     public Optional<String> processContent(MeuParser parser) {
+        return processar(parser, null);
+    }
+
+    /**
+     * Versão DOM: título, autor e disciplina por seletor no Document já parseado.
+     * Os padrões sobre texto (PATTERN_MATERIA etc.) ficam apenas como fallback
+     */
+    @Override
+    public Optional<String> processDocument(Document document, MeuParser parser) {
+        return processar(parser, document);
+    }
+
+    private Optional<String> processar(MeuParser parser, Document document) {
         logInfo("Iniciando processamento de conteúdo do Brasil Escola");
 
         try {
@@ -58,10 +79,18 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
             long startTime = System.currentTimeMillis();
             logInfo("Iniciando etapas de processamento no conteúdo de tamanho: " + originalContent.length());
 
+            // Regras do perfil: linhas de boilerplate e metadados declarados (meta.*)
+            Optional<SiteRuleProfile> perfil = perfil();
+            SiteRuleEngine regras = SiteRuleEngine.getInstance();
+            String texto = originalContent;
+            originalContent = perfil.map(p -> regras.stripBoilerplate(p, texto)).orElse(originalContent);
+            Map<String, String> metadados = perfil.map(p -> regras.extractMetadata(p, document))
+                    .orElse(Map.of());
+
             // Extração de metadados específicos do Brasil Escola
-            String materia = extrairMateria(originalContent);
-            String autor = extrairAutor(originalContent);
-            String disciplina = extrairDisciplina(originalContent);
+            String materia = extrairMateria(metadados, originalContent);
+            String autor = extrairAutor(metadados, originalContent);
+            String disciplina = extrairDisciplina(metadados, originalContent);
             String[] palavrasChave = extrairPalavrasChave(originalContent);
             String resumo = gerarResumo(originalContent);
 
@@ -94,56 +123,44 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
         return stats;
     }
 
+    /**
+     * Metadados meta.* do perfil lidos no Document, sem reformatar o texto
+     */
+    @Override
+    public Map<String, String> extractMetadata(Document document) {
+        return perfil().map(p -> SiteRuleEngine.getInstance().extractMetadata(p, document)).orElse(Map.of());
+    }
+
     @Override
     public Set<String> getIrrelevantClasses() {
-        Set<String> classes = new HashSet<>();
-        // Classes específicas do Brasil Escola a serem ignoradas
-        classes.add("publicidade");
-        classes.add("banner");
-        classes.add("menu-principal");
-        classes.add("rodape");
-        classes.add("navegacao");
-        classes.add("barra-topo");
-        classes.add("recomendados");
-        classes.add("veja-tambem");
-        classes.add("box-ferramentas");
-        classes.add("area-assinatura");
-        classes.add("comentarios");
-        classes.add("tags");
-        classes.add("box-newsletter");
-        classes.add("box-vestibular");
-        classes.add("menu-fixo");
-        return classes;
+        // Classes específicas do Brasil Escola declaradas em siterules/brasilescola.properties
+        return perfil().map(SiteRuleProfile::getIrrelevantClasses).orElse(Set.of());
     }
 
     @Override
     public Set<String> getIrrelevantIds() {
-        Set<String> ids = new HashSet<>();
-        // IDs específicos do Brasil Escola a serem ignorados
-        ids.add("topo");
-        ids.add("menu");
-        ids.add("rodape");
-        ids.add("header");
-        ids.add("publicidade");
-        ids.add("lateral");
-        ids.add("barra-ferramentas");
-        ids.add("comentarios");
-        ids.add("box-newsletter");
-        ids.add("relacionadas");
-        ids.add("mais-materias");
-        return ids;
+        return perfil().map(SiteRuleProfile::getIrrelevantIds).orElse(Set.of());
     }
 
     @Override
     public String getMainContentSelector() {
-        // Seletor CSS para o conteúdo principal no Brasil Escola
-        return ".texto-materia";
+        return perfil().map(SiteRuleProfile::getMainSelector).orElse(".texto-materia");
+    }
+
+    private static Optional<SiteRuleProfile> perfil() {
+        return SiteRuleEngine.getInstance().getProfile(PERFIL_REGRAS);
     }
 
     /**
      * Extrai o título da matéria/conteúdo
      */
-    private String extrairMateria(String content) {
+    private String extrairMateria(Map<String, String> metadados, String content) {
+        String titulo = metadados.getOrDefault("titulo", "");
+        if (!titulo.isEmpty()) {
+            logInfo("Matéria extraída do DOM");
+            return titulo;
+        }
+
         try {
             Matcher matcher = PATTERN_MATERIA.matcher(content);
             if (matcher.find()) {
@@ -161,7 +178,13 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
     /**
      * Extrai o autor do conteúdo
      */
-    private String extrairAutor(String content) {
+    private String extrairAutor(Map<String, String> metadados, String content) {
+        String autor = metadados.getOrDefault("autor", "");
+        if (!autor.isEmpty()) {
+            logInfo("Autor extraído do DOM");
+            return autor;
+        }
+
         try {
             Matcher matcher = PATTERN_AUTOR.matcher(content);
             if (matcher.find()) {
@@ -179,7 +202,14 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
     /**
      * Extrai a disciplina relacionada ao conteúdo
      */
-    private String extrairDisciplina(String content) {
+    private String extrairDisciplina(Map<String, String> metadados, String content) {
+        // Breadcrumb (Home > Disciplina > ...) ou meta tag, conforme o perfil
+        String disciplinaDom = metadados.getOrDefault("disciplina", "");
+        if (!disciplinaDom.isEmpty()) {
+            logInfo("Disciplina extraída do DOM");
+            return disciplinaDom;
+        }
+
         try {
             // Primeiro tenta extrair usando o padrão específico
             Matcher matcher = PATTERN_DISCIPLINA.matcher(content);
@@ -214,15 +244,15 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
             // Em uma implementação real, usaria técnicas de NLP mais avançadas
 
             // Remove tags HTML e caracteres especiais
-            String textoLimpo = content.replaceAll("<[^>]*>", " ")
-                    .replaceAll("[^\\p{L}\\s]", " ")
+            String textoLimpo = NAO_LETRA.matcher(TAG_HTML.matcher(content).replaceAll(" "))
+                    .replaceAll(" ")
                     .toLowerCase();
 
             // Divide em palavras e remove palavras comuns
             Set<String> stopWords = Set.of("o", "a", "os", "as", "de", "da", "do",
                     "para", "que", "em", "um", "uma", "e", "é");
 
-            String[] palavras = textoLimpo.split("\\s+");
+            String[] palavras = ESPACOS.split(textoLimpo);
             String[] resultado = Arrays.stream(palavras)
                     .filter(p -> p.length() > 3)
                     .filter(p -> !stopWords.contains(p))
@@ -244,8 +274,8 @@ public class BrasilEscolaParserIntegrator implements AIParserIntegrator {
     private String gerarResumo(String content) {
         try {
             // Remover tags HTML
-            String textoLimpo = content.replaceAll("<[^>]*>", " ")
-                    .replaceAll("\\s+", " ")
+            String textoLimpo = ESPACOS.matcher(TAG_HTML.matcher(content).replaceAll(" "))
+                    .replaceAll(" ")
                     .trim();
 
             // Para uma implementação simples, pega as primeiras 300 caracteres
@@ -1,10 +1,5 @@
 package meuparser.ia;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Classifica o conteúdo da página com base em suas características
  * Ajuda usuários deficientes visuais a entenderem rapidamente o tipo de conteúdo
@@ -23,27 +18,40 @@ public class ContentClassifier {
         UNKNOWN
     }
     
-    // Padrões que indicam cada categoria
-    private static final Map<ContentCategory, Pattern> CATEGORY_PATTERNS = new HashMap<>();
-    
+    // Termos que indicam cada categoria, compilados em um único autômato Aho-Corasick.
+    // Termos "inteiros" equivalem ao \b...\b dos antigos regex; FORM e NAVIGATION
+    // continuam casando como substring (ex.: "form" dentro de "formulário").
+    private static final AhoCorasickMatcher CATEGORY_MATCHER;
+
     static {
-        // Inicializar padrões para cada categoria
-        CATEGORY_PATTERNS.put(ContentCategory.ARTICLE, 
-                Pattern.compile("(?i)\\b(artigo|article|publicado|published|autor|author)\\b"));
-        CATEGORY_PATTERNS.put(ContentCategory.NEWS, 
-                Pattern.compile("(?i)\\b(notícia|news|reportagem|jornal|newspaper|data de publicação|publication date)\\b"));
-        CATEGORY_PATTERNS.put(ContentCategory.BLOG, 
-                Pattern.compile("(?i)\\b(blog|post|publicação|comentários|comments|postar|postado)\\b"));
-        CATEGORY_PATTERNS.put(ContentCategory.FORM, 
-                Pattern.compile("(?i)(\\[INÍCIO DE FORMULÁRIO\\]|\\[CAMPO DE ENTRADA\\]|formulário|form|inscreva-se|cadastro|login|submit)"));
-        CATEGORY_PATTERNS.put(ContentCategory.NAVIGATION, 
-                Pattern.compile("(?i)(\\[LINK:.*\\]|menu|navegação|navigation|sitemap|mapa do site)"));
-        CATEGORY_PATTERNS.put(ContentCategory.E_COMMERCE, 
-                Pattern.compile("(?i)\\b(comprar|compra|preço|price|carrinho|cart|produto|product|loja|store|checkout|pagamento|payment)\\b"));
-        CATEGORY_PATTERNS.put(ContentCategory.EDUCATIONAL, 
-                Pattern.compile("(?i)\\b(aprender|learn|curso|course|aula|lesson|educação|education|tutorial|estudante|student)\\b"));
+        AhoCorasickMatcher.Builder builder = new AhoCorasickMatcher.Builder(ContentCategory.values().length);
+        addTerms(builder, ContentCategory.ARTICLE, true,
+                "artigo", "article", "publicado", "published", "autor", "author");
+        addTerms(builder, ContentCategory.NEWS, true,
+                "notícia", "news", "reportagem", "jornal", "newspaper", "data de publicação", "publication date");
+        addTerms(builder, ContentCategory.BLOG, true,
+                "blog", "post", "publicação", "comentários", "comments", "postar", "postado");
+        addTerms(builder, ContentCategory.FORM, false,
+                "[INÍCIO DE FORMULÁRIO]", "[CAMPO DE ENTRADA]", "formulário", "form", "inscreva-se", "cadastro", "login", "submit");
+        // "[LINK:" conta uma vez por link (o antigo \[LINK:.*\] era guloso e engolia a linha inteira)
+        addTerms(builder, ContentCategory.NAVIGATION, false,
+                "[LINK:", "menu", "navegação", "navigation", "sitemap", "mapa do site");
+        addTerms(builder, ContentCategory.E_COMMERCE, true,
+                "comprar", "compra", "preço", "price", "carrinho", "cart", "produto", "product", "loja", "store",
+                "checkout", "pagamento", "payment");
+        addTerms(builder, ContentCategory.EDUCATIONAL, true,
+                "aprender", "learn", "curso", "course", "aula", "lesson", "educação", "education", "tutorial",
+                "estudante", "student");
+        CATEGORY_MATCHER = builder.build();
     }
-    
+
+    private static void addTerms(AhoCorasickMatcher.Builder builder, ContentCategory category,
+                                 boolean wholeWord, String... terms) {
+        for (String term : terms) {
+            builder.add(term, category.ordinal(), wholeWord);
+        }
+    }
+
     /**
      * Classifica o conteúdo da página baseado em seus padrões textuais
      *
@@ -54,37 +62,23 @@ public class ContentClassifier {
         if (pageContent == null || pageContent.trim().isEmpty()) {
             return ContentCategory.UNKNOWN;
         }
-        
-        Map<ContentCategory, Integer> categoryScores = new HashMap<>();
-        
-        // Inicializa pontuações
-        for (ContentCategory category : ContentCategory.values()) {
-            categoryScores.put(category, 0);
-        }
-        
-        // Pontuação para cada categoria
-        for (Map.Entry<ContentCategory, Pattern> entry : CATEGORY_PATTERNS.entrySet()) {
-            ContentCategory category = entry.getKey();
-            Pattern pattern = entry.getValue();
-            
-            Matcher matcher = pattern.matcher(pageContent);
-            while (matcher.find()) {
-                // Incrementa pontuação ao encontrar padrão
-                categoryScores.put(category, categoryScores.get(category) + 1);
-            }
-        }
-        
-        // Identifica categoria com maior pontuação
+
+        // Pontuação de todas as categorias em uma única passada (índice = ordinal)
+        int[] categoryScores = new int[CATEGORY_MATCHER.getGroupCount()];
+        CATEGORY_MATCHER.countGroups(pageContent, categoryScores);
+
+        // Identifica categoria com maior pontuação (empate: a primeira na ordem do enum)
+        ContentCategory[] categories = ContentCategory.values();
         ContentCategory bestCategory = ContentCategory.UNKNOWN;
         int maxScore = 0;
-        
-        for (Map.Entry<ContentCategory, Integer> entry : categoryScores.entrySet()) {
-            if (entry.getValue() > maxScore) {
-                maxScore = entry.getValue();
-                bestCategory = entry.getKey();
+
+        for (int i = 0; i < categoryScores.length; i++) {
+            if (categoryScores[i] > maxScore) {
+                maxScore = categoryScores[i];
+                bestCategory = categories[i];
             }
         }
-        
+
         return bestCategory;
     }
     
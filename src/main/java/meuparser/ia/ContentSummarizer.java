@@ -1,9 +1,25 @@
 package meuparser.ia;
 
 import meuparser.ia.nlp.*;
+import meuparser.ia.text.TermFrequencies;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import java.text.BreakIterator;
 
 /**
  * ContentSummarizer com suporte adaptativo baseado em categorias de conteúdo
@@ -15,10 +31,108 @@ public class ContentSummarizer {
     private INLPSummarizer nlpSummarizer;
     private boolean nlpEnabled = false;
 
+    // Falhas do NLP suspendem o provedor por um tempo crescente em vez de desligá-lo de vez
+    private static final long NLP_RETRY_BASE_MS = 5_000;
+    private static final long NLP_RETRY_MAX_MS = 300_000;
+    private int consecutiveNlpFailures = 0;
+    private long nlpRetryAt = 0;
+
+    // =================== SUMARIZAÇÃO COM PRAZO ===================
+    // Prazo padrão do modo resumido (F2): resposta em menos de 200 ms
+    public static final long DEFAULT_DEADLINE_MS = Long.getLong("blindbrowser.summary.deadlineMs", 180);
+    // O resumo de introdução lê apenas este prefixo, qualquer que seja o tamanho da página
+    private static final int LEAD_SCAN_CHARS = 4000;
+
+    // Custo observado de cada nível (média móvel em ns por caractere, 0 = ainda sem medida)
+    private static final double COST_SMOOTHING = 0.3;
+    private volatile double extractiveNanosPerChar = 0;
+    private volatile double nlpNanosPerChar = 0;
+
+    // Resumos já calculados, compartilhados entre todas as instâncias do processo
+    private static final SummaryCache CACHE = SummaryCache.getShared();
+    private static final String EXTRACTIVE_PROVIDER = "EXTRACTIVE";
+
+    // =================== SUMARIZAÇÃO HIERÁRQUICA (map-reduce) ===================
+    // Acima deste tamanho o documento é resumido por blocos em paralelo
+    public static final int HIERARCHICAL_THRESHOLD = 30000;
+    private static final int CHUNK_CHARS = 8000;
+    private static final int CHUNK_SUMMARY_SENTENCES = 3;
+    // Teto do resumo de cada bloco: garante que cada rodada de redução encolha o texto
+    private static final int CHUNK_SUMMARY_CHARS = CHUNK_CHARS / 4;
+    private static final int MAX_REDUCE_ROUNDS = 4;
+    private static final ForkJoinPool SECTION_POOL = new ForkJoinPool(
+            Integer.getInteger("blindbrowser.summary.parallelism", Runtime.getRuntime().availableProcessors()));
+
+    // Palavras-chave do bônus por categoria, compiladas uma vez (antes: String.matches por sentença)
+    private static final int BONUS_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+    private static final Pattern BONUS_NEWS_ATTRIBUTION =
+            Pattern.compile("\\b(segundo|de acordo|informou|declarou|anunciou)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_PRODUCT_PRICE =
+            Pattern.compile("\\b(preço|valor|custo|desconto|promoção)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_PRODUCT_SPECS =
+            Pattern.compile("\\b(características|especificações|dimensões)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_FORM_REQUIRED =
+            Pattern.compile("\\b(obrigatório|necessário|importante|atenção)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_FORM_ACTION =
+            Pattern.compile("\\b(preencha|digite|selecione|clique)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_EDU_CONCEPT =
+            Pattern.compile("\\b(conceito|definição|exemplo|importante)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_EDU_SEQUENCE =
+            Pattern.compile("\\b(primeiro|segundo|terceiro|finalmente)\\b", BONUS_FLAGS);
+    private static final Pattern BONUS_DIGIT = Pattern.compile("\\d");
+    private static final Pattern SENTENCE_BREAK = Pattern.compile("(?<=[.!?])\\s+");
+
+    // Refinamentos rodam fora da thread chamadora para que o prazo possa ser respeitado.
+    // Pool limitado: fila curta e, se lotar, o refinamento mais antigo é descartado
+    // (já perdeu o prazo de quem o pediu)
+    private static final int REFINE_THREADS = Integer.getInteger("blindbrowser.summary.refineThreads", 2);
+    private static final ThreadPoolExecutor REFINE_EXECUTOR = new ThreadPoolExecutor(
+            REFINE_THREADS, REFINE_THREADS, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(REFINE_THREADS * 2),
+            r -> {
+                Thread t = new Thread(r, "summary-refine");
+                t.setDaemon(true);
+                return t;
+            },
+            (task, executor) -> {
+                Runnable oldest = executor.getQueue().poll();
+                if (oldest instanceof Future) {
+                    ((Future<?>) oldest).cancel(false);
+                }
+                executor.execute(task);
+            });
+
+    static {
+        REFINE_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    // Refinamentos em andamento (cancelados quando outra página começa a ser resumida)
+    private static final Set<Future<?>> PENDING_REFINEMENTS = ConcurrentHashMap.newKeySet();
+
+    // O CoreNLP ignora interrupção: enquanto um NLP antigo ainda roda, não se inicia outro
+    private static final AtomicReference<Future<?>> RUNNING_NLP = new AtomicReference<>();
+
+    /**
+     * Nível de qualidade alcançado por um resumo com prazo (do mais rápido ao mais refinado)
+     */
+    public enum SummaryLevel {
+        LEAD("introdução"),
+        EXTRACTIVE("extrativo adaptativo"),
+        NLP("NLP avançado");
+
+        private final String description;
+
+        SummaryLevel(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
     // =================== PARÂMETROS MÉTRICOS ADAPTATIVOS ===================
     private static final int DEFAULT_SUMMARY_SENTENCES = 4; // Aumentado de 3
-    private static final int MIN_SENTENCE_LENGTH = 20;
-    private static final int MAX_SENTENCE_LENGTH = 200;
 
     // 🎯 SISTEMA ADAPTATIVO - Diferentes ratios por tipo de conteúdo
     private static final Map<ContentClassifier.ContentCategory, Double> ADAPTIVE_COMPRESSION_RATIOS = new HashMap<ContentClassifier.ContentCategory, Double>() {{
@@ -34,22 +148,6 @@ public class ContentSummarizer {
 
     private static final double DEFAULT_COMPRESSION_RATIO = 0.60; // 40% redução (mais conservador)
 
-    // Palavras vazias em portuguãªs (stopwords)
-    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
-            "o", "a", "os", "as", "um", "uma", "uns", "umas", "de", "do", "da", "dos", "das",
-            "em", "no", "na", "nos", "nas", "para", "por", "com", "sem", "sob", "sobre",
-            "entre", "até", "desde", "durante", "apã³s", "antes", "depois", "contra",
-            "e", "ou", "mas", "porém", "contudo", "entretanto", "todavia", "ainda", "já",
-            "não", "sim", "também", "muito", "mais", "menos", "bem", "mal", "melhor", "pior",
-            "que", "qual", "quando", "onde", "como", "porque", "se", "caso", "embora",
-            "este", "esta", "estes", "estas", "esse", "essa", "esses", "essas",
-            "aquele", "aquela", "aqueles", "aquelas", "isto", "isso", "aquilo",
-            "eu", "tu", "ele", "ela", "nã³s", "vã³s", "eles", "elas", "me", "te", "se",
-            "nos", "vos", "lhe", "lhes", "meu", "minha", "meus", "minhas", "seu", "sua",
-            "seus", "suas", "nosso", "nossa", "nossos", "nossas", "vosso", "vossa",
-            "vossos", "vossas", "ser", "estar", "ter", "haver", "fazer", "dizer", "ir", "ver"
-    ));
-
     /**
      * Representa uma sentença com seu score de relevã¢ncia
      */
@@ -94,57 +192,600 @@ public class ContentSummarizer {
      * Método principal de sumarização com categoria automática
      */
     public String generateSummary(String content) {
-        // Classifica automaticamente o conteúdo
-        ContentClassifier classifier = new ContentClassifier();
-        ContentClassifier.ContentCategory category;
-        category = classifier.classifyContent(content);
+        return generateSummary(DocumentAnalysis.of(content));
+    }
 
-        return generateSummaryWithCategory(content, category);
+    public String generateSummaryWithCategory(String content, ContentClassifier.ContentCategory category) {
+        return generateSummary(DocumentAnalysis.of(content, category));
     }
 
+    /**
+     * Sumarização a partir da análise da página (categoria, sentenças e frequências
+     * já calculadas por quem criou a análise são reaproveitadas)
+     */
+    public String generateSummary(DocumentAnalysis analysis) {
+        SummaryCache.Key key = cacheKey(analysis);
+        Optional<String> cached = CACHE.get(key);
+        if (cached.isPresent()) {
+            System.out.println("DEBUG: Resumo reaproveitado do cache (" + key + ")");
+            return cached.get();
+        }
 
-    public String generateSummaryWithCategory(String content, ContentClassifier.ContentCategory category) {
+        String result = analysis.getContent().length() > HIERARCHICAL_THRESHOLD
+                ? generateHierarchicalSummary(analysis, null)
+                : summarizeUncached(analysis);
+        CACHE.put(key, result);
+        return result;
+    }
+
+    /**
+     * Chave do cache: mesmo conteúdo, categoria, provedor e alvo de sentenças
+     */
+    private SummaryCache.Key cacheKey(DocumentAnalysis analysis) {
+        ContentClassifier.ContentCategory category = analysis.getCategory();
+        String provider = isNlpAvailable() ? nlpSummarizer.getProviderInfo().name : EXTRACTIVE_PROVIDER;
+        return new SummaryCache.Key(analysis.getContentHash(), category, provider,
+                getEmergencyTargetSentences(category));
+    }
+
+    /**
+     * Estatísticas do cache de resumos compartilhado
+     */
+    public static SummaryCache.CacheStats getCacheStats() {
+        return CACHE.getStats();
+    }
+
+    private String summarizeUncached(DocumentAnalysis analysis) {
         long startTime = System.currentTimeMillis();
+        String content = analysis.getContent();
+        ContentClassifier.ContentCategory category = analysis.getCategory();
         String result = null;
         String method = "desconhecido";
 
-        try {
-            // PRIMEIRA TENTATIVA: NLP Avançado COM CATEGORIA CORRETA
-            if (nlpEnabled && nlpSummarizer != null && nlpSummarizer.isReady()) {
-                try {
-                    // ✅ Ajusta número de sentenças baseado na categoria CORRETA
-                    int targetSentences = getEmergencyTargetSentences(category);
-                    result = nlpSummarizer.summarize(content, targetSentences);
-                    method = "NLP avançado (" + NLPProviderFactory.getCurrentProvider() + ")";
-
-                    // ✅ Log correto da categoria
-                    System.out.printf("🎯 %s: %d chars → %d chars em %d ms\n",
-                            category.name(), content.length(), result.length(),
-                            System.currentTimeMillis() - startTime);
-
-                } catch (Exception e) {
-                    System.err.println("❌ Falha no NLP avançado: " + e.getMessage());
-                    nlpEnabled = false;
+        // PRIMEIRA TENTATIVA: NLP Avançado COM CATEGORIA CORRETA
+        if (isNlpAvailable()) {
+            try {
+                // ✅ Ajusta número de sentenças baseado na categoria CORRETA
+                result = summarizeWithNlp(content, category);
+                method = "NLP avançado (" + NLPProviderFactory.getCurrentProvider() + ")";
+
+                // ✅ Log correto da categoria
+                System.out.printf("🎯 %s: %d chars → %d chars em %d ms\n",
+                        category.name(), content.length(), result.length(),
+                        System.currentTimeMillis() - startTime);
+
+            } catch (Exception e) {
+                System.err.println("❌ Falha no NLP avançado: " + e.getMessage());
+            }
+        }
+
+        // SEGUNDA TENTATIVA: Algoritmo extrativo adaptativo sobre a análise
+        if (result == null || result.trim().isEmpty()) {
+            try {
+                result = extractiveSummarizeWithCategory(analysis);
+                method = "algoritmo extrativo adaptativo";
+            } catch (Exception e) {
+                System.err.println("❌ Falha no algoritmo extrativo: " + e.getMessage());
+            }
+        }
+
+        // TERCEIRA TENTATIVA: Fallback simples
+        if (result == null || result.trim().isEmpty()) {
+            result = basicSummarize(content);
+            method = "fallback básico";
+        }
+
+        // ✅ TRUNCAMENTO FORÇADO para limites Braille
+        result = applyBrailleCharacterLimit(result, category);
+        method += " + truncamento Braille";
+
+        long processingTime = System.currentTimeMillis() - startTime;
+        double compressionRatio = ADAPTIVE_COMPRESSION_RATIOS.getOrDefault(category, DEFAULT_COMPRESSION_RATIO);
+
+        System.out.printf("🎯 Sumarização %s via %s: %d ms (Original: %d chars → Resumo: %d chars, Ratio: %.2f)\n",
+                category.name(), method, processingTime, content.length(), result.length(), compressionRatio);
+
+        return result;
+    }
+
+    /**
+     * Sumarização hierárquica para documentos muito longos (map-reduce):
+     * divide por seção ou janela de parágrafos, resume os blocos em paralelo no ForkJoinPool,
+     * e resume a concatenação dos resumos parciais - repetindo enquanto ela ainda for longa,
+     * até MAX_REDUCE_ROUNDS rodadas ou até uma rodada não encolher o texto.
+     * O resultado final passa pelo mesmo limite de caracteres Braille da sumarização comum.
+     *
+     * @param sections índice de seções do conteúdo (null = detecta pelos títulos do texto)
+     */
+    public String generateHierarchicalSummary(DocumentAnalysis analysis, SectionIndex sections) {
+        long startTime = System.currentTimeMillis();
+        String content = analysis.getContent();
+        ContentClassifier.ContentCategory category = analysis.getCategory();
+
+        List<String> chunks = DocumentChunker.split(content,
+                sections != null ? sections : SectionIndex.parse(content), CHUNK_CHARS);
+        String reduced = mapChunks(chunks, category);
+        int rounds = 1;
+
+        while (reduced.length() > HIERARCHICAL_THRESHOLD && rounds < MAX_REDUCE_ROUNDS) {
+            String next = mapChunks(DocumentChunker.split(reduced, null, CHUNK_CHARS), category);
+            rounds++;
+            if (next.length() >= reduced.length()) break; // blocos sem sentenças: nada mais a reduzir
+            reduced = next;
+        }
+        if (reduced.length() > HIERARCHICAL_THRESHOLD) {
+            reduced = truncateAtWord(reduced, HIERARCHICAL_THRESHOLD);
+        }
+
+        String result = generateSummary(DocumentAnalysis.of(reduced, category));
+
+        System.out.printf("🎯 Sumarização hierárquica %s: %d chars → %d blocos → %d rodada(s) → %d chars em %d ms (%d threads)\n",
+                category.name(), content.length(), chunks.size(), rounds, result.length(),
+                System.currentTimeMillis() - startTime, SECTION_POOL.getParallelism());
+        return result;
+    }
+
+    /**
+     * Etapa map: resume cada bloco em paralelo (cada resumo limitado a CHUNK_SUMMARY_CHARS)
+     * e junta os resumos na ordem do documento
+     */
+    private String mapChunks(List<String> chunks, ContentClassifier.ContentCategory category) {
+        String[] summaries = SECTION_POOL.invoke(new ChunkTask(chunks,
+                chunk -> truncateAtWord(summarizeChunk(chunk, category), CHUNK_SUMMARY_CHARS), 0, chunks.size()));
+        StringBuilder joined = new StringBuilder();
+        for (String summary : summaries) {
+            if (summary != null && !summary.isEmpty()) {
+                if (joined.length() > 0) joined.append("\n\n");
+                joined.append(summary);
+            }
+        }
+        return joined.toString();
+    }
+
+    /**
+     * Divide a lista de blocos ao meio até restar um bloco por tarefa
+     */
+    private static final class ChunkTask extends RecursiveTask<String[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> chunks;
+        private final transient Function<String, String> summarizeChunk;
+        private final int from;
+        private final int to;
+
+        ChunkTask(List<String> chunks, Function<String, String> summarizeChunk, int from, int to) {
+            this.chunks = chunks;
+            this.summarizeChunk = summarizeChunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected String[] compute() {
+            if (to - from <= 1) {
+                return from < to ? new String[]{summarizeChunk.apply(chunks.get(from))} : new String[0];
+            }
+            int middle = (from + to) >>> 1;
+            ChunkTask left = new ChunkTask(chunks, summarizeChunk, from, middle);
+            left.fork();
+            String[] right = new ChunkTask(chunks, summarizeChunk, middle, to).compute();
+            String[] first = left.join();
+
+            String[] merged = Arrays.copyOf(first, first.length + right.length);
+            System.arraycopy(right, 0, merged, first.length, right.length);
+            return merged;
+        }
+    }
+
+    /**
+     * Resumo de um bloco: NLP quando disponível, senão as melhores sentenças do bloco
+     * (sem a compressão por categoria, que vale para o resumo final)
+     */
+    private String summarizeChunk(String chunk, ContentClassifier.ContentCategory category) {
+        DocumentAnalysis chunkAnalysis = DocumentAnalysis.of(chunk, category);
+        List<String> sentences = chunkAnalysis.getSentences();
+        if (sentences.isEmpty()) {
+            // Sem sentenças válidas (ex.: texto sem maiúsculas ou pontuação): corte simples
+            return basicSummarize(chunkAnalysis.getCleanContent());
+        }
+        if (sentences.size() <= CHUNK_SUMMARY_SENTENCES) {
+            return String.join(" ", sentences);
+        }
+
+        if (isNlpAvailable()) {
+            try {
+                String result = summarizeWithNlp(chunk, category);
+                if (result != null && !result.trim().isEmpty()) {
+                    return result;
                 }
+            } catch (Exception e) {
+                System.err.println("❌ Falha no NLP ao resumir bloco: " + e.getMessage());
             }
+        }
 
-            // ... resto permanece igual ...
+        List<ScoredSentence> scored = scoreSentencesWithCategory(sentences, chunkAnalysis, category);
+        scored.sort((a, b) -> Double.compare(b.score, a.score));
+        List<ScoredSentence> top = new ArrayList<>(scored.subList(0, CHUNK_SUMMARY_SENTENCES));
+        top.sort((a, b) -> Integer.compare(a.position, b.position));
+        return buildFinalSummary(top);
+    }
 
-            // ✅ Log final correto
-            // ✅ TRUNCAMENTO FORÇADO para limites Braille
-            result = applyBrailleCharacterLimit(result, category);
-            method += " + truncamento Braille";
+    /**
+     * Sumarização com prazo: devolve o melhor resumo disponível dentro de budgetMs.
+     * Primeiro monta um resumo da introdução (lê só o início do texto, em poucos ms);
+     * depois, enquanto houver tempo e o custo estimado couber no que resta, tenta o
+     * algoritmo extrativo e por fim o NLP avançado. O nível alcançado vem no resultado.
+     */
+    public TimedSummary generateSummary(DocumentAnalysis analysis, long budgetMs) {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + Math.max(0, budgetMs);
+        String content = analysis.getContent();
+        ContentClassifier.ContentCategory category = analysis.getCategory();
+
+        // Resumo completo já calculado: responde no nível em que foi gerado
+        SummaryCache.Key key = cacheKey(analysis);
+        Optional<String> cached = CACHE.get(key);
+        if (cached.isPresent()) {
+            SummaryLevel cachedLevel = EXTRACTIVE_PROVIDER.equals(key.provider)
+                    ? SummaryLevel.EXTRACTIVE : SummaryLevel.NLP;
+            return new TimedSummary(cached.get(), cachedLevel, System.currentTimeMillis() - startTime, budgetMs);
+        }
 
-            long processingTime = System.currentTimeMillis() - startTime;
-            double compressionRatio = ADAPTIVE_COMPRESSION_RATIOS.getOrDefault(category, DEFAULT_COMPRESSION_RATIO);
+        // NÍVEL 1: introdução - sempre disponível
+        String best = leadSummarize(content, category);
+        SummaryLevel level = SummaryLevel.LEAD;
+
+        // NÍVEL 2: extrativo adaptativo, se o custo estimado couber no prazo
+        if (fitsDeadline(extractiveNanosPerChar, content.length(), deadline)) {
+            long submitted = System.nanoTime();
+            Future<String> extractive = submitRefinement(() -> timedExtractive(analysis));
+            String refined = awaitUntil(extractive, deadline);
+            if (extractive.isCancelled()) {
+                // Não terminou no prazo: o tempo gasto é um limite inferior do custo real
+                extractiveNanosPerChar = Math.max(extractiveNanosPerChar,
+                        (double) (System.nanoTime() - submitted) / Math.max(1, content.length()));
+            }
+            if (refined != null && !refined.trim().isEmpty()) {
+                best = refined;
+                level = SummaryLevel.EXTRACTIVE;
+            }
+        }
 
-            System.out.printf("🎯 Sumarização %s via %s: %d ms (Original: %d chars → Resumo: %d chars, Ratio: %.2f)\n",
-                    category.name(), method, processingTime, content.length(), result.length(), compressionRatio);
+        // NÍVEL 3: NLP avançado, apenas se o nível anterior foi alcançado e ainda sobra tempo
+        if (level == SummaryLevel.EXTRACTIVE && isNlpAvailable()
+                && fitsDeadline(nlpNanosPerChar, content.length(), deadline)) {
+            Future<?> previous = RUNNING_NLP.get();
+            if (previous != null && !previous.isDone()) {
+                System.out.println("DEBUG: NLP anterior ainda em execução; resumo fica no nível extrativo");
+            } else {
+                Future<String> nlp = submitRefinement(() -> timedNlp(content, category));
+                RUNNING_NLP.set(nlp);
+                String refined = awaitUntil(nlp, deadline);
+                if (refined != null && !refined.trim().isEmpty()) {
+                    best = refined;
+                    level = SummaryLevel.NLP;
+                }
+            }
+        }
 
-            return result;
-        } finally {
+        best = applyBrailleCharacterLimit(best, category);
+        long elapsed = System.currentTimeMillis() - startTime;
 
+        // Guarda só o nível mais alto possível, igual ao da sumarização sem prazo
+        // (acima do limite hierárquico a sumarização sem prazo usa outro caminho)
+        SummaryLevel expected = EXTRACTIVE_PROVIDER.equals(key.provider) ? SummaryLevel.EXTRACTIVE : SummaryLevel.NLP;
+        if (level == expected && content.length() <= HIERARCHICAL_THRESHOLD) {
+            CACHE.put(key, best);
         }
+
+        System.out.printf("🎯 Sumarização com prazo %s: nível %s em %d ms (prazo %d ms, %d → %d chars)\n",
+                category.name(), level.name(), elapsed, budgetMs, content.length(), best.length());
+
+        return new TimedSummary(best, level, elapsed, budgetMs);
+    }
+
+    /**
+     * Sumarização com o prazo padrão do modo resumido
+     */
+    public TimedSummary generateTimedSummary(DocumentAnalysis analysis) {
+        return generateSummary(analysis, DEFAULT_DEADLINE_MS);
+    }
+
+    /**
+     * Resultado de uma sumarização com prazo
+     */
+    public static class TimedSummary {
+        public final String text;
+        public final SummaryLevel level;
+        public final long elapsedMs;
+        public final long budgetMs;
+
+        public TimedSummary(String text, SummaryLevel level, long elapsedMs, long budgetMs) {
+            this.text = text;
+            this.level = level;
+            this.elapsedMs = elapsedMs;
+            this.budgetMs = budgetMs;
+        }
+
+        public boolean isWithinDeadline() {
+            return elapsedMs <= budgetMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("TimedSummary[%s: %d chars em %d ms (prazo %d ms)]",
+                    level.name(), text.length(), elapsedMs, budgetMs);
+        }
+    }
+
+    // ========================= PIRÂMIDE DE RESUMOS =========================
+
+    // Tamanho de uma linha Braille e do resumo curto
+    private static final int HEADLINE_CHARS = 120;
+    private static final int SHORT_SUMMARY_CHARS = 150;
+
+    /**
+     * Pirâmide manchete / curto / essencial / completo a partir de uma única ordenação das sentenças.
+     * Cada nível parte das sentenças do anterior e acrescenta as próximas da ordenação que couberem,
+     * e nenhum passa do seu limite (sentença maior que o limite é cortada na palavra).
+     *
+     * @param analysis análise da página (sentenças e frequências já memorizadas)
+     * @param complete texto completo exibido ao usuário; null = conteúdo da análise
+     */
+    public SummaryPyramid buildPyramid(DocumentAnalysis analysis, String complete) {
+        return buildPyramid(analysis, complete, null);
+    }
+
+    /**
+     * Pirâmide cujo nível essencial é o resumo com prazo ({@link #generateSummary(DocumentAnalysis, long)}):
+     * manchete e curto saem das sentenças desse resumo, ordenadas por relevância, e continuam
+     * aninhados nele. No nível LEAD (o extrativo não terminou no prazo) as sentenças seguem a
+     * ordem do texto, sem calcular as frequências da página.
+     *
+     * @param essential resumo com prazo; null = todos os níveis saem da ordenação da página
+     */
+    public SummaryPyramid buildPyramid(DocumentAnalysis analysis, String complete, TimedSummary essential) {
+        long start = System.currentTimeMillis();
+        ContentClassifier.ContentCategory category = analysis.getCategory();
+        if (complete == null) complete = analysis.getContent();
+        int essentialChars = Math.max(SHORT_SUMMARY_CHARS, getBrailleCharLimit(category));
+
+        List<ScoredSentence> ranked;
+        String clean;
+        if (essential == null) {
+            ranked = scoreSentencesWithCategory(analysis.getSentences(), analysis, category);
+            ranked.sort((a, b) -> Double.compare(b.score, a.score));
+            clean = analysis.getCleanContent();
+        } else {
+            List<String> seed = DocumentAnalysis.of(essential.text, category).getSentences();
+            if (essential.level == SummaryLevel.LEAD) {
+                ranked = new ArrayList<>(seed.size());
+                for (int i = 0; i < seed.size(); i++) {
+                    ranked.add(new ScoredSentence(seed.get(i), seed.size() - i, i));
+                }
+            } else {
+                ranked = scoreSentencesWithCategory(seed, analysis, category);
+                ranked.sort((a, b) -> Double.compare(b.score, a.score));
+            }
+            clean = essential.text;
+        }
+
+        String headline;
+        String shortSummary;
+        String essentialText;
+        if (ranked.isEmpty()) {
+            // Página sem sentenças válidas: níveis recortados do texto limpo
+            headline = truncateAtWord(clean, HEADLINE_CHARS);
+            shortSummary = truncateAtWord(clean, SHORT_SUMMARY_CHARS);
+            essentialText = truncateAtWord(clean, essentialChars);
+        } else {
+            List<ScoredSentence> selected = new ArrayList<>();
+            selected.add(ranked.get(0));
+            headline = truncateAtWord(ranked.get(0).text, HEADLINE_CHARS);
+
+            extendSelection(ranked, selected, SHORT_SUMMARY_CHARS);
+            shortSummary = buildCapped(selected, SHORT_SUMMARY_CHARS);
+
+            extendSelection(ranked, selected, essentialChars);
+            essentialText = buildCapped(selected, essentialChars);
+        }
+
+        SummaryPyramid pyramid = new SummaryPyramid(headline, shortSummary, essentialText, complete);
+        System.out.printf("🎯 Pirâmide de resumos %s em %d ms%s: %s\n",
+                category.name(), System.currentTimeMillis() - start,
+                essential != null ? " (nível " + essential.level.name() + ")" : "", pyramid);
+        return pyramid;
+    }
+
+    /**
+     * Acrescenta, na ordem de relevância, as sentenças que ainda cabem no limite
+     * (conta o ponto e o espaço que buildFinalSummary pode inserir entre sentenças)
+     */
+    private static void extendSelection(List<ScoredSentence> ranked, List<ScoredSentence> selected, int charLimit) {
+        int length = 0;
+        for (ScoredSentence sentence : selected) {
+            length += sentence.text.length() + 2;
+        }
+        for (ScoredSentence sentence : ranked) {
+            if (length + sentence.text.length() > charLimit) continue;
+            if (selected.contains(sentence)) continue;
+            selected.add(sentence);
+            length += sentence.text.length() + 2;
+        }
+    }
+
+    /**
+     * Texto das sentenças na ordem do documento, nunca acima do limite: só a sentença semente
+     * pode não caber, e nesse caso ela está sozinha e é cortada na palavra
+     */
+    private String buildCapped(List<ScoredSentence> selected, int charLimit) {
+        return truncateAtWord(buildInDocumentOrder(selected), charLimit);
+    }
+
+    private String buildInDocumentOrder(List<ScoredSentence> selected) {
+        List<ScoredSentence> ordered = new ArrayList<>(selected);
+        ordered.sort((a, b) -> Integer.compare(a.position, b.position));
+        return buildFinalSummary(ordered);
+    }
+
+    /**
+     * Corta no último espaço antes do limite (uma linha Braille não deve quebrar palavra)
+     */
+    private static String truncateAtWord(String text, int limit) {
+        if (text.length() <= limit) return text;
+        int space = text.lastIndexOf(' ', limit - 1);
+        return (space > limit / 2 ? text.substring(0, space) : text.substring(0, limit - 1)) + "…";
+    }
+
+    /**
+     * Resumo imediato: primeiras sentenças válidas do início do texto.
+     * Custo limitado por LEAD_SCAN_CHARS, independente do tamanho da página.
+     */
+    private String leadSummarize(String content, ContentClassifier.ContentCategory category) {
+        String prefix = content;
+        if (prefix.length() > LEAD_SCAN_CHARS) {
+            prefix = prefix.substring(0, LEAD_SCAN_CHARS);
+            int lastSpace = prefix.lastIndexOf(' ');
+            if (lastSpace > LEAD_SCAN_CHARS / 2) {
+                prefix = prefix.substring(0, lastSpace);
+            }
+        }
+
+        String clean = DocumentAnalysis.preprocessContent(prefix);
+        List<String> sentences = DocumentAnalysis.extractSentences(clean);
+        if (sentences.isEmpty()) {
+            return basicSummarize(clean);
+        }
+
+        int target = Math.min(getEmergencyTargetSentences(category), sentences.size());
+        List<ScoredSentence> lead = new ArrayList<>(target);
+        for (int i = 0; i < target; i++) {
+            lead.add(new ScoredSentence(sentences.get(i), 1.0, i));
+        }
+        return buildFinalSummary(lead);
+    }
+
+    private String timedExtractive(DocumentAnalysis analysis) {
+        long start = System.nanoTime();
+        String result = extractiveSummarizeWithCategory(analysis);
+        extractiveNanosPerChar = updateCost(extractiveNanosPerChar, System.nanoTime() - start,
+                analysis.getContent().length());
+        return result;
+    }
+
+    private String timedNlp(String content, ContentClassifier.ContentCategory category) {
+        long start = System.nanoTime();
+        String result = summarizeWithNlp(content, category);
+        nlpNanosPerChar = updateCost(nlpNanosPerChar, System.nanoTime() - start, content.length());
+        return result;
+    }
+
+    private static double updateCost(double current, long elapsedNanos, int length) {
+        double sample = (double) elapsedNanos / Math.max(1, length);
+        return current == 0 ? sample : current + COST_SMOOTHING * (sample - current);
+    }
+
+    /**
+     * Verifica se o custo estimado do nível cabe no tempo restante
+     * (sem medida ainda, tenta - o prazo continua garantido pela espera limitada)
+     */
+    private static boolean fitsDeadline(double nanosPerChar, int length, long deadline) {
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (remainingMs <= 0) return false;
+        return nanosPerChar == 0 || nanosPerChar * length / 1_000_000 <= remainingMs;
+    }
+
+    /**
+     * Submete um refinamento ao pool limitado, registrando-o como pendente até terminar
+     */
+    private static Future<String> submitRefinement(Callable<String> work) {
+        FutureTask<String> task = new FutureTask<String>(work) {
+            @Override
+            protected void done() {
+                PENDING_REFINEMENTS.remove(this);
+            }
+        };
+        PENDING_REFINEMENTS.add(task);
+        REFINE_EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Cancela os refinamentos ainda pendentes (chamado quando outra página começa a ser resumida:
+     * os resultados antigos não seriam mais usados)
+     */
+    public static void cancelPendingRefinements() {
+        for (Future<?> task : PENDING_REFINEMENTS) {
+            task.cancel(true);
+        }
+        PENDING_REFINEMENTS.clear();
+    }
+
+    /**
+     * Aguarda o refinamento até o prazo; se não terminar (ou quem espera for interrompido),
+     * cancela o refinamento e devolve null
+     */
+    private static String awaitUntil(Future<String> task, long deadline) {
+        try {
+            return task.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            return null;
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (CancellationException e) {
+            // Descartado pelo pool ou por uma página mais nova
+            return null;
+        } catch (ExecutionException e) {
+            System.err.println("❌ Falha no refinamento do resumo: " + e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    // ========================= DISPONIBILIDADE DO NLP =========================
+
+    /**
+     * O NLP está pronto e não está suspenso por falhas recentes
+     */
+    private synchronized boolean isNlpAvailable() {
+        return nlpEnabled && nlpSummarizer != null && nlpSummarizer.isReady()
+                && System.currentTimeMillis() >= nlpRetryAt;
+    }
+
+    /**
+     * Chama o provedor NLP registrando sucesso ou falha
+     */
+    private String summarizeWithNlp(String content, ContentClassifier.ContentCategory category) {
+        try {
+            String result = nlpSummarizer.summarize(content, category, getEmergencyTargetSentences(category));
+            recordNlpSuccess();
+            return result;
+        } catch (RejectedExecutionException e) {
+            // Provedor ocupado (pool cheio) não é falha: não suspende o NLP
+            throw e;
+        } catch (RuntimeException e) {
+            recordNlpFailure();
+            throw e;
+        }
+    }
+
+    private synchronized void recordNlpSuccess() {
+        consecutiveNlpFailures = 0;
+        nlpRetryAt = 0;
+    }
+
+    /**
+     * Suspende o NLP com espera exponencial (5 s, 10 s, 20 s... até 5 min)
+     */
+    private synchronized void recordNlpFailure() {
+        consecutiveNlpFailures++;
+        long backoff = Math.min(NLP_RETRY_MAX_MS,
+                NLP_RETRY_BASE_MS << Math.min(consecutiveNlpFailures - 1, 16));
+        nlpRetryAt = System.currentTimeMillis() + backoff;
+        System.err.printf("⚠️ NLP suspenso por %d s após %d falha(s) consecutiva(s)\n",
+                backoff / 1000, consecutiveNlpFailures);
     }
 
     /**
@@ -158,28 +799,26 @@ public class ContentSummarizer {
      * ALGORITMO EXTRATIVO ADAPTATIVO
      * Ajusta a compressão baseado no tipo de conteúdo identificado
      */
-    private String extractiveSummarizeWithCategory(String content, ContentClassifier.ContentCategory category) {
-        if (content == null || content.trim().isEmpty()) {
+    private String extractiveSummarizeWithCategory(DocumentAnalysis analysis) {
+        if (analysis.getContent().trim().isEmpty()) {
             return "";
         }
+        ContentClassifier.ContentCategory category = analysis.getCategory();
 
         // 1. LIMPEZA INICIAL
-        String cleanContent = preprocessContent(content);
+        String cleanContent = analysis.getCleanContent();
         if (cleanContent.length() < 200) { // Aumentado threshold
             return cleanContent;
         }
 
         // 2. TOKENIZAÇÃO EM SENTENÇAS
-        List<String> sentences = extractSentences(cleanContent);
+        List<String> sentences = analysis.getSentences();
         if (sentences.size() <= getMinSentencesForCategory(category)) {
             return cleanContent;
         }
 
-        // 3. CÁLCULO DE FREQUÊNCIA DE PALAVRAS
-        Map<String, Double> wordFrequencies = calculateWordFrequencies(cleanContent);
-
-        // 4. SCORING DAS SENTENÇAS com bonus por categoria
-        List<ScoredSentence> scoredSentences = scoreSentencesWithCategory(sentences, wordFrequencies, category);
+        // 3-4. FREQUÊNCIA DE PALAVRAS (memorizada na análise) E SCORING DAS SENTENÇAS com bonus por categoria
+        List<ScoredSentence> scoredSentences = scoreSentencesWithCategory(sentences, analysis, category);
 
         // 5. SELEÇÃO ADAPTATIVA DAS MELHORES SENTENÇAS
         List<ScoredSentence> topSentences = selectTopSentencesAdaptive(
@@ -193,7 +832,8 @@ public class ContentSummarizer {
      * Fallback para algoritmo extrativo sem categoria (compatibilidade)
      */
     private String extractiveSummarize(String content) {
-        return extractiveSummarizeWithCategory(content, ContentClassifier.ContentCategory.UNKNOWN);
+        return extractiveSummarizeWithCategory(
+                DocumentAnalysis.of(content, ContentClassifier.ContentCategory.UNKNOWN));
     }
 
     /**
@@ -202,7 +842,7 @@ public class ContentSummarizer {
     private String basicSummarize(String content) {
         if (content == null || content.trim().isEmpty()) return "";
 
-        String[] sentences = content.split("(?<=[.!?])\\s+");
+        String[] sentences = SENTENCE_BREAK.split(content);
         int limit = Math.min(4, sentences.length); // Aumentado de 3 para 4
         return String.join(" ", Arrays.copyOf(sentences, limit));
     }
@@ -229,18 +869,7 @@ public class ContentSummarizer {
      * EMERGÊNCIA: Aplica truncamento FORÇADO por caracteres para usuários Braille
      */
     private String applyBrailleCharacterLimit(String summary, ContentClassifier.ContentCategory category) {
-        // Limites RÍGIDOS por categoria (baseado em tempo de leitura Braille)
-        int charLimit;
-        switch (category) {
-            case NEWS: charLimit = 400; break;           // 8 min MAX
-            case EDUCATIONAL: charLimit = 600; break;    // 12 min MAX
-            case ARTICLE: charLimit = 500; break;        // 10 min MAX
-            case E_COMMERCE: charLimit = 300; break;     // 6 min MAX
-            case FORM: charLimit = 200; break;           // 4 min MAX
-            case BLOG: charLimit = 350; break;           // 7 min MAX
-            case NAVIGATION: charLimit = 150; break;     // 3 min MAX
-            default: charLimit = 400; break;             // 8 min MAX
-        }
+        int charLimit = getBrailleCharLimit(category);
 
         if (summary.length() <= charLimit) {
             return summary;
@@ -257,6 +886,22 @@ public class ContentSummarizer {
         }
     }
 
+    /**
+     * Limites RÍGIDOS por categoria (baseado em tempo de leitura Braille)
+     */
+    private static int getBrailleCharLimit(ContentClassifier.ContentCategory category) {
+        switch (category) {
+            case NEWS: return 400;           // 8 min MAX
+            case EDUCATIONAL: return 600;    // 12 min MAX
+            case ARTICLE: return 500;        // 10 min MAX
+            case E_COMMERCE: return 300;     // 6 min MAX
+            case FORM: return 200;           // 4 min MAX
+            case BLOG: return 350;           // 7 min MAX
+            case NAVIGATION: return 150;     // 3 min MAX
+            default: return 400;             // 8 min MAX
+        }
+    }
+
     /**
      * Define limites mínimos de sentenças por categoria
      */
@@ -292,83 +937,19 @@ public class ContentSummarizer {
     // ========================= MÉTODOS DO ALGORITMO EXTRATIVO ADAPTATIVO =========================
 
 
-    /**
-     * Pré-processa o conteúdo removendo ruído
-     */
-    private String preprocessContent(String content) {
-        return content
-                .replaceAll("\\[INÍCIO DO CONTEÊDO PRINCIPAL\\]", "")
-                .replaceAll("\\[FIM DO CONTEÊDO PRINCIPAL\\]", "")
-                .replaceAll("\\[TÍTULO.*?\\]", "")
-                .replaceAll("\\[LINK.*?\\]", "")
-                .replaceAll("\\[CAMPO.*?\\]", "")
-                .replaceAll("\\[IMAGEM.*?\\]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
-    }
-
-    /**
-     * Extrai sentenças usando BreakIterator
-     */
-    private List<String> extractSentences(String text) {
-        List<String> sentences = new ArrayList<>();
-        BreakIterator iterator = BreakIterator.getSentenceInstance(new Locale("pt", "BR"));
-        iterator.setText(text);
-
-        int start = iterator.first();
-        int end = iterator.next();
-
-        while (end != BreakIterator.DONE) {
-            String sentence = text.substring(start, end).trim();
-
-            // Filtra sentenças válidas
-            if (sentence.length() >= MIN_SENTENCE_LENGTH &&
-                    sentence.length() <= MAX_SENTENCE_LENGTH &&
-                    !sentence.matches("^[\\d\\s\\p{Punct}]+$")) {
-                sentences.add(sentence);
-            }
-
-            start = end;
-            end = iterator.next();
-        }
-
-        return sentences;
-    }
-
-    /**
-     * Calcula frequãªncias das palavras significativas
-     */
-    private Map<String, Double> calculateWordFrequencies(String text) {
-        Map<String, Integer> wordCounts = new HashMap<>();
-        String[] words = text.toLowerCase().split("\\W+");
-
-        for (String word : words) {
-            if (word.length() >= 3 && !STOP_WORDS.contains(word) && !word.matches("\\d+")) {
-                wordCounts.put(word, wordCounts.getOrDefault(word, 0) + 1);
-            }
-        }
-
-        int maxCount = wordCounts.values().stream().mapToInt(Integer::intValue).max().orElse(1);
-        Map<String, Double> frequencies = new HashMap<>();
-
-        for (Map.Entry<String, Integer> entry : wordCounts.entrySet()) {
-            frequencies.put(entry.getKey(), (double) entry.getValue() / maxCount);
-        }
-
-        return frequencies;
-    }
-
     /**
      * Atribui scores ã s sentenças com bonus específico por categoria
      */
     private List<ScoredSentence> scoreSentencesWithCategory(List<String> sentences,
-                                                            Map<String, Double> wordFreq,
+                                                            DocumentAnalysis analysis,
                                                             ContentClassifier.ContentCategory category) {
         List<ScoredSentence> scored = new ArrayList<>();
+        TermFrequencies wordFreq = analysis.getTermFrequencies();
 
         for (int i = 0; i < sentences.size(); i++) {
             String sentence = sentences.get(i);
-            double score = calculateSentenceScoreWithCategory(sentence, wordFreq, i, sentences.size(), category);
+            double score = calculateSentenceScoreWithCategory(analysis.termIds(sentence), sentence, wordFreq,
+                    i, sentences.size(), category);
             scored.add(new ScoredSentence(sentence, score, i));
         }
 
@@ -378,17 +959,17 @@ public class ContentSummarizer {
     /**
      * Calcula score de uma sentença individual com bonus por categoria
      */
-    private double calculateSentenceScoreWithCategory(String sentence, Map<String, Double> wordFreq,
+    private double calculateSentenceScoreWithCategory(int[] sentenceTermIds, String sentence,
+                                                      TermFrequencies wordFreq,
                                                       int position, int totalSentences,
                                                       ContentClassifier.ContentCategory category) {
-        String[] words = sentence.toLowerCase().split("\\W+");
         double totalScore = 0.0;
         int significantWords = 0;
 
-        // 1. Score por frequãªncia de palavras
-        for (String word : words) {
-            if (word.length() >= 3 && !STOP_WORDS.contains(word) && wordFreq.containsKey(word)) {
-                totalScore += wordFreq.get(word);
+        // 1. Score por frequência de palavras (IDs do mesmo dicionário usado nas frequências)
+        for (int termId : sentenceTermIds) {
+            if (wordFreq.get(termId) > 0) {
+                totalScore += wordFreq.normalized(termId);
                 significantWords++;
             }
         }
@@ -461,36 +1042,34 @@ public class ContentSummarizer {
      * Bonus específico por categoria baseado no conteúdo da sentença
      */
     private double getCategorySpecificBonus(String sentence, ContentClassifier.ContentCategory category) {
-        String lowerSentence = sentence.toLowerCase();
-
         switch (category) {
             case NEWS:
                 // Bonus para sentenças jornalísticas
-                if (lowerSentence.matches(".*\\b(segundo|de acordo|informou|declarou|anunciou)\\b.*")) return 1.2;
-                if (lowerSentence.matches(".*\\d+.*")) return 1.1; // Dados numéricos
+                if (BONUS_NEWS_ATTRIBUTION.matcher(sentence).find()) return 1.2;
+                if (BONUS_DIGIT.matcher(sentence).find()) return 1.1; // Dados numéricos
                 break;
 
             case E_COMMERCE:
-                // Bonus para informaçãµes de produto
-                if (lowerSentence.matches(".*\\b(preço|valor|custo|desconto|promoção)\\b.*")) return 1.3;
-                if (lowerSentence.matches(".*\\b(características|especificaçãµes|dimensãµes)\\b.*")) return 1.2;
+                // Bonus para informações de produto
+                if (BONUS_PRODUCT_PRICE.matcher(sentence).find()) return 1.3;
+                if (BONUS_PRODUCT_SPECS.matcher(sentence).find()) return 1.2;
                 break;
 
             case FORM:
-                // Bonus para instruçãµes críticas
-                if (lowerSentence.matches(".*\\b(obrigatã³rio|necessário|importante|atenção)\\b.*")) return 1.4;
-                if (lowerSentence.matches(".*\\b(preencha|digite|selecione|clique)\\b.*")) return 1.2;
+                // Bonus para instruções críticas
+                if (BONUS_FORM_REQUIRED.matcher(sentence).find()) return 1.4;
+                if (BONUS_FORM_ACTION.matcher(sentence).find()) return 1.2;
                 break;
 
             case EDUCATIONAL:
                 // Bonus para conteúdo didático
-                if (lowerSentence.matches(".*\\b(conceito|definição|exemplo|importante)\\b.*")) return 1.3;
-                if (lowerSentence.matches(".*\\b(primeiro|segundo|terceiro|finalmente)\\b.*")) return 1.1;
+                if (BONUS_EDU_CONCEPT.matcher(sentence).find()) return 1.3;
+                if (BONUS_EDU_SEQUENCE.matcher(sentence).find()) return 1.1;
                 break;
         }
 
         // Bonus padrão para sentenças com números (dados específicos)
-        return lowerSentence.matches(".*\\d+.*") ? 1.1 : 1.0;
+        return BONUS_DIGIT.matcher(sentence).find() ? 1.1 : 1.0;
     }
 
     /**
@@ -589,8 +1168,8 @@ public class ContentSummarizer {
                 original.length(),
                 summary.length(),
                 actualRatio,
-                extractSentences(original).size(),
-                extractSentences(summary).size(),
+                DocumentAnalysis.extractSentences(original).size(),
+                DocumentAnalysis.extractSentences(summary).size(),
                 category,
                 expectedRatio,
                 compressionEfficiency
@@ -648,6 +1227,7 @@ public class ContentSummarizer {
             if (nlpSummarizer != null) {
                 nlpSummarizer.initialize();
                 nlpEnabled = nlpSummarizer.isReady();
+                recordNlpSuccess();
                 System.out.println("ðŸ”„ Provedor trocado para: " + nlpSummarizer.getProviderInfo().name);
             } else {
                 nlpEnabled = false;
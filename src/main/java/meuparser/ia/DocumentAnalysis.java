@@ -0,0 +1,289 @@
+package meuparser.ia;
+
+import meuparser.ia.text.TermDictionary;
+import meuparser.ia.text.TermFrequencies;
+import meuparser.ia.text.TextTokenizer;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Análise de uma página, criada uma vez por carregamento e compartilhada entre as etapas
+ * (classificação, sumarização, formatação, palavras-chave).
+ * Cada resultado é calculado na primeira consulta e memorizado, então o mesmo texto
+ * não é reclassificado nem re-tokenizado por cada etapa.
+ */
+public final class DocumentAnalysis {
+
+    static final int MIN_SENTENCE_LENGTH = 20;
+    static final int MAX_SENTENCE_LENGTH = 200;
+
+    // Marcações do extrator descartadas no pré-processamento; as terminadas em ']' são exatas,
+    // as demais vão até o próximo ']' da mesma linha
+    private static final String[] REMOVED_MARKERS = {
+            "[INÍCIO DO CONTEÚDO PRINCIPAL]", "[FIM DO CONTEÚDO PRINCIPAL]",
+            "[TÍTULO", "[LINK", "[CAMPO", "[IMAGEM"
+    };
+    // \p{Punct} do java.util.regex (pontuação ASCII)
+    private static final String PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+
+    // BreakIterator não é thread-safe: um por thread, reaproveitado entre chamadas
+    private static final ThreadLocal<BreakIterator> SENTENCE_ITERATOR =
+            ThreadLocal.withInitial(() -> BreakIterator.getSentenceInstance(new Locale("pt", "BR")));
+
+    // Classificador sem estado: uma instância basta para todas as análises
+    private static final ContentClassifier CLASSIFIER = new ContentClassifier();
+
+    private final String content;
+
+    // Resultados memorizados (null = ainda não calculado)
+    private ContentClassifier.ContentCategory category;
+    private String cleanContent;
+    private List<String> sentences;
+    private TextTokenizer tokenizer;   // SIGNIFICANT com o dicionário desta análise
+    private int[] termIds;
+    private TermFrequencies termFrequencies;
+    private List<String> keywords;
+    private String contentHash;
+    private String mainContentHash;
+
+    private DocumentAnalysis(String content, ContentClassifier.ContentCategory category) {
+        this.content = content != null ? content : "";
+        this.category = category;
+    }
+
+    /**
+     * Análise de um texto; a categoria é detectada na primeira consulta
+     */
+    public static DocumentAnalysis of(String content) {
+        return new DocumentAnalysis(content, null);
+    }
+
+    /**
+     * Análise com categoria já conhecida (ex.: seção de um artigo já classificado)
+     */
+    public static DocumentAnalysis of(String content, ContentClassifier.ContentCategory category) {
+        return new DocumentAnalysis(content, category);
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public synchronized ContentClassifier.ContentCategory getCategory() {
+        if (category == null) {
+            category = CLASSIFIER.classifyContent(content);
+        }
+        return category;
+    }
+
+    /**
+     * Hash do conteúdo (chave do {@link SummaryCache})
+     */
+    public synchronized String getContentHash() {
+        if (contentHash == null) {
+            contentHash = SummaryCache.hashContent(content);
+        }
+        return contentHash;
+    }
+
+    /**
+     * Hash só das sentenças válidas do texto limpo: ignora marcações, espaços e fragmentos curtos
+     * (datas relativas, contadores, rótulos de menu), que mudam a cada acesso em páginas dinâmicas
+     */
+    public synchronized String getMainContentHash() {
+        if (mainContentHash == null) {
+            mainContentHash = SummaryCache.hashContent(String.join("\n", getSentences()));
+        }
+        return mainContentHash;
+    }
+
+    /**
+     * Texto sem marcações ([LINK...], [IMAGEM...] etc.) e com espaços normalizados
+     */
+    public synchronized String getCleanContent() {
+        if (cleanContent == null) {
+            cleanContent = preprocessContent(content);
+        }
+        return cleanContent;
+    }
+
+    /**
+     * Sentenças válidas do texto limpo, na ordem do documento
+     */
+    public synchronized List<String> getSentences() {
+        if (sentences == null) {
+            sentences = Collections.unmodifiableList(extractSentences(getCleanContent()));
+        }
+        return sentences;
+    }
+
+    /**
+     * IDs das palavras significativas do texto limpo, na ordem do texto
+     * (sem stopwords e sem números; ver {@link TextTokenizer#SIGNIFICANT})
+     */
+    public synchronized int[] getTermIds() {
+        if (termIds == null) {
+            termIds = tokenizer().termIds(getCleanContent());
+        }
+        return termIds;
+    }
+
+    /**
+     * IDs das palavras significativas de um trecho deste documento (ex.: uma sentença),
+     * no mesmo espaço de IDs de {@link #getTermFrequencies()}
+     */
+    public synchronized int[] termIds(CharSequence text) {
+        return tokenizer().termIds(text);
+    }
+
+    private TextTokenizer tokenizer() {
+        if (tokenizer == null) {
+            // Dicionário do tamanho aproximado do vocabulário da página (cresce se precisar)
+            tokenizer = TextTokenizer.SIGNIFICANT.withDictionary(new TermDictionary(content.length() / 40));
+        }
+        return tokenizer;
+    }
+
+    /**
+     * Frequência de cada palavra significativa (contagens primitivas por ID de termo)
+     */
+    public synchronized TermFrequencies getTermFrequencies() {
+        if (termFrequencies == null) {
+            int[] ids = getTermIds();
+            TermFrequencies frequencies = new TermFrequencies(ids.length / 2);
+            for (int id : ids) {
+                frequencies.add(id);
+            }
+            termFrequencies = frequencies;
+        }
+        return termFrequencies;
+    }
+
+    /**
+     * Palavras-chave principais da página
+     */
+    public synchronized List<String> getKeywords() {
+        if (keywords == null) {
+            keywords = Collections.unmodifiableList(new keywordExtractor().extractKeywords(content));
+        }
+        return keywords;
+    }
+
+    /**
+     * Pré-processa o conteúdo removendo ruído, em uma única passada:
+     * descarta marcações do extrator ([LINK...], [IMAGEM...] etc., sem atravessar linhas),
+     * colapsa sequências de espaços em um espaço e remove espaços nas pontas
+     */
+    static String preprocessContent(String content) {
+        int length = content.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean pendingSpace = false;
+
+        int i = 0;
+        while (i < length) {
+            char c = content.charAt(i);
+
+            if (c == '[') {
+                int skipTo = markerEnd(content, i);
+                if (skipTo != -1) {
+                    i = skipTo;
+                    continue;
+                }
+            }
+
+            if (isRegexWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    out.append(' ');
+                    pendingSpace = false;
+                }
+                out.append(c);
+            }
+            i++;
+        }
+        // trim() ainda remove caracteres de controle nas pontas, como na versão com regex
+        return out.toString().trim();
+    }
+
+    /**
+     * Se há uma marcação removível começando em start, devolve a posição logo após o ']'
+     * (mesma semântica de "\\[LINK.*?\\]": o '.' não atravessa quebras de linha)
+     */
+    private static int markerEnd(String content, int start) {
+        for (String prefix : REMOVED_MARKERS) {
+            if (!content.startsWith(prefix, start)) continue;
+
+            int after = start + prefix.length();
+            if (prefix.endsWith("]")) {
+                return after;
+            }
+            for (int j = after; j < content.length(); j++) {
+                char c = content.charAt(j);
+                if (c == ']') return j + 1;
+                if (isLineTerminator(c)) break;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Extrai sentenças usando o BreakIterator da thread atual
+     */
+    static List<String> extractSentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = SENTENCE_ITERATOR.get();
+        iterator.setText(text);
+
+        int start = iterator.first();
+        int end = iterator.next();
+
+        while (end != BreakIterator.DONE) {
+            String sentence = text.substring(start, end).trim();
+
+            // Filtra sentenças válidas
+            if (sentence.length() >= MIN_SENTENCE_LENGTH &&
+                    sentence.length() <= MAX_SENTENCE_LENGTH &&
+                    !isOnlyDigitsAndPunctuation(sentence)) {
+                sentences.add(sentence);
+            }
+
+            start = end;
+            end = iterator.next();
+        }
+
+        // Solta a referência ao texto (o iterador vive com a thread)
+        iterator.setText("");
+        return sentences;
+    }
+
+    /**
+     * Equivalente a sentence.matches("^[\\d\\s\\p{Punct}]+$") sem regex
+     */
+    static boolean isOnlyDigitsAndPunctuation(String sentence) {
+        if (sentence.isEmpty()) return false;
+        for (int i = 0; i < sentence.length(); i++) {
+            char c = sentence.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            boolean punct = c < 128 && PUNCTUATION.indexOf(c) != -1;
+            if (!digit && !punct && !isRegexWhitespace(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // \s do java.util.regex: [ \t\n\x0B\f\r]
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    // Caracteres que o '.' de regex não atravessa
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
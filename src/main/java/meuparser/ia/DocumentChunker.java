@@ -0,0 +1,83 @@
+package meuparser.ia;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Divide documentos longos em blocos para a sumarização hierárquica.
+ * Segue as seções do SectionIndex quando existem: seções pequenas vizinhas são agrupadas
+ * e seções grandes são quebradas em janelas de parágrafos, sempre em limites de parágrafo.
+ */
+final class DocumentChunker {
+
+    private DocumentChunker() {
+    }
+
+    /**
+     * @param text      texto original (offsets do índice referem-se a ele)
+     * @param sections  índice de seções do texto (pode ser null: só janelas de parágrafos)
+     * @param maxChars  tamanho alvo de cada bloco
+     * @return blocos na ordem do documento
+     */
+    static List<String> split(String text, SectionIndex sections, int maxChars) {
+        List<String> chunks = new ArrayList<>();
+        if (text == null || text.isEmpty()) return chunks;
+
+        if (sections == null || sections.size() <= 1) {
+            addParagraphWindows(text, 0, text.length(), maxChars, chunks);
+            return chunks;
+        }
+
+        // Agrupa seções consecutivas até o tamanho alvo
+        int groupStart = -1;
+        int groupEnd = -1;
+        for (SectionIndex.Section section : sections.getSections()) {
+            int start = section.headingStart;
+            int end = section.getEnd();
+
+            if (groupStart != -1 && end - groupStart > maxChars) {
+                addParagraphWindows(text, groupStart, groupEnd, maxChars, chunks);
+                groupStart = -1;
+            }
+            if (groupStart == -1) {
+                groupStart = start;
+            }
+            groupEnd = end;
+        }
+        if (groupStart != -1) {
+            addParagraphWindows(text, groupStart, groupEnd, maxChars, chunks);
+        }
+        return chunks;
+    }
+
+    /**
+     * Janelas de até maxChars terminadas em quebra de parágrafo (ou de linha/espaço,
+     * se o parágrafo sozinho passar do limite)
+     */
+    private static void addParagraphWindows(String text, int start, int end, int maxChars, List<String> chunks) {
+        int position = start;
+        while (position < end) {
+            int limit = Math.min(end, position + maxChars);
+            int cut = limit;
+            if (limit < end) {
+                cut = lastBreak(text, position, limit);
+            }
+            String chunk = text.substring(position, cut).trim();
+            if (!chunk.isEmpty()) {
+                chunks.add(chunk);
+            }
+            position = cut;
+        }
+    }
+
+    private static int lastBreak(String text, int from, int limit) {
+        int minimum = from + (limit - from) / 2;
+        int paragraph = text.lastIndexOf("\n\n", limit);
+        if (paragraph >= minimum) return paragraph + 2;
+        int line = text.lastIndexOf('\n', limit);
+        if (line >= minimum) return line + 1;
+        int space = text.lastIndexOf(' ', limit);
+        if (space >= minimum) return space + 1;
+        return limit;
+    }
+}
@@ -0,0 +1,309 @@
+package meuparser.ia.DualModeManager;
+
+import meuparser.ia.ContentClassifier;
+import meuparser.ia.ContentSummarizer;
+import meuparser.ia.DocumentAnalysis;
+import meuparser.ia.LinkTable;
+import meuparser.ia.SectionIndex;
+import meuparser.ia.SummaryPyramid;
+import meuparser.ia.text.InvertedIndex;
+import meuparser.scheduler.TaskScheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.function.UnaryOperator;
+
+/**
+ * Estado de uma página aberta em uma aba: conteúdo, análise, resumos, modo e posição de leitura.
+ *
+ * O estado pesado (texto original/completo, análise, seções e índice de busca) pode ser
+ * descarregado em disco quando a aba fica inativa (spill) e reconstruído do próprio texto
+ * ao voltar para ela (rehydrate), sem acessar a rede. Resumos e pirâmide, pequenos, ficam em memória.
+ */
+public class DocumentSession {
+
+    // Estimativa de memória por caractere do original: textos (2 bytes/char cada),
+    // análise (texto limpo + sentenças), índice invertido (~5 ints por token) e os dicionários
+    // de termos da análise e do índice (~1 termo novo a cada 40 chars, ~60 bytes cada)
+    private static final int RESIDENT_BYTES_PER_CHAR = 15;
+
+    // Página
+    final String url;
+    volatile String originalContent;
+    volatile String completeContent;
+    volatile SectionIndex sectionIndex;
+    volatile DocumentAnalysis analysis;
+    volatile CompletableFuture<InvertedIndex> searchIndex;
+    // Construção única do índice, compartilhada entre a faixa BACKGROUND e a busca do usuário
+    private volatile FutureTask<InvertedIndex> indexBuild;
+    private volatile CompletableFuture<InvertedIndex> urgentIndex;
+    final ContentClassifier.ContentCategory category;
+    final int originalLength;
+    // Impressão digital do conteúdo principal (revalidação); calculada junto com o resumo
+    volatile String mainContentHash;
+    volatile long validatedAt = System.currentTimeMillis();
+    volatile LinkTable links = LinkTable.EMPTY;
+    long fetchedBytes;
+    boolean fetchTruncated; // download cortado no limite de bytes (prefetch fora do orçamento)
+
+    // Resumo em segundo plano
+    volatile CompletableFuture<String> essentialFuture = CompletableFuture.completedFuture(null);
+    volatile Future<?> summaryTask;
+    volatile String essentialContent;
+    volatile ContentSummarizer.SummaryLevel essentialLevel;
+    volatile SummaryPyramid pyramid;
+
+    // Leitura
+    volatile DualModeContentManager.ContentMode currentMode = DualModeContentManager.ContentMode.ESSENTIAL;
+    volatile SummaryPyramid.Level currentLevel = SummaryPyramid.Level.ESSENTIAL;
+    private volatile int readingPosition;
+    private volatile PagedDocument view;
+
+    // Estatísticas
+    long completeLoadTime;
+    volatile long essentialLoadTime;
+
+    // Descarregamento
+    private volatile Path spillFile;
+    private volatile long lastAccess = System.currentTimeMillis();
+
+    /**
+     * Sessão vazia (aba sem página carregada)
+     */
+    DocumentSession() {
+        this.url = null;
+        this.category = null;
+        this.originalLength = 0;
+    }
+
+    DocumentSession(String url, String originalContent, SectionIndex sectionIndex, DocumentAnalysis analysis) {
+        this.url = url;
+        this.originalContent = originalContent;
+        this.sectionIndex = sectionIndex;
+        this.analysis = analysis;
+        this.category = analysis.getCategory();
+        this.originalLength = originalContent.length();
+    }
+
+    public boolean isLoaded() {
+        return url != null;
+    }
+
+    public boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * Memória aproximada ocupada pela sessão (bytes)
+     */
+    public long estimateBytes() {
+        long light = 2L * (length(essentialContent) + links.getCharacterCount()
+                + (pyramid != null ? pyramid.getCharacterCount(SummaryPyramid.Level.HEADLINE)
+                + pyramid.getCharacterCount(SummaryPyramid.Level.SHORT) : 0));
+        return isSpilled() ? light : light + (long) RESIDENT_BYTES_PER_CHAR * originalLength;
+    }
+
+    private static int length(String text) {
+        return text != null ? text.length() : 0;
+    }
+
+    /**
+     * Grava o texto original em disco e libera o estado pesado
+     */
+    synchronized void spill(Path directory) throws IOException {
+        if (!isLoaded() || isSpilled()) return;
+
+        Files.createDirectories(directory);
+        Path file = Files.createTempFile(directory, "tab", ".txt");
+        // Rede de segurança: o arquivo some no encerramento da JVM mesmo se a aba não for fechada
+        file.toFile().deleteOnExit();
+        Files.write(file, originalContent.getBytes(StandardCharsets.UTF_8));
+
+        spillFile = file;
+        originalContent = null;
+        completeContent = null;
+        sectionIndex = null;
+        analysis = null;
+        searchIndex = null;
+        indexBuild = null;
+        urgentIndex = null;
+        view = null; // refeita da visão atual ao reconstruir; a posição de leitura é offset de conteúdo
+    }
+
+    /**
+     * Reconstrói o estado pesado a partir do texto gravado
+     *
+     * @param cleaner mesma limpeza usada para gerar o conteúdo completo no carregamento
+     */
+    synchronized void rehydrate(UnaryOperator<String> cleaner) throws IOException {
+        if (!isSpilled()) return;
+
+        Path file = spillFile;
+        String original = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        String complete = cleaner.apply(original);
+
+        originalContent = original;
+        completeContent = complete;
+        sectionIndex = SectionIndex.parse(original);
+        analysis = DocumentAnalysis.of(original, category);
+        scheduleSearchIndex();
+        spillFile = null;
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Agenda o índice de busca na faixa BACKGROUND (segurada durante carregamentos).
+     * A construção é uma só: se a busca do usuário chegar antes, ela a roda na faixa FOREGROUND
+     * e a tarefa de segundo plano apenas recebe o resultado; se a de segundo plano já começou,
+     * a busca espera por ela em vez de recomeçar
+     */
+    synchronized void scheduleSearchIndex() {
+        String complete = completeContent;
+        FutureTask<InvertedIndex> build = new FutureTask<>(() -> new InvertedIndex(complete));
+        indexBuild = build;
+        urgentIndex = null;
+        searchIndex = TaskScheduler.getInstance().submit(TaskScheduler.Lane.BACKGROUND, "índice " + url,
+                () -> runIndexBuild(build));
+    }
+
+    /**
+     * Índice pronto ou a caminho, sem bloquear quem chama: se o de segundo plano ainda não
+     * terminou, a construção passa para a faixa FOREGROUND (sem descartar o que já andou)
+     */
+    synchronized CompletableFuture<InvertedIndex> searchIndexAsync() {
+        CompletableFuture<InvertedIndex> index = searchIndex;
+        if (index != null && index.isDone() && !index.isCompletedExceptionally()) {
+            return index;
+        }
+        CompletableFuture<InvertedIndex> urgent = urgentIndex;
+        if (urgent != null && !urgent.isCompletedExceptionally()) {
+            return urgent; // outra busca já antecipou a construção
+        }
+
+        FutureTask<InvertedIndex> build = indexBuild;
+        if (build == null || build.isDone()) {
+            // Construção anterior falhou: recomeça
+            String complete = completeContent;
+            build = new FutureTask<>(() -> new InvertedIndex(complete));
+            indexBuild = build;
+        }
+        FutureTask<InvertedIndex> shared = build;
+        urgent = TaskScheduler.getInstance().submit(TaskScheduler.Lane.FOREGROUND, "índice (busca) " + url,
+                () -> runIndexBuild(shared));
+        urgentIndex = urgent;
+        System.out.println("DEBUG: Índice de busca antecipado para a faixa de carregamento: " + url);
+        return urgent;
+    }
+
+    /**
+     * Roda a construção se ninguém a começou (FutureTask.run é no-op depois disso) e aguarda o resultado
+     */
+    private static InvertedIndex runIndexBuild(FutureTask<InvertedIndex> build) throws Exception {
+        build.run();
+        try {
+            return build.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Cancela o resumo em segundo plano (página substituída ou aba fechada), interrompendo-o se já começou
+     */
+    void cancelBackgroundWork() {
+        Future<?> task = summaryTask;
+        if (task != null) {
+            task.cancel(true);
+        }
+        essentialFuture.cancel(false);
+    }
+
+    /**
+     * Remove o arquivo de spill (aba fechada ou substituída)
+     */
+    synchronized void discard() {
+        Path file = spillFile;
+        if (file == null) return;
+        spillFile = null;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("⚠️ Falha ao remover " + file + ": " + e.getMessage());
+        }
+    }
+
+    void touch() {
+        lastAccess = System.currentTimeMillis();
+    }
+
+    // Getters
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Links numerados do conteúdo principal (mantidos em memória mesmo com a sessão descarregada)
+     */
+    public LinkTable getLinks() {
+        return links;
+    }
+
+    public String getCompleteContent() {
+        return completeContent;
+    }
+
+    /**
+     * Resumo essencial em geração (cancelado se a página for substituída ou a aba fechada)
+     */
+    public CompletableFuture<String> getEssentialFuture() {
+        return essentialFuture;
+    }
+
+    public DualModeContentManager.ContentMode getCurrentMode() {
+        return currentMode;
+    }
+
+    public SummaryPyramid.Level getCurrentLevel() {
+        return currentLevel;
+    }
+
+    /**
+     * Posição de leitura na visão atual, como offset do conteúdo inteiro (não da página exibida);
+     * restaurada ao voltar para a aba e usada como início da narração e do envio serial
+     */
+    public int getReadingPosition() {
+        return readingPosition;
+    }
+
+    public void setReadingPosition(int readingPosition) {
+        this.readingPosition = Math.max(0, readingPosition);
+    }
+
+    /**
+     * Visão paginada exibida na aba (null antes da primeira exibição ou após o descarregamento)
+     */
+    public PagedDocument getView() {
+        return view;
+    }
+
+    public void setView(PagedDocument view) {
+        this.view = view;
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DocumentSession[%s, %s, %d chars, %s]",
+                url, currentLevel, originalLength, isSpilled() ? "em disco" : "em memória");
+    }
+}
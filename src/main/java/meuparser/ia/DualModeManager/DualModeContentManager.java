@@ -1,11 +1,26 @@
 package meuparser.ia.DualModeManager;
 
 import meuparser.JsoupParser;
+import meuparser.fetch.PageFetcher;
+import meuparser.ia.AIParserIntegratorFactory;
 import meuparser.ia.ContentClassifier;
 import meuparser.ia.ContentSummarizer;
+import meuparser.ia.DocumentAnalysis;
+import meuparser.ia.LinkTable;
+import meuparser.ia.SectionIndex;
+import meuparser.ia.SummaryPyramid;
+import meuparser.ia.rules.SiteRuleEngine;
+import meuparser.ia.text.InvertedIndex;
+import meuparser.scheduler.TaskScheduler;
 
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import javax.swing.*;
 
 /**
@@ -14,24 +29,38 @@ import javax.swing.*;
  */
 public class DualModeContentManager {
 
-    // Conteúdos armazenados
-    private String currentUrl;
-    private String essentialContent;
-    private String completeContent;
-    private String originalContent;   // Conteúdo bruto original
+    // Página ativa: conteúdo, análise, resumos (gerados em segundo plano), modo e posição de leitura.
+    // Cada aba guarda a sua; trocar de aba troca a sessão (setSession) sem recarregar.
+    private volatile DocumentSession session = new DocumentSession();
+
+    // Artigos acima deste tamanho começam pela introdução resumida + lista de seções
+    private static final int LONG_ARTICLE_THRESHOLD = 30000;
+
+    // Sentenças exibidas por busca e contexto máximo ao redor da primeira ocorrência
+    private static final int SEARCH_RESULTS = 20;
+    private static final int SEARCH_CONTEXT_CHARS = 150;
+
+    // Timeout das requisições de prefetch (menor que o da navegação: prefetch lento não vale a pena)
+    private static final int PREFETCH_TIMEOUT_MS = Integer.getInteger("blindbrowser.prefetch.timeoutMs", 5000);
+
+    // Páginas do histórico validadas há menos que isto não são baixadas de novo ao voltar a elas
+    private static final long REVALIDATE_AFTER_MS = Long.getLong("blindbrowser.history.revalidateAfterSeconds", 60) * 1000;
+
+    // Carregamentos na faixa FOREGROUND (nunca atrás de prefetch), resumos na SUMMARY (uma thread:
+    // cada página nova substitui a anterior), índice e revalidação na BACKGROUND
+    private static final TaskScheduler SCHEDULER = TaskScheduler.getInstance();
+
+    // Carregamento em andamento (navegar de novo cancela este)
+    private CompletableFuture<DocumentSession> inFlightLoad = CompletableFuture.completedFuture(null);
 
     // Estado atual
-    private ContentMode currentMode = ContentMode.ESSENTIAL;
-    private Map<String, String> searchHistory = new HashMap<>();
+    private final Map<String, String> searchHistory = new ConcurrentHashMap<>();
 
     // Componentes do sistema
     private ContentSummarizer summarizer;
-    private ContentClassifier classifier;
-    private JsoupParser parser;
-
-    // Estatísticas
-    private long essentialLoadTime;
-    private long completeLoadTime;
+    private final PageFetcher fetcher;
+    private final LinkPrefetcher prefetcher;
+    private volatile DocumentSession prefetchSource;
 
     public enum ContentMode {
         ESSENTIAL("Modo Resumido", "Leitura otimizada (~10 min)", "🔄“„"),
@@ -55,149 +84,498 @@ public class DualModeContentManager {
 
     public DualModeContentManager() {
         this.summarizer = new ContentSummarizer();
-        this.classifier = new ContentClassifier();
-        this.parser = new JsoupParser();
+        this.fetcher = new PageFetcher();
+        // Prefetch: fetcher por página, limitado ao que resta do orçamento de bytes da rodada
+        this.prefetcher = new LinkPrefetcher((url, maxBytes) -> extractPage(
+                new PageFetcher(AIParserIntegratorFactory::resolveLightweightUrl, PREFETCH_TIMEOUT_MS,
+                        Math.min(PageFetcher.DEFAULT_LIGHTWEIGHT_TIMEOUT, PREFETCH_TIMEOUT_MS),
+                        (int) Math.min(Integer.MAX_VALUE, maxBytes)),
+                url, null));
+
+        // Valida e compila os perfis de site na inicialização, não na primeira página
+        SiteRuleEngine.getInstance();
     }
 
     /**
-     * Carrega e processa conteúdo de uma URL
+     * Carrega e processa conteúdo de uma URL, bloqueando a thread chamadora.
+     * Retorna assim que o conteúdo completo está pronto (modo COMPLETE); o resumo segue
+     * em segundo plano e fica disponível em getEssentialFuture()
      */
     public void loadContent(String url) throws Exception {
-        this.currentUrl = url;
+        session.cancelBackgroundWork();
+        this.session = loadSession(url, null);
+    }
+
+    /**
+     * Carrega a URL em segundo plano, cancelando o carregamento anterior ainda em andamento
+     * (download interrompido e resumo descartado).
+     * A sessão retornada não é ativada: quem chamou decide em qual aba ela entra (setSession).
+     *
+     * @param progress recebe as etapas do carregamento, na thread do carregamento (pode ser null)
+     * @return sessão com o conteúdo completo pronto; cancelar o future interrompe o carregamento
+     */
+    public synchronized CompletableFuture<DocumentSession> loadContentAsync(String url, Consumer<String> progress) {
+        cancelLoad();
+        prefetcher.cancel(); // banda e CPU para o carregamento pedido
+
+        // Link pré-carregado: o texto completo já está pronto, só falta índice e resumo
+        Optional<DocumentSession> prefetched = prefetcher.take(url);
+        if (prefetched.isPresent()) {
+            DocumentSession page = prefetched.get();
+            startBackgroundWork(page);
+            report(progress, "Página pré-carregada");
+            System.out.println("DEBUG: Página servida pelo prefetch: " + url);
+            prefetchLinksAfterSummary(page);
+            inFlightLoad = CompletableFuture.completedFuture(page);
+            return CompletableFuture.completedFuture(page);
+        }
+
+        // Cancelar interrompe a thread (o jsoup aborta a leitura); se a página ficar pronta
+        // depois de cancelada, o resumo dela não interessa mais
+        CompletableFuture<DocumentSession> result = SCHEDULER.submit(TaskScheduler.Lane.FOREGROUND,
+                "carregar " + url, () -> loadSession(url, progress), DocumentSession::cancelBackgroundWork);
+        result.thenAccept(this::prefetchLinksAfterSummary);
+
+        inFlightLoad = result;
+        return result;
+    }
+
+    /**
+     * Pré-carrega os links prováveis da página depois que o resumo dela ficou pronto
+     * (a rodada de prefetch não disputa CPU com o resumo da página que o usuário está lendo)
+     */
+    private void prefetchLinksAfterSummary(DocumentSession page) {
+        prefetchSource = page;
+        if (page.links.isEmpty()) return;
+        page.essentialFuture.thenRun(() -> {
+            if (prefetchSource == page) { // outra página carregada enquanto isso: os links dela têm a vez
+                prefetcher.schedule(page.url, page.links);
+            }
+        });
+    }
+
+    /**
+     * Cancela o carregamento em andamento, se houver
+     *
+     * @return true se havia um carregamento e ele foi cancelado
+     */
+    public synchronized boolean cancelLoad() {
+        boolean cancelled = inFlightLoad.cancel(true);
+        if (cancelled) {
+            System.out.println("DEBUG: Carregamento anterior cancelado");
+        }
+        return cancelled;
+    }
+
+    /**
+     * Revalida em segundo plano uma página restaurada do histórico: baixa e extrai de novo e
+     * compara com o texto guardado (sem limpar nem resumir). Páginas validadas há pouco
+     * (-Dblindbrowser.history.revalidateAfterSeconds, padrão 60) não geram requisição.
+     *
+     * @return true se o conteúdo mudou no site desde a visita
+     */
+    public CompletableFuture<Boolean> revalidate(DocumentSession page) {
+        if (!page.isLoaded() || System.currentTimeMillis() - page.validatedAt < REVALIDATE_AFTER_MS) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return SCHEDULER.submit(TaskScheduler.Lane.BACKGROUND, "revalidar " + page.url, () -> {
+            JsoupParser parser = new JsoupParser(fetcher);
+            parser.ExtraiTexto(page.url);
+            if (parser.getErro()) {
+                System.err.println("⚠️ Revalidação falhou (mantida a versão guardada): " + page.url);
+                return false;
+            }
+            // Compara só o conteúdo principal: relógios, contadores e blocos curtos que mudam
+            // a cada acesso em páginas dinâmicas não contam como mudança
+            String stored = page.mainContentHash;
+            DocumentAnalysis storedAnalysis = page.analysis;
+            if (stored == null && storedAnalysis != null) {
+                stored = storedAnalysis.getMainContentHash();
+                page.mainContentHash = stored;
+            }
+            if (stored == null) {
+                return false; // sessão em disco antes do resumo: nada com que comparar
+            }
+            boolean changed = !stored.equals(parser.getAnalysis().getMainContentHash());
+            page.validatedAt = System.currentTimeMillis();
+            System.out.println("DEBUG: Revalidação de " + page.url + ": " + (changed ? "conteúdo mudou" : "inalterado"));
+            return changed;
+        });
+    }
 
+    /**
+     * Extrai a página e inicia o resumo em segundo plano, sem publicar a sessão
+     */
+    private DocumentSession loadSession(String url, Consumer<String> progress) throws Exception {
         System.out.println("🔄 Carregando conteúdo de: " + url);
 
-        // 1. Extrai conteúdo com Jsoup
         long startTime = System.currentTimeMillis();
+        DocumentSession page = extractPage(fetcher, url, progress);
+        page.completeLoadTime = System.currentTimeMillis() - startTime;
+        checkCancelled();
+
+        startBackgroundWork(page);
+        System.out.printf("DEBUG: Conteúdo completo pronto em %dms; resumo em segundo plano%n", page.completeLoadTime);
+        return page;
+    }
+
+    /**
+     * Download, extração, análise e versão completa (passos 1-3), sem índice de busca nem resumo.
+     * Também usado pelo prefetch de links, com um fetcher de orçamento próprio.
+     */
+    DocumentSession extractPage(PageFetcher pageFetcher, String url, Consumer<String> progress) throws Exception {
+        // 1. Extrai conteúdo com Jsoup (parser por carregamento: um carregamento cancelado
+        //    que ainda esteja terminando não mistura estado com o seguinte)
+        report(progress, "Conectando a " + url + "…");
+        JsoupParser parser = new JsoupParser(pageFetcher);
         parser.ExtraiTexto(url);
+        checkCancelled();
 
         if (parser.getErro()) {
             throw new Exception("Erro ao extrair conteúdo: " + url);
         }
 
-        this.originalContent = parser.getTexto();
-        completeLoadTime = System.currentTimeMillis() - startTime;
+        // 2. Nova sessão (a categoria é classificada e memorizada na análise)
+        report(progress, "Analisando a página…");
+        DocumentSession page = new DocumentSession(url, parser.getTexto(), parser.getSectionIndex(), parser.getAnalysis());
+        page.links = parser.getLinkTable();
+        page.fetchedBytes = parser.getLastFetch().bytes;
+        page.fetchTruncated = parser.getLastFetch().truncated;
+        checkCancelled();
+
+        // 3. Limpa versão completa (preservando estrutura); a sessão começa no modo COMPLETE
+        report(progress, "Preparando conteúdo completo…");
+        String complete = cleanButPreserve(page.originalContent);
+        page.completeContent = complete;
+        page.currentMode = ContentMode.COMPLETE;
+        page.currentLevel = SummaryPyramid.Level.COMPLETE;
+        return page;
+    }
+
+    /**
+     * Índice de busca e resumo da página em segundo plano (passo 4)
+     */
+    private void startBackgroundWork(DocumentSession page) {
+        // Refinamentos de resumo da página anterior já não serão usados
+        ContentSummarizer.cancelPendingRefinements();
+
+        String complete = page.completeContent;
+        page.scheduleSearchIndex();
+
+        // 4. Gera versão resumida em segundo plano (snapshot da página: loadContent seguinte
+        //    ou o descarregamento da aba não interferem; cancelBackgroundWork interrompe)
+        String original = page.originalContent;
+        SectionIndex sections = page.sectionIndex;
+        DocumentAnalysis pageAnalysis = page.analysis;
+        long summaryStart = System.currentTimeMillis();
+
+        CompletableFuture<EssentialSummary> summaryResult = SCHEDULER.submit(TaskScheduler.Lane.SUMMARY,
+                "resumo " + page.url, () -> {
+                    EssentialSummary summary = summarizeEssential(original, sections, pageAnalysis, complete);
+                    // Sentenças já memorizadas pela pirâmide: a impressão digital sai quase de graça
+                    page.mainContentHash = pageAnalysis.getMainContentHash();
+                    checkCancelled();
+                    return summary;
+                });
+        page.summaryTask = summaryResult;
+
+        page.essentialFuture = summaryResult
+                .handle((summary, error) -> {
+                    if (error != null) {
+                        if (error instanceof CancellationException || error.getCause() instanceof CancellationException) {
+                            throw new CancellationException("Resumo cancelado: " + page.url);
+                        }
+                        System.err.println("⚠️ Falha ao gerar resumo: " + error.getMessage());
+                        summary = new EssentialSummary("Resumo indisponível para esta página. "
+                                + "Use o modo completo.", null, null);
+                    }
+                    page.pyramid = summary.pyramid;
+                    page.essentialLevel = summary.level;
+                    page.essentialContent = summary.text;
+                    page.essentialLoadTime = System.currentTimeMillis() - summaryStart;
+                    logLoadingStats(page);
+                    return summary.text;
+                });
+    }
+
+    /**
+     * Interrompe a etapa atual se o carregamento (ou o resumo) foi cancelado
+     */
+    private static void checkCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Carregamento cancelado");
+        }
+    }
+
+    private static void report(Consumer<String> progress, String message) {
+        System.out.println("DEBUG: " + message);
+        if (progress != null) progress.accept(message);
+    }
+
+    /**
+     * Links numerados da página ativa
+     */
+    public LinkTable getLinks() {
+        return session.links;
+    }
+
+    /**
+     * Link da página ativa pelo número exibido na tabela
+     */
+    public Optional<LinkTable.Link> getLink(int number) {
+        return session.links.get(number);
+    }
+
+    public LinkPrefetcher.PrefetchStats getPrefetchStats() {
+        return prefetcher.getStats();
+    }
+
+    /**
+     * Sessão da página ativa (para guardar por aba)
+     */
+    public DocumentSession getSession() {
+        return session;
+    }
 
-        // 2. Classifica o conteúdo
-        ContentClassifier.ContentCategory category = classifier.classifyContent(originalContent);
+    /**
+     * Ativa a sessão de uma aba. Se o estado dela foi descarregado em disco, a leitura e a
+     * reconstrução rodam na faixa FOREGROUND do agendador, nunca na thread chamadora (EDT).
+     *
+     * @return completa com true quando a sessão precisou ser reconstruída (a visão da aba deve
+     *         ser redesenhada); já completo com false se ela estava em memória
+     */
+    public CompletableFuture<Boolean> setSession(DocumentSession newSession) {
+        DocumentSession target = newSession != null ? newSession : new DocumentSession();
+        target.touch();
+        this.session = target;
+        if (!target.isSpilled()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return SCHEDULER.submit(TaskScheduler.Lane.FOREGROUND, "reconstrução " + target.getUrl(), () -> {
+            long start = System.currentTimeMillis();
+            try {
+                target.rehydrate(this::cleanButPreserve);
+                System.out.printf("DEBUG: Aba reconstruída do disco em %dms: %s%n",
+                        System.currentTimeMillis() - start, target.getUrl());
+                return true;
+            } catch (java.io.IOException e) {
+                System.err.println("❌ Falha ao reconstruir aba " + target.getUrl() + ": " + e.getMessage());
+                return false;
+            }
+        });
+    }
 
-        // 3. Gera versão resumida
-        startTime = System.currentTimeMillis();
-        this.essentialContent = summarizer.generateSummaryWithCategory(
-                originalContent, category);
-        essentialLoadTime = System.currentTimeMillis() - startTime;
+    /**
+     * Alterna entre modos sem bloquear: o modo completo está sempre pronto; o resumido
+     * espera o resumo em segundo plano apenas se ainda não estiver pronto
+     *
+     * @param applyOn onde a troca é aplicada à sessão quando o resumo ficar pronto
+     *                (a interface passa SwingUtilities::invokeLater)
+     */
+    public CompletableFuture<ContentSwitchResult> toggleMode(Executor applyOn) {
+        DocumentSession page = session;
+        SummaryPyramid.Level target = page.currentMode == ContentMode.ESSENTIAL
+                ? SummaryPyramid.Level.COMPLETE : SummaryPyramid.Level.ESSENTIAL;
+        return changeLevel(page, target, applyOn, true);
+    }
 
-        // 4. Limpa versão completa (preservando estrutura)
-        this.completeContent = cleanButPreserve(originalContent);
+    /**
+     * Um nível acima na pirâmide (manchete → curto → resumido → completo)
+     */
+    public CompletableFuture<ContentSwitchResult> moreDetail(Executor applyOn) {
+        return changeLevel(session.currentLevel.finer(), applyOn);
+    }
 
-        // 5. Inicia no modo ESSENTIAL
-        this.currentMode = ContentMode.ESSENTIAL;
+    /**
+     * Um nível abaixo na pirâmide (completo → resumido → curto → manchete)
+     */
+    public CompletableFuture<ContentSwitchResult> lessDetail(Executor applyOn) {
+        return changeLevel(session.currentLevel.coarser(), applyOn);
+    }
 
-        // 6. Log de estatísticas
-        logLoadingStats();
+    /**
+     * Vai para um nível da pirâmide sem bloquear; se o resumo ainda está sendo gerado,
+     * a troca é aplicada (em applyOn) quando ele ficar pronto
+     */
+    public CompletableFuture<ContentSwitchResult> changeLevel(SummaryPyramid.Level level, Executor applyOn) {
+        return changeLevel(session, level, applyOn, false);
     }
 
     /**
-     * Alterna entre modos e retorna o conteúdo
+     * Cancelar o future devolvido antes de o resumo ficar pronto desiste da troca
+     * (a sessão não é alterada)
      */
-    public ContentSwitchResult toggleMode() {
+    private CompletableFuture<ContentSwitchResult> changeLevel(DocumentSession page, SummaryPyramid.Level level,
+                                                               Executor applyOn, boolean toggle) {
+        if (level == SummaryPyramid.Level.COMPLETE || page.essentialFuture.isDone()) {
+            return CompletableFuture.completedFuture(switchLevel(page, level, 0, toggle));
+        }
+        long waitStart = System.currentTimeMillis();
+        return page.essentialFuture
+                .handle((text, error) -> text)
+                .thenApplyAsync(text -> switchLevel(page, level, System.currentTimeMillis() - waitStart, toggle),
+                        applyOn);
+    }
+
+    /**
+     * Aplica o nível à sessão com o que já está pronto (nunca espera)
+     */
+    private ContentSwitchResult switchLevel(DocumentSession page, SummaryPyramid.Level level, long waitedMillis,
+                                            boolean toggle) {
         ContentSwitchResult result = new ContentSwitchResult();
+        result.session = page;
+        result.waitedMillis = waitedMillis;
 
-        if (currentMode == ContentMode.ESSENTIAL) {
-            currentMode = ContentMode.COMPLETE;
-            result.content = completeContent;
-            result.message = "MODO COMPLETO ATIVADO - Conteúdo integral disponível";
-            result.readingTime = completeContent.length() / 50; // 50 chars/min
+        if (level == SummaryPyramid.Level.COMPLETE) {
+            result.content = page.completeContent;
         } else {
-            currentMode = ContentMode.ESSENTIAL;
-            result.content = essentialContent;
-            result.message = "MODO RESUMIDO ATIVADO - Leitura otimizada";
-            result.readingTime = essentialContent.length() / 50;
+            SummaryPyramid ready = page.pyramid;
+            if (ready == null) {
+                level = SummaryPyramid.Level.ESSENTIAL; // falha no resumo: só há resumido e completo
+                result.content = essentialNow(page);
+            } else {
+                result.content = ready.get(level);
+            }
         }
 
-        result.mode = currentMode;
-        result.characterCount = result.content.length();
+        page.currentLevel = level;
+        page.currentMode = level == SummaryPyramid.Level.COMPLETE ? ContentMode.COMPLETE : ContentMode.ESSENTIAL;
 
+        result.mode = page.currentMode;
+        result.level = level;
+        result.characterCount = result.content.length();
+        result.readingTime = result.content.length() / 50; // 50 chars/min
+        if (toggle) {
+            result.message = level == SummaryPyramid.Level.COMPLETE
+                    ? "MODO COMPLETO ATIVADO - Conteúdo integral disponível"
+                    : "MODO RESUMIDO ATIVADO - Leitura otimizada";
+        } else {
+            result.message = String.format("NÍVEL %d/%d: %s",
+                    level.ordinal() + 1, SummaryPyramid.Level.values().length, level);
+        }
         return result;
     }
 
     /**
-     * Busca termo no conteúdo completo com contexto
+     * Busca no conteúdo completo pelo índice invertido: sem acento/caixa, várias palavras,
+     * "frase exata" e prefixo*; sentenças ordenadas por relevância (BM25).
+     * Não bloqueia: se o índice ainda está sendo montado, o resultado chega quando ele ficar pronto
+     *
+     * @param deliverOn onde o resultado é entregue (ex.: SwingUtilities::invokeLater)
      */
-    public SearchResult searchInComplete(String keyword) {
-        if (completeContent == null || keyword == null || keyword.trim().isEmpty()) {
-            return new SearchResult(false, "Busca inválida", null);
+    public CompletableFuture<SearchResult> searchInComplete(String keyword, Executor deliverOn) {
+        DocumentSession page = session;
+        if (page.completeContent == null || keyword == null || keyword.trim().isEmpty()) {
+            return CompletableFuture.completedFuture(new SearchResult(false, "Busca inválida", null));
         }
 
-        String keywordLower = keyword.toLowerCase();
-        String contentLower = completeContent.toLowerCase();
-
-        // Encontra todas as ocorrências
-        List<SearchMatch> matches = new ArrayList<>();
-        int index = 0;
-
-        while ((index = contentLower.indexOf(keywordLower, index)) != -1) {
-            // Extrai contexto (150 chars antes e depois)
-            int contextStart = Math.max(0, index - 150);
-            int contextEnd = Math.min(completeContent.length(), index + keyword.length() + 150);
+        return page.searchIndexAsync()
+                .thenApply(index -> search(page, index, keyword))
+                .exceptionally(error -> new SearchResult(false,
+                        "Índice de busca indisponível: " + rootMessage(error), null))
+                .thenApplyAsync(result -> result, deliverOn);
+    }
 
-            String context = completeContent.substring(contextStart, contextEnd);
+    private static String rootMessage(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+    }
 
-            // Marca o termo encontrado
-            String markedContext = context.replaceAll(
-                    "(?i)" + Pattern.quote(keyword),
-                    ">>> " + keyword.toUpperCase() + " <<<"
-            );
+    private SearchResult search(DocumentSession page, InvertedIndex index, String keyword) {
+        long start = System.nanoTime();
+        InvertedIndex.SearchHits hits = index.search(keyword, SEARCH_RESULTS);
 
-            matches.add(new SearchMatch(index, markedContext, contextStart));
-            index += keyword.length();
+        List<SearchMatch> matches = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits.hits) {
+            matches.add(toSearchMatch(page.completeContent, hit));
         }
+        System.out.printf("DEBUG: Busca '%s' em %.3f ms (%d sentenças)%n",
+                keyword, (System.nanoTime() - start) / 1e6, hits.matchingSentences);
 
         // Salva no histórico
-        searchHistory.put(keyword, String.valueOf(matches.size()));
+        searchHistory.put(keyword, String.valueOf(hits.matchingSentences));
 
         if (matches.isEmpty()) {
             return new SearchResult(false,
                     "Termo '" + keyword + "' não encontrado", null);
         } else {
             String message = String.format(
-                    "Encontradas %d ocorrências de '%s'", matches.size(), keyword);
+                    "Encontradas %d ocorrências de '%s' em %d trechos", hits.occurrences, keyword, hits.matchingSentences);
+            if (!hits.allTerms) {
+                message += " (nenhum trecho contém todos os termos)";
+            }
             return new SearchResult(true, message, matches);
         }
     }
 
+    /**
+     * Trecho da sentença ao redor da primeira ocorrência, com os termos marcados
+     */
+    private static SearchMatch toSearchMatch(String content, InvertedIndex.Hit hit) {
+        int first = hit.matchStarts[0];
+        int contextStart = Math.max(hit.start, first - SEARCH_CONTEXT_CHARS);
+        int contextEnd = Math.min(hit.end, hit.matchEnds[0] + SEARCH_CONTEXT_CHARS);
+
+        StringBuilder context = new StringBuilder(contextEnd - contextStart + 16);
+        int position = contextStart;
+        for (int i = 0; i < hit.matchStarts.length; i++) {
+            int matchStart = hit.matchStarts[i];
+            int matchEnd = Math.min(hit.matchEnds[i], contextEnd);
+            if (matchStart < position || matchStart >= contextEnd) continue;
+            context.append(content, position, matchStart)
+                    .append(">>> ").append(content.substring(matchStart, matchEnd).toUpperCase()).append(" <<<");
+            position = matchEnd;
+        }
+        context.append(content, position, contextEnd);
+
+        return new SearchMatch(first, context.toString().trim(), contextStart, hit.score);
+    }
+
     /**
      * Navega para seção específica no conteúdo
+     * Usa o índice de seções: apenas a seção encontrada é recortada e limpa
      */
     public String navigateToSection(String sectionName) {
-        if (completeContent == null) return "Conteúdo não carregado";
-
-        // Procura por marcadores de seção
-        String[] sectionMarkers = {
-                "== " + sectionName,
-                "## " + sectionName,
-                sectionName.toUpperCase() + ":",
-                "[" + sectionName + "]"
-        };
-
-        for (String marker : sectionMarkers) {
-            int index = completeContent.indexOf(marker);
-            if (index != -1) {
-                // Retorna a seção (até próximo marcador ou 1000 chars)
-                int endIndex = Math.min(index + 1000, completeContent.length());
-
-                // Procura próximo marcador de seção
-                String nextSection = completeContent.substring(index + marker.length());
-                int nextMarker = nextSection.indexOf("==");
-                if (nextMarker != -1) {
-                    endIndex = Math.min(index + nextMarker, endIndex);
-                }
-
-                return completeContent.substring(index, endIndex);
-            }
-        }
+        if (session.completeContent == null || session.sectionIndex == null) return "Conteúdo não carregado";
 
-        return "Seção '" + sectionName + "' não encontrada";
+        return session.sectionIndex.find(sectionName)
+                .map(section -> session.sectionIndex.getText(section, this::cleanButPreserve))
+                .orElse("Seção '" + sectionName + "' não encontrada");
+    }
+
+    /**
+     * Resume apenas a seção pedida (resumo calculado uma vez e reaproveitado)
+     */
+    public String summarizeSection(String sectionName) {
+        if (session.sectionIndex == null) return "Conteúdo não carregado";
+
+        return session.sectionIndex.find(sectionName)
+                .map(section -> session.sectionIndex.getSummary(section, this::cleanButPreserve,
+                        text -> summarizer.generateSummaryWithCategory(text, session.category)))
+                .orElse("Seção '" + sectionName + "' não encontrada");
+    }
+
+    /**
+     * Resumo do artigo inteiro (não só da introdução): seções resumidas em paralelo
+     * e depois combinadas, dentro do limite de caracteres Braille
+     */
+    public String summarizeWholeArticle() {
+        if (session.analysis == null) return "Conteúdo não carregado";
+        return summarizer.generateHierarchicalSummary(session.analysis, session.sectionIndex);
+    }
+
+    /**
+     * Títulos das seções, na ordem do documento
+     */
+    public List<String> getSectionTitles() {
+        List<String> titles = new ArrayList<>();
+        if (session.sectionIndex != null) {
+            session.sectionIndex.getSections().forEach(s -> titles.add(s.title));
+        }
+        return titles;
     }
 
     /**
@@ -206,9 +584,12 @@ public class DualModeContentManager {
     public ContentStats getContentStats() {
         ContentStats stats = new ContentStats();
 
+        // Resumo ainda em geração conta como vazio: estatísticas nunca bloqueiam
+        DocumentSession session = this.session;
+        String essentialContent = session.essentialContent;
         stats.essentialChars = essentialContent != null ? essentialContent.length() : 0;
-        stats.completeChars = completeContent != null ? completeContent.length() : 0;
-        stats.originalChars = originalContent != null ? originalContent.length() : 0;
+        stats.completeChars = session.completeContent != null ? session.completeContent.length() : 0;
+        stats.originalChars = session.originalLength;
 
         stats.essentialReadingTime = stats.essentialChars / 50; // minutos
         stats.completeReadingTime = stats.completeChars / 50;
@@ -216,12 +597,13 @@ public class DualModeContentManager {
         stats.reductionPercentage = stats.originalChars > 0 ?
                 ((1.0 - (double)stats.essentialChars / stats.originalChars) * 100) : 0;
 
-        stats.currentMode = currentMode;
-        stats.url = currentUrl;
+        stats.currentMode = session.currentMode;
+        stats.url = session.url;
+        stats.essentialLevel = session.essentialLevel;
 
         // Conta sentenças
         stats.essentialSentences = countSentences(essentialContent);
-        stats.completeSentences = countSentences(completeContent);
+        stats.completeSentences = countSentences(session.completeContent);
 
         return stats;
     }
@@ -230,15 +612,14 @@ public class DualModeContentManager {
      * Exporta conteúdo atual para arquivo
      */
     public void exportCurrentContent(String filename) throws Exception {
-        String content = (currentMode == ContentMode.ESSENTIAL) ?
-                essentialContent : completeContent;
+        String content = getCurrentContent();
 
         try (java.io.PrintWriter writer = new java.io.PrintWriter(filename)) {
             writer.println("=".repeat(60));
             writer.println("BLINDBROWSER - CONTEÚDO EXPORTADO");
             writer.println("=".repeat(60));
-            writer.println("URL: " + currentUrl);
-            writer.println("Modo: " + currentMode.toString());
+            writer.println("URL: " + session.url);
+            writer.println("Modo: " + session.currentMode.toString());
             writer.println("Data: " + new Date());
             writer.println("=".repeat(60));
             writer.println();
@@ -262,14 +643,80 @@ public class DualModeContentManager {
                 .trim();
     }
 
-    private void logLoadingStats() {
+    /**
+     * Resumo e nível alcançado, produzidos juntos pelo worker de segundo plano
+     */
+    private static class EssentialSummary {
+        final String text;
+        final ContentSummarizer.SummaryLevel level;
+        final SummaryPyramid pyramid; // null se o resumo falhou
+
+        EssentialSummary(SummaryPyramid pyramid, ContentSummarizer.SummaryLevel level) {
+            this(pyramid.get(SummaryPyramid.Level.ESSENTIAL), level, pyramid);
+        }
+
+        EssentialSummary(String text, ContentSummarizer.SummaryLevel level, SummaryPyramid pyramid) {
+            this.text = text;
+            this.level = level;
+            this.pyramid = pyramid;
+        }
+    }
+
+    /**
+     * Gera a versão resumida de uma página (executa na faixa SUMMARY do agendador)
+     */
+    private EssentialSummary summarizeEssential(String original, SectionIndex sections,
+                                                DocumentAnalysis pageAnalysis, String complete) {
+        if (original.length() > LONG_ARTICLE_THRESHOLD && sections.size() > 1) {
+            // Artigo longo: resume só a introdução; demais seções sob demanda
+            return buildLeadFirstSummary(sections, pageAnalysis.getCategory(), complete);
+        }
+        // Resumido dentro do prazo do F2; manchete e curto saem das sentenças dele
+        ContentSummarizer.TimedSummary timed = summarizer.generateTimedSummary(pageAnalysis);
+        SummaryPyramid pyramid = summarizer.buildPyramid(pageAnalysis, complete, timed);
+        return new EssentialSummary(pyramid, timed.level);
+    }
+
+    /**
+     * Resumo de artigo longo: pirâmide da introdução, com o sumário de seções ao fim do resumido
+     */
+    private EssentialSummary buildLeadFirstSummary(SectionIndex sections, ContentClassifier.ContentCategory pageCategory,
+                                                   String complete) {
+        SectionIndex.Section lead = sections.getLead().get();
+        String leadText = sections.getText(lead, this::cleanButPreserve);
+        DocumentAnalysis leadAnalysis = DocumentAnalysis.of(leadText, pageCategory);
+        ContentSummarizer.TimedSummary timed = summarizer.generateTimedSummary(leadAnalysis);
+        SummaryPyramid leadPyramid = summarizer.buildPyramid(leadAnalysis, complete, timed);
+
+        StringBuilder sb = new StringBuilder("[SEÇÕES DISPONÍVEIS]\n");
+        for (SectionIndex.Section section : sections.getSections()) {
+            if (section != lead && section.level >= 2) {
+                sb.append("• ").append(section.title).append("\n");
+            }
+        }
+        return new EssentialSummary(leadPyramid.withEssentialAppendix(sb.toString().trim()), timed.level);
+    }
+
+    /**
+     * Resumo da sessão se já estiver pronto (null enquanto é gerado)
+     */
+    private static String essentialNow(DocumentSession page) {
+        try {
+            return page.essentialFuture.getNow(null);
+        } catch (CompletionException | CancellationException e) {
+            return "Resumo indisponível para esta página. Use o modo completo.";
+        }
+    }
+
+    private void logLoadingStats(DocumentSession page) {
         System.out.printf("Aguarde… Conteúdo carregado:\n");
-        System.out.printf("   - Original: %d chars\n", originalContent.length());
+        System.out.printf("   - Original: %d chars\n", page.originalLength);
         System.out.printf("   - Resumido: %d chars (%.1f%% redução)\n",
-                essentialContent.length(),
-                (1.0 - (double)essentialContent.length()/originalContent.length()) * 100);
-        System.out.printf("   - Tempo processamento: %dms (completo) + %dms (resumo)\n",
-                completeLoadTime, essentialLoadTime);
+                page.essentialContent.length(),
+                (1.0 - (double)page.essentialContent.length()/page.originalLength) * 100);
+        System.out.printf("   - Tempo processamento: %dms (completo) + %dms (resumo, nível %s)\n",
+                page.completeLoadTime, page.essentialLoadTime, page.essentialLevel);
+        System.out.println("   - " + ContentSummarizer.getCacheStats());
         System.out.println("   - Pressione F2 para alternar entre modos");
     }
 
@@ -281,19 +728,66 @@ public class DualModeContentManager {
     // Getters
 
     public ContentMode getCurrentMode() {
-        return currentMode;
+        return session.currentMode;
     }
 
     public String getCurrentContent() {
-        return currentMode == ContentMode.ESSENTIAL ? essentialContent : completeContent;
+        DocumentSession page = session;
+        if (page.currentMode == ContentMode.COMPLETE) return page.completeContent;
+        SummaryPyramid ready = page.pyramid;
+        return ready != null ? ready.get(page.currentLevel) : essentialNow(page);
     }
 
+    /**
+     * Nível da pirâmide exibido (ESSENTIAL/COMPLETE acompanham o modo do F2)
+     */
+    public SummaryPyramid.Level getCurrentLevel() {
+        return session.currentLevel;
+    }
+
+    /**
+     * Pirâmide da página atual (null enquanto o resumo é gerado)
+     */
+    public SummaryPyramid getPyramid() {
+        return session.pyramid;
+    }
+
+    /**
+     * Resumo da página atual; null enquanto ainda estiver sendo gerado
+     * (para esperar sem bloquear, use {@link #getEssentialFuture()})
+     */
     public String getEssentialContent() {
-        return essentialContent;
+        return essentialNow(session);
+    }
+
+    /**
+     * Resumo da página atual, completado pelo worker de segundo plano
+     */
+    public CompletableFuture<String> getEssentialFuture() {
+        return session.essentialFuture;
+    }
+
+    public boolean isEssentialReady() {
+        return session.essentialFuture.isDone();
     }
 
     public String getCompleteContent() {
-        return completeContent;
+        return session.completeContent;
+    }
+
+    public SectionIndex getSectionIndex() {
+        return session.sectionIndex;
+    }
+
+    public DocumentAnalysis getAnalysis() {
+        return session.analysis;
+    }
+
+    /**
+     * Nível de qualidade que o resumo atual alcançou dentro do prazo
+     */
+    public ContentSummarizer.SummaryLevel getEssentialLevel() {
+        return session.essentialLevel;
     }
 
     public Map<String, String> getSearchHistory() {
@@ -308,6 +802,9 @@ public class DualModeContentManager {
         public String message;
         public int characterCount;
         public int readingTime; // minutos
+        public long waitedMillis; // espera pelo resumo em segundo plano (0 se já estava pronto)
+        public SummaryPyramid.Level level;
+        public DocumentSession session; // sessão em que a troca foi aplicada
     }
 
     public static class SearchResult {
@@ -326,11 +823,17 @@ public class DualModeContentManager {
         public int position;
         public String context;
         public int contextStart;
+        public double score; // relevância BM25 do trecho
 
         public SearchMatch(int position, String context, int contextStart) {
+            this(position, context, contextStart, 0);
+        }
+
+        public SearchMatch(int position, String context, int contextStart, double score) {
             this.position = position;
             this.context = context;
             this.contextStart = contextStart;
+            this.score = score;
         }
     }
 
@@ -343,6 +846,7 @@ public class DualModeContentManager {
         public double reductionPercentage;
         public ContentMode currentMode;
         public String url;
+        public ContentSummarizer.SummaryLevel essentialLevel;
         public int essentialSentences;
         public int completeSentences;
 
@@ -357,6 +861,9 @@ public class DualModeContentManager {
             sb.append(String.format("  %d caracteres\n", essentialChars));
             sb.append(String.format("  %d sentenças\n", essentialSentences));
             sb.append(String.format("  ~%d min leitura Braille\n", essentialReadingTime));
+            if (essentialLevel != null) {
+                sb.append(String.format("  nível: %s\n", essentialLevel.getDescription()));
+            }
             sb.append("\nCOMPLETO:\n");
             sb.append(String.format("   %d caracteres\n", completeChars));
             sb.append(String.format("   %d sentenças\n", completeSentences));
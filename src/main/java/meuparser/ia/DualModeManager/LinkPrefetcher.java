@@ -0,0 +1,226 @@
+package meuparser.ia.DualModeManager;
+
+import meuparser.ia.LinkTable;
+import meuparser.scheduler.TaskScheduler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Pré-carrega os links mais prováveis da página atual, para que segui-los seja imediato.
+ *
+ * Uma rodada por página, depois que o resumo dela ficou pronto: os primeiros links do mesmo
+ * site (ordem do documento), depois os de outros sites, até -Dblindbrowser.prefetch.count (padrão 3).
+ * Cada página é baixada e extraída (texto completo pronto, sem índice nem resumo) na faixa
+ * PREFETCH do agendador (baixa prioridade), dentro de um orçamento por rodada:
+ *   -Dblindbrowser.prefetch.budgetKB  bytes baixados (padrão 1536); cada download lê no máximo
+ *                                     o que resta dele, e uma página cortada no limite é descartada
+ *   -Dblindbrowser.prefetch.cpuMs     tempo de CPU da thread (padrão 1500)
+ * Um carregamento pedido pelo usuário cancela a rodada em andamento (preempção da faixa).
+ * As páginas prontas ficam num LRU pequeno (-Dblindbrowser.prefetch.cacheSize, padrão 6).
+ */
+public class LinkPrefetcher {
+
+    private static final int PREFETCH_COUNT = Integer.getInteger("blindbrowser.prefetch.count", 3);
+    private static final long BUDGET_BYTES = Long.getLong("blindbrowser.prefetch.budgetKB", 1536) * 1024;
+    private static final long CPU_BUDGET_NANOS = Long.getLong("blindbrowser.prefetch.cpuMs", 1500) * 1_000_000;
+    private static final int CACHE_SIZE = Integer.getInteger("blindbrowser.prefetch.cacheSize", 6);
+
+    // Arquivos que não são páginas de texto
+    private static final Pattern NON_PAGE = Pattern.compile(
+            "\\.(pdf|jpe?g|png|gif|svg|webp|zip|rar|7z|mp3|mp4|avi|mov|exe|msi|docx?|xlsx?|pptx?)$");
+
+    /**
+     * Extração de uma página sem publicar a sessão (DualModeContentManager.extractPage),
+     * lendo no máximo maxBytes do corpo da resposta
+     */
+    @FunctionalInterface
+    interface PageLoader {
+        DocumentSession load(String url, long maxBytes) throws Exception;
+    }
+
+    private final PageLoader loader;
+
+    // URL -> página extraída, em ordem de acesso
+    private final LinkedHashMap<String, DocumentSession> ready = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DocumentSession> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private Future<?> round;
+
+    // Estatísticas
+    private final AtomicLong prefetched = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong budgetStops = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    LinkPrefetcher(PageLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Nova rodada para os links da página (cancela a anterior)
+     */
+    public synchronized void schedule(String pageUrl, LinkTable links) {
+        cancel();
+        List<String> candidates = selectCandidates(pageUrl, links);
+        if (candidates.isEmpty()) return;
+        round = TaskScheduler.getInstance().run(TaskScheduler.Lane.PREFETCH, "prefetch " + pageUrl,
+                () -> prefetch(candidates));
+    }
+
+    /**
+     * Interrompe a rodada em andamento (carregamento do usuário tem prioridade)
+     */
+    public synchronized void cancel() {
+        if (round != null) {
+            round.cancel(true);
+            round = null;
+        }
+    }
+
+    /**
+     * Retira a página pré-carregada do cache (a sessão passa a pertencer a uma aba)
+     */
+    public Optional<DocumentSession> take(String url) {
+        DocumentSession page;
+        synchronized (ready) {
+            page = ready.remove(url);
+        }
+        (page != null ? hits : misses).incrementAndGet();
+        return Optional.ofNullable(page);
+    }
+
+    private List<String> selectCandidates(String pageUrl, LinkTable links) {
+        String host = hostOf(pageUrl);
+        List<String> sameSite = new ArrayList<>();
+        List<String> otherSites = new ArrayList<>();
+
+        for (LinkTable.Link link : links.getLinks()) {
+            if (NON_PAGE.matcher(link.url.toLowerCase(Locale.ROOT)).find()) continue;
+            synchronized (ready) {
+                if (ready.containsKey(link.url)) continue;
+            }
+            (host != null && host.equalsIgnoreCase(hostOf(link.url)) ? sameSite : otherSites).add(link.url);
+            if (sameSite.size() >= PREFETCH_COUNT) break;
+        }
+
+        List<String> candidates = new ArrayList<>(sameSite);
+        for (String url : otherSites) {
+            if (candidates.size() >= PREFETCH_COUNT) break;
+            candidates.add(url);
+        }
+        return candidates;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            return URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void prefetch(List<String> candidates) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean measureCpu = threads.isCurrentThreadCpuTimeSupported();
+        long cpuStart = measureCpu ? threads.getCurrentThreadCpuTime() : 0;
+        long spentBytes = 0;
+
+        for (String url : candidates) {
+            if (Thread.currentThread().isInterrupted()) return;
+            long cpu = measureCpu ? threads.getCurrentThreadCpuTime() - cpuStart : 0;
+            if (spentBytes >= BUDGET_BYTES || cpu >= CPU_BUDGET_NANOS) {
+                budgetStops.incrementAndGet();
+                System.out.printf("DEBUG: Prefetch interrompido pelo orçamento (%d KB, %d ms de CPU)%n",
+                        spentBytes / 1024, cpu / 1_000_000);
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            try {
+                DocumentSession page = loader.load(url, BUDGET_BYTES - spentBytes);
+                spentBytes += page.fetchedBytes;
+                bytes.addAndGet(page.fetchedBytes);
+                if (Thread.currentThread().isInterrupted()) return;
+                if (page.fetchTruncated) {
+                    // Página maior que o orçamento restante: incompleta, não vai para o cache
+                    budgetStops.incrementAndGet();
+                    System.out.printf("DEBUG: Prefetch cortado no orçamento (%d KB): %s%n", spentBytes / 1024, url);
+                    return;
+                }
+
+                synchronized (ready) {
+                    ready.put(url, page);
+                }
+                prefetched.incrementAndGet();
+                System.out.printf("DEBUG: Prefetch pronto em %dms (%d KB): %s%n",
+                        System.currentTimeMillis() - start, page.fetchedBytes / 1024, url);
+            } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) return; // cancelado: não é falha
+                failures.incrementAndGet();
+                System.out.println("DEBUG: Prefetch falhou (" + e.getMessage() + "): " + url);
+            }
+        }
+    }
+
+    public PrefetchStats getStats() {
+        int cached;
+        synchronized (ready) {
+            cached = ready.size();
+        }
+        return new PrefetchStats(cached, prefetched.get(), hits.get(), misses.get(),
+                failures.get(), budgetStops.get(), bytes.get());
+    }
+
+    /**
+     * Estatísticas do prefetch de links
+     */
+    public static class PrefetchStats {
+        public final int cached;
+        public final long prefetched;
+        public final long hits;
+        public final long misses;
+        public final long failures;
+        public final long budgetStops;
+        public final long bytes;
+
+        public PrefetchStats(int cached, long prefetched, long hits, long misses,
+                             long failures, long budgetStops, long bytes) {
+            this.cached = cached;
+            this.prefetched = prefetched;
+            this.hits = hits;
+            this.misses = misses;
+            this.failures = failures;
+            this.budgetStops = budgetStops;
+            this.bytes = bytes;
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total > 0 ? (double) hits / total * 100 : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Prefetch[%d prontas, %d pré-carregadas, %d acertos, %d erros de cache (%.0f%%), "
+                            + "%d falhas, %d cortes de orçamento, %d KB]",
+                    cached, prefetched, hits, misses, getHitRate(), failures, budgetStops, bytes / 1024);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package meuparser.ia.DualModeManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Histórico de navegação de uma aba: as sessões visitadas (conteúdo, resumos, pirâmide e
+ * posição de leitura) e a entrada atual. Voltar/avançar só troca o índice; nada é recarregado.
+ * Acesso sincronizado pelo TabSessionManager.
+ */
+class NavigationHistory {
+
+    private final List<DocumentSession> entries = new ArrayList<>();
+    private int index;
+
+    NavigationHistory() {
+        entries.add(new DocumentSession());
+    }
+
+    DocumentSession current() {
+        return entries.get(index);
+    }
+
+    /**
+     * Nova página: descarta as entradas à frente e as mais antigas acima do limite
+     *
+     * @return entradas removidas (para cancelar resumos e apagar arquivos descarregados)
+     */
+    List<DocumentSession> push(DocumentSession session, int maxEntries) {
+        List<DocumentSession> removed = new ArrayList<>();
+        // Aba vazia: a primeira página ocupa o lugar da sessão vazia
+        if (!current().isLoaded()) {
+            removed.add(entries.set(index, session));
+        } else {
+            index++;
+            entries.add(index, session);
+        }
+        while (entries.size() > index + 1) {
+            removed.add(entries.remove(entries.size() - 1));
+        }
+        while (entries.size() > Math.max(1, maxEntries)) {
+            removed.add(entries.remove(0));
+            index--;
+        }
+        return removed;
+    }
+
+    boolean canGoBack() {
+        return index > 0;
+    }
+
+    boolean canGoForward() {
+        return index < entries.size() - 1;
+    }
+
+    /**
+     * @param delta -1 para voltar, +1 para avançar
+     * @return nova entrada atual, ou null se não há para onde ir
+     */
+    DocumentSession move(int delta) {
+        int target = index + delta;
+        if (target < 0 || target >= entries.size()) return null;
+        index = target;
+        return entries.get(index);
+    }
+
+    List<DocumentSession> entries() {
+        return entries;
+    }
+
+    int position() {
+        return index;
+    }
+}
@@ -0,0 +1,161 @@
+package meuparser.ia.DualModeManager;
+
+import java.util.Arrays;
+
+/**
+ * Visão paginada de um texto longo: a interface recebe apenas a página atual
+ * (cabeçalho + página + rodapé), então o custo de layout do JTextArea não cresce com a página web.
+ *
+ * Os limites das páginas são calculados uma vez (quebrando em parágrafo, linha ou espaço,
+ * nessa ordem) e o texto de cada página só é recortado quando exibido. Posições são sempre
+ * guardadas no texto inteiro (offset de conteúdo), para servir de posição de leitura
+ * à narração e à linha Braille independentemente da página exibida.
+ * Tamanho da página: -Dblindbrowser.view.pageChars (padrão 8000).
+ */
+public class PagedDocument {
+
+    public static final int DEFAULT_PAGE_CHARS = Integer.getInteger("blindbrowser.view.pageChars", 8000);
+
+    // Uma quebra "natural" só é aceita na segunda metade da página; antes disso corta no limite
+    private static final double MIN_FILL = 0.5;
+
+    private final String header;
+    private final String content;
+    private final int[] pageStarts;
+    private int currentPage;
+
+    public PagedDocument(String header, String content) {
+        this(header, content, DEFAULT_PAGE_CHARS);
+    }
+
+    /**
+     * @param header    texto fixo exibido antes de cada página (modo, instruções)
+     * @param content   texto a paginar
+     * @param pageChars tamanho máximo de cada página em caracteres
+     */
+    public PagedDocument(String header, String content, int pageChars) {
+        this.header = header != null ? header : "";
+        this.content = content != null ? content : "";
+        this.pageStarts = computePageStarts(this.content, Math.max(1, pageChars));
+    }
+
+    private static int[] computePageStarts(String text, int pageChars) {
+        int[] starts = new int[text.length() / pageChars + 2];
+        int count = 0;
+        int start = 0;
+        do {
+            if (count == starts.length) starts = Arrays.copyOf(starts, count * 2);
+            starts[count++] = start;
+            start = findPageEnd(text, start, pageChars);
+        } while (start < text.length());
+        return Arrays.copyOf(starts, count);
+    }
+
+    private static int findPageEnd(String text, int start, int pageChars) {
+        int limit = start + pageChars;
+        if (limit >= text.length()) return text.length();
+
+        int minimum = start + (int) (pageChars * MIN_FILL);
+        int paragraph = -1, line = -1, space = -1;
+        // Busca para trás limitada à segunda metade da página (lastIndexOf percorreria o texto todo)
+        for (int i = limit - 1; i >= minimum; i--) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                if (i > 0 && text.charAt(i - 1) == '\n') {
+                    paragraph = i;
+                    break;
+                }
+                if (line < 0) line = i;
+            } else if (c == ' ' && space < 0) {
+                space = i;
+            }
+        }
+        if (paragraph >= 0) return paragraph + 1;
+        if (line >= 0) return line + 1;
+        if (space >= 0) return space + 1;
+        return limit;
+    }
+
+    public int getPageCount() {
+        return pageStarts.length;
+    }
+
+    public boolean isPaged() {
+        return pageStarts.length > 1;
+    }
+
+    public int getLength() {
+        return content.length();
+    }
+
+    public int getCurrentPage() {
+        return currentPage;
+    }
+
+    /**
+     * @return true se a página mudou
+     */
+    public boolean setCurrentPage(int page) {
+        int target = Math.max(0, Math.min(page, pageStarts.length - 1));
+        boolean changed = target != currentPage;
+        currentPage = target;
+        return changed;
+    }
+
+    public int getPageStart(int page) {
+        return pageStarts[page];
+    }
+
+    public int getPageEnd(int page) {
+        return page + 1 < pageStarts.length ? pageStarts[page + 1] : content.length();
+    }
+
+    /**
+     * Página que contém o offset de conteúdo
+     */
+    public int pageOf(int offset) {
+        int index = Arrays.binarySearch(pageStarts, Math.max(0, offset));
+        return index >= 0 ? index : -index - 2;
+    }
+
+    /**
+     * Texto entregue ao JTextArea para a página atual
+     */
+    public String renderCurrentPage() {
+        String page = content.substring(getPageStart(currentPage), getPageEnd(currentPage));
+        if (!isPaged()) return header + page;
+        return header + page + "\n\n" + "─".repeat(10) + String.format(
+                " Página %d/%d (Ctrl+PageDown: próxima, Ctrl+PageUp: anterior) ", currentPage + 1, getPageCount())
+                + "─".repeat(10);
+    }
+
+    /**
+     * Caret do JTextArea (página atual renderizada) → offset no conteúdo inteiro
+     */
+    public int toContentOffset(int caret) {
+        int start = getPageStart(currentPage);
+        int local = Math.max(0, caret - header.length());
+        return Math.min(start + local, getPageEnd(currentPage));
+    }
+
+    /**
+     * Offset no conteúdo inteiro → caret no JTextArea (a página do offset deve ser a atual)
+     */
+    public int toCaret(int offset) {
+        int clamped = Math.max(getPageStart(currentPage), Math.min(offset, getPageEnd(currentPage)));
+        return header.length() + clamped - getPageStart(currentPage);
+    }
+
+    /**
+     * Texto do offset até o fim da página que o contém (trecho para narração ou linha Braille)
+     */
+    public String textFrom(int offset) {
+        int start = Math.max(0, Math.min(offset, content.length()));
+        return content.substring(start, getPageEnd(pageOf(start)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PagedDocument[%d chars, página %d/%d]", content.length(), currentPage + 1, getPageCount());
+    }
+}
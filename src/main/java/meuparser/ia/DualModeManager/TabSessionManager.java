@@ -0,0 +1,241 @@
+package meuparser.ia.DualModeManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sessões de documento por aba, com histórico de navegação, sob um orçamento global de memória.
+ *
+ * Cada aba guarda as páginas visitadas (NavigationHistory); voltar/avançar reativa a sessão
+ * guardada, com resumos e posição de leitura, sem nova requisição de rede.
+ * Quando a soma das sessões residentes passa do orçamento (-Dblindbrowser.tabs.memoryBudgetMB,
+ * padrão 64), as sessões usadas há mais tempo (entradas de histórico e abas inativas) descarregam
+ * o estado pesado em disco (-Dblindbrowser.tabs.spillDir) e são reconstruídas ao voltar a elas.
+ * Entradas por aba: -Dblindbrowser.history.maxEntries (padrão 20).
+ */
+public class TabSessionManager {
+
+    private static final long DEFAULT_BUDGET_BYTES =
+            Long.getLong("blindbrowser.tabs.memoryBudgetMB", 64) * 1024 * 1024;
+    private static final Path DEFAULT_SPILL_DIR = Paths.get(System.getProperty("blindbrowser.tabs.spillDir",
+            Paths.get(System.getProperty("java.io.tmpdir"), "blindbrowser-tabs").toString()));
+    private static final int MAX_HISTORY_ENTRIES = Integer.getInteger("blindbrowser.history.maxEntries", 20);
+
+    private final long budgetBytes;
+    private final Path spillDirectory;
+    private final Map<Object, NavigationHistory> histories = new HashMap<>();
+
+    private long spills;
+    private long rehydrations;
+    private long historyRestores;
+
+    public TabSessionManager() {
+        this(DEFAULT_BUDGET_BYTES, DEFAULT_SPILL_DIR);
+    }
+
+    /**
+     * @param budgetBytes    memória máxima das sessões residentes (a página atual da aba ativa nunca é descarregada)
+     * @param spillDirectory diretório dos textos descarregados
+     */
+    public TabSessionManager(long budgetBytes, Path spillDirectory) {
+        this.budgetBytes = budgetBytes;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Sessão atual da aba (vazia se nada foi carregado nela)
+     */
+    public synchronized DocumentSession activate(Object tab) {
+        DocumentSession session = history(tab).current();
+        if (session.isSpilled()) {
+            rehydrations++;
+        }
+        return session;
+    }
+
+    private NavigationHistory history(Object tab) {
+        return histories.computeIfAbsent(tab, t -> new NavigationHistory());
+    }
+
+    /**
+     * Página carregada na aba: vira a entrada atual do histórico (as entradas à frente
+     * são descartadas) e o orçamento é aplicado
+     *
+     * @return abas cuja página exibida foi descarregada em disco (a interface pode liberar o texto delas)
+     */
+    public synchronized List<Object> put(Object tab, DocumentSession session) {
+        for (DocumentSession removed : history(tab).push(session, MAX_HISTORY_ENTRIES)) {
+            if (removed != session) {
+                removed.cancelBackgroundWork();
+                removed.discard();
+            }
+        }
+        return enforceBudget(tab);
+    }
+
+    /**
+     * Volta (-1) ou avança (+1) no histórico da aba
+     *
+     * @return sessão da entrada, ou vazio se não há para onde ir
+     */
+    public synchronized Optional<DocumentSession> navigate(Object tab, int delta) {
+        DocumentSession session = history(tab).move(delta);
+        if (session == null) return Optional.empty();
+        historyRestores++;
+        if (session.isSpilled()) {
+            rehydrations++;
+        }
+        return Optional.of(session);
+    }
+
+    public synchronized boolean canGoBack(Object tab) {
+        return history(tab).canGoBack();
+    }
+
+    public synchronized boolean canGoForward(Object tab) {
+        return history(tab).canGoForward();
+    }
+
+    /**
+     * Posição no histórico da aba, ex.: "2/5"
+     */
+    public synchronized String getHistoryPosition(Object tab) {
+        NavigationHistory history = history(tab);
+        return (history.position() + 1) + "/" + history.entries().size();
+    }
+
+    /**
+     * Aba fechada: remove o histórico e os arquivos descarregados
+     */
+    public synchronized void remove(Object tab) {
+        NavigationHistory history = histories.remove(tab);
+        if (history != null) {
+            for (DocumentSession session : history.entries()) {
+                session.cancelBackgroundWork();
+                session.discard();
+            }
+        }
+    }
+
+    /**
+     * Encerramento: cancela o trabalho em segundo plano e apaga os arquivos descarregados de todas as abas
+     */
+    public synchronized void removeAll() {
+        for (Object tab : new ArrayList<>(histories.keySet())) {
+            remove(tab);
+        }
+    }
+
+    /**
+     * Descarrega as sessões menos usadas até caber no orçamento
+     *
+     * @param activeTab aba em foco (a página exibida nela nunca é descarregada)
+     * @return abas cuja página exibida foi descarregada nesta chamada
+     */
+    public synchronized List<Object> enforceBudget(Object activeTab) {
+        List<Object> spilledTabs = new ArrayList<>();
+        long resident = getResidentBytes();
+        if (resident <= budgetBytes) return spilledTabs;
+
+        // Candidatas: todas as sessões carregadas em memória, menos a exibida na aba em foco,
+        // da usada há mais tempo para a mais recente
+        List<DocumentSession> candidates = new ArrayList<>();
+        Map<DocumentSession, Object> displayedIn = new IdentityHashMap<>();
+        for (Map.Entry<Object, NavigationHistory> entry : histories.entrySet()) {
+            DocumentSession displayed = entry.getValue().current();
+            displayedIn.put(displayed, entry.getKey());
+            for (DocumentSession session : entry.getValue().entries()) {
+                boolean active = entry.getKey() == activeTab && session == displayed;
+                if (!active && session.isLoaded() && !session.isSpilled()) {
+                    candidates.add(session);
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong(DocumentSession::getLastAccess));
+
+        for (DocumentSession session : candidates) {
+            if (resident <= budgetBytes) break;
+
+            long before = session.estimateBytes();
+            try {
+                session.spill(spillDirectory);
+                resident -= before - session.estimateBytes();
+                spills++;
+                Object tab = displayedIn.get(session);
+                if (tab != null) spilledTabs.add(tab);
+                System.out.printf("DEBUG: Sessão descarregada em disco (%d KB): %s%n", before / 1024, session.getUrl());
+            } catch (IOException e) {
+                System.err.println("⚠️ Falha ao descarregar sessão " + session.getUrl() + ": " + e.getMessage());
+            }
+        }
+        return spilledTabs;
+    }
+
+    /**
+     * Memória estimada de todas as sessões (todas as abas e entradas de histórico)
+     */
+    public synchronized long getResidentBytes() {
+        long total = 0;
+        for (NavigationHistory history : histories.values()) {
+            for (DocumentSession session : history.entries()) {
+                total += session.estimateBytes();
+            }
+        }
+        return total;
+    }
+
+    public synchronized SessionStats getStats() {
+        int sessionCount = 0;
+        int spilledCount = 0;
+        for (NavigationHistory history : histories.values()) {
+            for (DocumentSession session : history.entries()) {
+                if (!session.isLoaded()) continue;
+                sessionCount++;
+                if (session.isSpilled()) spilledCount++;
+            }
+        }
+        return new SessionStats(histories.size(), sessionCount, spilledCount, getResidentBytes(), budgetBytes,
+                spills, rehydrations, historyRestores);
+    }
+
+    /**
+     * Estatísticas das sessões por aba
+     */
+    public static class SessionStats {
+        public final int tabs;
+        public final int sessions;
+        public final int spilled;
+        public final long residentBytes;
+        public final long budgetBytes;
+        public final long spills;
+        public final long rehydrations;
+        public final long historyRestores;
+
+        public SessionStats(int tabs, int sessions, int spilled, long residentBytes, long budgetBytes,
+                            long spills, long rehydrations, long historyRestores) {
+            this.tabs = tabs;
+            this.sessions = sessions;
+            this.spilled = spilled;
+            this.residentBytes = residentBytes;
+            this.budgetBytes = budgetBytes;
+            this.spills = spills;
+            this.rehydrations = rehydrations;
+            this.historyRestores = historyRestores;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("TabSessions[%d abas, %d páginas, %d em disco, %d/%d KB, %d descarregamentos, "
+                            + "%d reconstruções, %d voltar/avançar]",
+                    tabs, sessions, spilled, residentBytes / 1024, budgetBytes / 1024, spills, rehydrations, historyRestores);
+        }
+    }
+}
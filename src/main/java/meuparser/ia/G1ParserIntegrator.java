@@ -1,7 +1,11 @@
 package meuparser.ia;
 
 import meuparser.MeuParser;
-import java.util.HashSet;
+import meuparser.ia.rules.SiteRuleEngine;
+import meuparser.ia.rules.SiteRuleProfile;
+import org.jsoup.nodes.Document;
+
+import java.util.Map;
 import java.util.Set;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -15,6 +19,7 @@ import java.time.format.DateTimeFormatter;
  */
 public class G1ParserIntegrator implements AIParserIntegrator {
     private final AIStats stats = new AIStats();
+    private static final String PERFIL_REGRAS = "g1";
     private static final String[] CATEGORIAS_G1 = {
             "Política", "Economia", "Mundo", "Tecnologia", "Concursos", "Educação",
             "Saúde", "Ciência", "Meio Ambiente", "Esporte", "Entretenimento"
@@ -24,12 +29,30 @@ public class G1ParserIntegrator implements AIParserIntegrator {
     private static final Pattern PATTERN_DATA = Pattern.compile("\\d{2}/\\d{2}/\\d{4} \\d{2}h\\d{2}");
     private static final Pattern PATTERN_AUTOR = Pattern.compile("Por ([\\p{L}\\s]+),");
     private static final Pattern PATTERN_CHAPEU = Pattern.compile("\\[([^\\]]+)\\]");
+    private static final Pattern PREFIXO_POR = Pattern.compile("^Por\\s+");
+    private static final Pattern SUFIXO_VIRGULA = Pattern.compile(",.*$");
+    private static final Pattern NAO_LETRA = Pattern.compile("[^\\p{L}\\s]");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+    private static final Pattern PARAGRAFO = Pattern.compile("\n\n");
 
     public G1ParserIntegrator(String folha) {
     }
 
     @Override
     public Optional<String> processContent(MeuParser parser) {
+        return processar(parser, null);
+    }
+
+    /**
+     * Versão DOM: metadados vêm de seletores/meta tags do Document já parseado,
+     * com os padrões de texto apenas como fallback
+     */
+    @Override
+    public Optional<String> processDocument(Document document, MeuParser parser) {
+        return processar(parser, document);
+    }
+
+    private Optional<String> processar(MeuParser parser, Document document) {
         if (parser == null) {
             throw new IllegalArgumentException("O parser não pode ser nulo");
         }
@@ -47,10 +70,17 @@ public class G1ParserIntegrator implements AIParserIntegrator {
         long startTime = System.currentTimeMillis();
 
         try {
+            // Regras do perfil: linhas de boilerplate e metadados declarados (meta.*)
+            Optional<SiteRuleProfile> perfil = perfil();
+            SiteRuleEngine regras = SiteRuleEngine.getInstance();
+            originalContent = perfil.map(p -> regras.stripBoilerplate(p, parser.getTexto())).orElse(originalContent);
+            Map<String, String> metadados = perfil.map(p -> regras.extractMetadata(p, document))
+                    .orElse(Map.of());
+
             // Extrair informações específicas do G1
-            String chapeu = extrairChapeu(originalContent);
-            String autor = extrairAutor(originalContent);
-            String dataPublicacao = extrairDataPublicacao(originalContent);
+            String chapeu = extrairChapeu(metadados, originalContent);
+            String autor = extrairAutor(metadados, originalContent);
+            String dataPublicacao = extrairDataPublicacao(metadados, originalContent);
             String[] palavrasChave = extrairPalavrasChaveG1(originalContent);
             String categoria = identificarCategoriaG1(originalContent, chapeu);
             String resumo = gerarResumoG1(originalContent);
@@ -76,6 +106,14 @@ public class G1ParserIntegrator implements AIParserIntegrator {
         }
     }
 
+    /**
+     * Metadados meta.* do perfil lidos no Document, sem reformatar o texto
+     */
+    @Override
+    public Map<String, String> extractMetadata(Document document) {
+        return perfil().map(p -> SiteRuleEngine.getInstance().extractMetadata(p, document)).orElse(Map.of());
+    }
+
     @Override
     public AIStats getStats() {
         return stats;
@@ -83,56 +121,33 @@ public class G1ParserIntegrator implements AIParserIntegrator {
 
     @Override
     public Set<String> getIrrelevantClasses() {
-        Set<String> classes = new HashSet<>();
-        // Classes específicas do G1 a serem ignoradas
-        classes.add("menu-item");
-        classes.add("barra-globocom");
-        classes.add("header-globo");
-        classes.add("glb-topo");
-        classes.add("glb-menu");
-        classes.add("glb-bloco");
-        classes.add("publicidade");
-        classes.add("comentarios");
-        classes.add("rodape");
-        classes.add("tags");
-        classes.add("share-bar");
-        classes.add("saibamais");
-        classes.add("lista-de-entidades");
-        classes.add("veja-tambem");
-        classes.add("barra-ferramentas");
-        classes.add("ultimas-regiao");
-        classes.add("mais-do-g1");
-        return classes;
+        // Classes específicas do G1 declaradas em siterules/g1.properties
+        return perfil().map(SiteRuleProfile::getIrrelevantClasses).orElse(Set.of());
     }
 
     @Override
     public Set<String> getIrrelevantIds() {
-        Set<String> ids = new HashSet<>();
-        // IDs específicos do G1 a serem ignorados
-        ids.add("glb-topo");
-        ids.add("glb-barra");
-        ids.add("glb-rodape");
-        ids.add("comentarios");
-        ids.add("ultimas-noticias");
-        ids.add("mais-lidas");
-        ids.add("lista-de-entidades");
-        ids.add("tags");
-        ids.add("comentarios");
-        ids.add("boxe-assinatura");
-        ids.add("boxe-relacionadas");
-        return ids;
+        return perfil().map(SiteRuleProfile::getIrrelevantIds).orElse(Set.of());
     }
 
     @Override
     public String getMainContentSelector() {
-        // Seletor CSS para o conteúdo principal no G1
-        return ".materia-conteudo";
+        return perfil().map(SiteRuleProfile::getMainSelector).orElse(".materia-conteudo");
+    }
+
+    private static Optional<SiteRuleProfile> perfil() {
+        return SiteRuleEngine.getInstance().getProfile(PERFIL_REGRAS);
     }
 
     /**
      * Extrai o chapéu (categoria principal) do conteúdo do G1
      */
-    private String extrairChapeu(String content) {
+    private String extrairChapeu(Map<String, String> metadados, String content) {
+        String chapeu = metadados.getOrDefault("chapeu", "");
+        if (!chapeu.isEmpty()) {
+            return chapeu;
+        }
+
         Matcher matcher = PATTERN_CHAPEU.matcher(content);
         if (matcher.find()) {
             return matcher.group(1).trim();
@@ -143,7 +158,14 @@ public class G1ParserIntegrator implements AIParserIntegrator {
     /**
      * Extrai o autor da matéria do G1
      */
-    private String extrairAutor(String content) {
+    private String extrairAutor(Map<String, String> metadados, String content) {
+        String autor = metadados.getOrDefault("autor", "");
+        if (!autor.isEmpty()) {
+            // "Por Fulano, g1" -> "Fulano"
+            autor = PREFIXO_POR.matcher(autor).replaceFirst("");
+            return SUFIXO_VIRGULA.matcher(autor).replaceFirst("").trim();
+        }
+
         Matcher matcher = PATTERN_AUTOR.matcher(content);
         if (matcher.find()) {
             return matcher.group(1).trim();
@@ -154,7 +176,12 @@ public class G1ParserIntegrator implements AIParserIntegrator {
     /**
      * Extrai a data de publicação da matéria do G1
      */
-    private String extrairDataPublicacao(String content) {
+    private String extrairDataPublicacao(Map<String, String> metadados, String content) {
+        String data = metadados.getOrDefault("data", "");
+        if (!data.isEmpty()) {
+            return data;
+        }
+
         Matcher matcher = PATTERN_DATA.matcher(content);
         if (matcher.find()) {
             return matcher.group().trim();
@@ -172,9 +199,8 @@ public class G1ParserIntegrator implements AIParserIntegrator {
         // Implementação simplificada para demonstração
         // Aqui seria interessante utilizar NLP para extração de entidades
 
-        String[] palavrasCandidatas = content.replaceAll("[^\\p{L}\\s]", " ")
-                .toLowerCase()
-                .split("\\s+");
+        String[] palavrasCandidatas = ESPACOS.split(NAO_LETRA.matcher(content).replaceAll(" ")
+                .toLowerCase());
 
         // Remover palavras comuns (implementação simplificada)
         Set<String> stopWords = Set.of("o", "a", "os", "as", "de", "da", "do",
@@ -221,7 +247,7 @@ public class G1ParserIntegrator implements AIParserIntegrator {
         // Para uma implementação real, usar técnicas de NLP para sumarização
 
         // Pegar os primeiros 2-3 parágrafos (normalmente o lide da notícia)
-        String[] paragrafos = content.split("\n\n");
+        String[] paragrafos = PARAGRAFO.split(content);
 
         if (paragrafos.length > 0) {
             if (paragrafos.length >= 2) {
@@ -38,8 +38,8 @@ public class GenericParserIntegrator implements AIParserIntegrator {
             // Registra estatísticas
             long startTime = System.currentTimeMillis();
 
-            // Formata usando SmartFormatter
-            String formattedContent = formatter.format(content);
+            // Formata usando SmartFormatter (análise compartilhada com as demais etapas da página)
+            String formattedContent = formatter.format(parser.getAnalysis());
 
             // Registra estatísticas de processamento
             long processingTime = System.currentTimeMillis() - startTime;
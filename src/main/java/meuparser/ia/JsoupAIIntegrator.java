@@ -3,18 +3,26 @@ package meuparser.ia;
 import meuparser.MeuParser;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.jsoup.select.Elements;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
 
 import java.io.IOException;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * Implementação do integrador IA otimizada com Jsoup
  */
 public class JsoupAIIntegrator implements AIParserIntegrator {
 
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
     private final AIStats stats;
     private final ContentSummarizer summarizer;
 
@@ -25,6 +33,18 @@ public class JsoupAIIntegrator implements AIParserIntegrator {
 
     @Override
     public Optional<String> processContent(MeuParser parser) {
+        return processar(parser, null);
+    }
+
+    /**
+     * Usa o Document já parseado pela extração em vez de reparsear o HTML
+     */
+    @Override
+    public Optional<String> processDocument(Document document, MeuParser parser) {
+        return processar(parser, document);
+    }
+
+    private Optional<String> processar(MeuParser parser, Document document) {
         if (parser == null) {
             throw new IllegalArgumentException("O parser não pode ser nulo");
         }
@@ -45,7 +65,9 @@ public class JsoupAIIntegrator implements AIParserIntegrator {
         try {
             // Tenta processar diretamente com Jsoup se o conteúdo parecer HTML
             String processedContent;
-            if (originalContent.trim().startsWith("<")) {
+            if (document != null) {
+                processedContent = processDocumentDirectly(document);
+            } else if (originalContent.trim().startsWith("<")) {
                 processedContent = processHtmlDirectly(originalContent);
             } else {
                 // Se não for HTML, usa o conteúdo já extraído pelo parser
@@ -82,33 +104,66 @@ public class JsoupAIIntegrator implements AIParserIntegrator {
      */
     private String processHtmlDirectly(String html) {
         try {
-            Document doc = Jsoup.parse(html);
-            
-            // Remove elementos irrelevantes
-            for (String className : getIrrelevantClasses()) {
-                doc.select("." + className).remove();
-            }
-            
-            for (String id : getIrrelevantIds()) {
-                doc.select("#" + id).remove();
-            }
-            
+            return processDocumentDirectly(Jsoup.parse(html));
+        } catch (Exception e) {
+            // Se falhar, retorna o HTML original
+            return html;
+        }
+    }
+
+    /**
+     * Extrai o conteúdo principal de um Document sem modificá-lo (o Document é o da
+     * extração; em vez de clonar e remover, os elementos irrelevantes são pulados na leitura)
+     */
+    private String processDocumentDirectly(Document doc) {
+        try {
+            Set<String> classes = getIrrelevantClasses();
+            Set<String> ids = getIrrelevantIds();
+
             // Tenta encontrar o conteúdo principal
             Elements mainContent = doc.select(getMainContentSelector());
             
             if (!mainContent.isEmpty()) {
                 return "[INÍCIO DO CONTEÚDO PRINCIPAL]\n" + 
-                       mainContent.text() + 
+                       textoRelevante(mainContent, classes, ids) +
                        "\n[FIM DO CONTEÚDO PRINCIPAL]";
             } else {
                 // Se não encontrar o conteúdo principal, usa o body todo
-                return doc.body().text();
+                return textoRelevante(new Elements(doc.body()), classes, ids);
             }
             
         } catch (Exception e) {
-            // Se falhar, retorna o HTML original
-            return html;
+            // Se falhar, retorna o texto do documento sem filtragem
+            return doc.text();
+        }
+    }
+
+    /**
+     * Texto dos elementos, pulando subárvores com classe ou id irrelevante
+     */
+    private static String textoRelevante(Elements roots, Set<String> classes, Set<String> ids) {
+        StringBuilder sb = new StringBuilder();
+        NodeFilter filtro = new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (node instanceof Element) {
+                    Element element = (Element) node;
+                    if (ids.contains(element.id())) return FilterResult.SKIP_ENTIRELY;
+                    for (String className : element.classNames()) {
+                        if (classes.contains(className)) return FilterResult.SKIP_ENTIRELY;
+                    }
+                    if (element.isBlock() && sb.length() > 0) sb.append(' ');
+                } else if (node instanceof TextNode) {
+                    sb.append(((TextNode) node).text());
+                }
+                return FilterResult.CONTINUE;
+            }
+        };
+        for (Element root : roots) {
+            NodeTraversor.filter(filtro, root);
+            sb.append(' ');
         }
+        return ESPACOS.matcher(sb).replaceAll(" ").trim();
     }
 
     /**
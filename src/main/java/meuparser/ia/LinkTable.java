@@ -0,0 +1,156 @@
+package meuparser.ia;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tabela numerada dos links do conteúdo principal (número, texto do link, URL absoluta).
+ * O texto extraído continua sem marcações de link; a tabela fica ao lado, para o usuário
+ * seguir um link pelo número (teclado ou comando serial) e para o prefetch escolher candidatos.
+ * Máximo de links por página: -Dblindbrowser.links.max (padrão 200).
+ */
+public class LinkTable {
+
+    public static final LinkTable EMPTY = new LinkTable(Collections.emptyList());
+
+    private static final int MAX_LINKS = Integer.getInteger("blindbrowser.links.max", 200);
+    private static final int MAX_TEXT_CHARS = 80;
+
+    private final List<Link> links;
+
+    public static class Link {
+        public final int number;
+        public final String text;
+        public final String url;
+
+        Link(int number, String text, String url) {
+            this.number = number;
+            this.text = text;
+            this.url = url;
+        }
+
+        @Override
+        public String toString() {
+            return "[" + number + "] " + text;
+        }
+    }
+
+    private LinkTable(List<Link> links) {
+        this.links = links;
+    }
+
+    /**
+     * Links dos elementos do conteúdo principal, na ordem do documento. Ignora âncoras da
+     * própria página, esquemas não-HTTP (mailto:, javascript:) e URLs repetidas.
+     *
+     * @param content elementos já limpos (sem navegação, rodapé etc.)
+     * @param baseUrl URL pedida pelo usuário (fontes leves usam hrefs relativos à página original)
+     */
+    public static LinkTable extract(Elements content, String baseUrl) {
+        URI base = toUri(baseUrl);
+        if (base == null) return EMPTY;
+
+        List<Link> links = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        seen.add(withoutFragment(base.toString()));
+
+        for (Element anchor : content.select("a[href]")) {
+            if (links.size() >= MAX_LINKS) break;
+
+            String text = anchor.text().trim();
+            if (text.isEmpty()) text = anchor.attr("title").trim();
+            if (text.isEmpty()) continue;
+
+            String url = resolve(base, anchor.attr("href").trim());
+            if (url == null || !seen.add(url)) continue;
+
+            if (text.length() > MAX_TEXT_CHARS) {
+                text = text.substring(0, MAX_TEXT_CHARS - 1).trim() + "…";
+            }
+            links.add(new Link(links.size() + 1, text, url));
+        }
+        return links.isEmpty() ? EMPTY : new LinkTable(Collections.unmodifiableList(links));
+    }
+
+    private static String resolve(URI base, String href) {
+        if (href.isEmpty() || href.startsWith("#")) return null;
+        URI target = toUri(href);
+        if (target == null) return null;
+        try {
+            URI resolved = base.resolve(target);
+            String scheme = resolved.getScheme();
+            if (!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) return null;
+            return withoutFragment(resolved.toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static URI toUri(String value) {
+        try {
+            return new URI(value.replace(" ", "%20"));
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    private static String withoutFragment(String url) {
+        int hash = url.indexOf('#');
+        return hash >= 0 ? url.substring(0, hash) : url;
+    }
+
+    public int size() {
+        return links.size();
+    }
+
+    public boolean isEmpty() {
+        return links.isEmpty();
+    }
+
+    public List<Link> getLinks() {
+        return links;
+    }
+
+    /**
+     * Link pelo número exibido (1..size)
+     */
+    public Optional<Link> get(int number) {
+        return number >= 1 && number <= links.size() ? Optional.of(links.get(number - 1)) : Optional.empty();
+    }
+
+    /**
+     * Caracteres ocupados pela tabela (estimativa de memória da sessão)
+     */
+    public int getCharacterCount() {
+        int total = 0;
+        for (Link link : links) {
+            total += link.text.length() + link.url.length();
+        }
+        return total;
+    }
+
+    /**
+     * Uma linha por link: "[n] texto - url"
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        for (Link link : links) {
+            sb.append(link).append(" - ").append(link.url).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "LinkTable[" + links.size() + " links]";
+    }
+}
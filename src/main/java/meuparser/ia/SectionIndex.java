@@ -0,0 +1,189 @@
+package meuparser.ia;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de seções de um texto extraído ("== SUBTÍTULO: x ==" etc.)
+ * Guarda apenas offsets e níveis; o texto de uma seção é recortado, limpo e resumido
+ * sob demanda, então navegar ou resumir uma seção não reprocessa o artigo inteiro.
+ */
+public class SectionIndex {
+
+    public static final String LEAD_TITLE = "Introdução";
+
+    // Mesmo formato gerado por JsoupParser.processElement
+    private static final Pattern HEADING_PATTERN = Pattern.compile(
+            "(?m)^== (TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO): (.+?) ==\\s*$");
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+
+    private final String text;
+    private final List<Section> sections;
+    private final Map<String, Section> byTitle = new HashMap<>();
+
+    /**
+     * Seção do texto: [headingStart, end) inclui o título; [bodyStart, end) só o corpo
+     */
+    public static class Section {
+        public final String title;
+        public final int level;        // 0 = introdução, 1 = título, 2 = subtítulo, 3 = seção
+        public final int headingStart;
+        public final int bodyStart;
+        private int end;
+
+        private volatile String cachedText;
+        private volatile String cachedSummary;
+
+        Section(String title, int level, int headingStart, int bodyStart) {
+            this.title = title;
+            this.level = level;
+            this.headingStart = headingStart;
+            this.bodyStart = bodyStart;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        public int length() {
+            return end - headingStart;
+        }
+
+        @Override
+        public String toString() {
+            return "  ".repeat(Math.max(0, level - 1)) + title + " (" + length() + " chars)";
+        }
+    }
+
+    /**
+     * Construtor incremental usado durante a extração: registra cada título
+     * no momento em que é escrito, sem nova varredura do texto
+     */
+    public static class Builder {
+        private final List<Section> sections = new ArrayList<>();
+
+        public Builder addHeading(int level, String title, int headingStart, int bodyStart) {
+            sections.add(new Section(title.trim(), level, headingStart, bodyStart));
+            return this;
+        }
+
+        public SectionIndex build(String text) {
+            return new SectionIndex(text, sections);
+        }
+    }
+
+    private SectionIndex(String text, List<Section> headings) {
+        this.text = text != null ? text : "";
+        List<Section> all = new ArrayList<>(headings.size() + 1);
+
+        int firstHeading = headings.isEmpty() ? this.text.length() : headings.get(0).headingStart;
+        if (firstHeading > 0) {
+            all.add(new Section(LEAD_TITLE, 0, 0, 0));
+        }
+        all.addAll(headings);
+
+        for (int i = 0; i < all.size(); i++) {
+            all.get(i).end = (i + 1 < all.size()) ? all.get(i + 1).headingStart : this.text.length();
+            byTitle.putIfAbsent(normalize(all.get(i).title), all.get(i));
+        }
+        this.sections = Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Constrói o índice com uma única varredura (para textos que não vieram do JsoupParser)
+     */
+    public static SectionIndex parse(String text) {
+        Builder builder = new Builder();
+        if (text != null) {
+            Matcher matcher = HEADING_PATTERN.matcher(text);
+            while (matcher.find()) {
+                builder.addHeading(levelOf(matcher.group(1)), matcher.group(2),
+                        matcher.start(), Math.min(text.length(), matcher.end() + 1));
+            }
+        }
+        return builder.build(text);
+    }
+
+    private static int levelOf(String marker) {
+        switch (marker) {
+            case "TÍTULO PRINCIPAL": return 1;
+            case "SUBTÍTULO": return 2;
+            default: return 3;
+        }
+    }
+
+    private static String normalize(String title) {
+        String decomposed = Normalizer.normalize(title.trim(), Normalizer.Form.NFD);
+        return ACCENTS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Busca seção por título: exato (sem acento/caixa) e depois por prefixo/trecho
+     */
+    public Optional<Section> find(String title) {
+        if (title == null || title.isBlank()) return Optional.empty();
+        String key = normalize(title);
+
+        Section exact = byTitle.get(key);
+        if (exact != null) return Optional.of(exact);
+
+        for (Section s : sections) {
+            if (normalize(s.title).startsWith(key)) return Optional.of(s);
+        }
+        for (Section s : sections) {
+            if (normalize(s.title).contains(key)) return Optional.of(s);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Texto da seção (com título), recortado e limpo apenas na primeira solicitação
+     */
+    public String getText(Section section, UnaryOperator<String> cleaner) {
+        String cached = section.cachedText;
+        if (cached == null) {
+            String raw = text.substring(section.headingStart, section.end);
+            cached = cleaner != null ? cleaner.apply(raw) : raw;
+            section.cachedText = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Resumo da seção, calculado sob demanda uma única vez
+     */
+    public String getSummary(Section section, UnaryOperator<String> cleaner, Function<String, String> summarizer) {
+        String cached = section.cachedSummary;
+        if (cached == null) {
+            cached = summarizer.apply(getText(section, cleaner));
+            section.cachedSummary = cached;
+        }
+        return cached;
+    }
+
+    public Optional<Section> getLead() {
+        return sections.isEmpty() ? Optional.empty() : Optional.of(sections.get(0));
+    }
+
+    public List<Section> getSections() {
+        return sections;
+    }
+
+    public int size() {
+        return sections.size();
+    }
+
+    public String getSourceText() {
+        return text;
+    }
+}
@@ -23,14 +23,20 @@ public class SmartFormatter {
         return format(content, null);
     }
 
+    public String format(String content, String url) {
+        return format(DocumentAnalysis.of(content));
+    }
+
 
     /**
      * Formata inteligentemente o conteúdo para facilitar a leitura em
      * dispositivos Braille - VERSÃO ADAPTATIVA
+     * Categoria, resumo e palavras-chave vêm da análise da página (calculados uma vez)
      */
-    public String format(String content, String url) {
+    public String format(DocumentAnalysis analysis) {
         System.out.println("DEBUG: SmartFormatter adaptativo - Iniciando formatação");
 
+        String content = analysis.getContent();
         if (content == null || content.trim().isEmpty()) {
             System.err.println("DEBUG: SmartFormatter - Conteúdo é nulo ou vazio");
             return "";
@@ -41,14 +47,8 @@ public class SmartFormatter {
         StringBuilder formattedContent = new StringBuilder();
 
         try {
-            // 1. Classifica o conteúdo USANDO URL também
-            System.out.println("DEBUG: SmartFormatter - Classificando conteúdo com URL");
-            ContentCategory category;
-            if (url != null) {
-                category = classifier.classifyContent(content); // âœ… USA URL
-            } else {
-                category = classifier.classifyContent(content); // âœ… SEM URL
-            }
+            // 1. Categoria da análise (classificada uma única vez por página)
+            ContentCategory category = analysis.getCategory();
             // 1.âš ï¸ CORREÇÃO CRÍTICA: Gera resumo PRIMEIRO, depois formata o resumo
             String categoryDescription = classifier.getCategoryDescription(category);
             System.out.println("DEBUG: SmartFormatter - Categoria identificada: " + category + " (" + categoryDescription + ")");
@@ -57,7 +57,7 @@ public class SmartFormatter {
             String contentToFormat = content;
             if (content.length() > 500) {
                 System.out.println("DEBUG: SmartFormatter - Gerando resumo adaptativo ANTES da formatação");
-                contentToFormat = summarizer.generateSummaryWithCategory(content, category);
+                contentToFormat = summarizer.generateSummary(analysis);
                 System.out.println("DEBUG: SmartFormatter - Resumo gerado: " + contentToFormat.length() + " caracteres");
             }
 
@@ -68,7 +68,9 @@ public class SmartFormatter {
 
             // 4. Extrai e adiciona palavras-chave (do conteúdo resumido)
             System.out.println("DEBUG: SmartFormatter - Extraindo palavras-chave");
-            String keywordSection = keywordExtractor.generateKeywordSection(contentToFormat);
+            String keywordSection = contentToFormat == content
+                    ? keywordExtractor.formatKeywordSection(analysis.getKeywords())
+                    : keywordExtractor.generateKeywordSection(contentToFormat);
             formattedContent.append(keywordSection);
             System.out.println("DEBUG: SmartFormatter - Palavras-chave extraídas: " + keywordSection.length() + " caracteres");
 
@@ -0,0 +1,251 @@
+package meuparser.ia;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Memória de resumos compartilhada por todos os ContentSummarizer do processo
+ * (GUI, profiler, SmartFormatter, integradores, benchmarks).
+ *
+ * A chave é (hash do conteúdo, categoria, provedor, sentenças alvo): o mesmo texto
+ * resumido nas mesmas condições não passa de novo pelo pipeline. Entradas em LRU com
+ * limite de itens; opcionalmente persistidas em um diretório (-Dblindbrowser.summary.cacheDir).
+ */
+public class SummaryCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = Integer.getInteger("blindbrowser.summary.cacheSize", 256);
+    private static final String PERSISTENT_DIR_PROPERTY = "blindbrowser.summary.cacheDir";
+
+    private final int maxEntries;
+    private final Path persistentDir; // null = apenas memória
+    private final LinkedHashMap<Key, String> entries;
+
+    private long hits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Instância compartilhada (idiom holder), configurada pelas propriedades do sistema
+     */
+    private static class Shared {
+        static final SummaryCache INSTANCE = create();
+
+        private static SummaryCache create() {
+            String dir = System.getProperty(PERSISTENT_DIR_PROPERTY);
+            return new SummaryCache(DEFAULT_MAX_ENTRIES, dir != null && !dir.isEmpty() ? Paths.get(dir) : null);
+        }
+    }
+
+    public static SummaryCache getShared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * @param maxEntries    número máximo de resumos em memória (0 = desliga a memória,
+     *                      ex.: para medir a sumarização sem acertos)
+     * @param persistentDir diretório para persistir os resumos (null = sem persistência)
+     */
+    public SummaryCache(int maxEntries, Path persistentDir) {
+        this.maxEntries = Math.max(0, maxEntries);
+        this.persistentDir = persistentDir;
+        this.entries = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                if (size() > SummaryCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        if (persistentDir != null) {
+            try {
+                Files.createDirectories(persistentDir);
+                System.out.println("DEBUG: Cache de resumos persistido em " + persistentDir);
+            } catch (IOException e) {
+                System.err.println("⚠️ Diretório do cache de resumos indisponível: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Chave de um resumo: mesmo conteúdo, categoria, provedor e alvo produzem o mesmo resumo
+     */
+    public static final class Key {
+        public final String contentHash;
+        public final ContentClassifier.ContentCategory category;
+        public final String provider;
+        public final int targetSentences;
+
+        public Key(String contentHash, ContentClassifier.ContentCategory category, String provider, int targetSentences) {
+            this.contentHash = contentHash;
+            this.category = category;
+            this.provider = provider;
+            this.targetSentences = targetSentences;
+        }
+
+        /**
+         * Nome de arquivo estável para a persistência
+         */
+        String fileName() {
+            return (contentHash + "-" + category.name() + "-" + provider + "-" + targetSentences)
+                    .replaceAll("[^A-Za-z0-9_-]", "_") + ".txt";
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return targetSentences == other.targetSentences
+                    && contentHash.equals(other.contentHash)
+                    && category == other.category
+                    && provider.equals(other.provider);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contentHash, category, provider, targetSentences);
+        }
+
+        @Override
+        public String toString() {
+            return contentHash.substring(0, 8) + "/" + category + "/" + provider + "/" + targetSentences;
+        }
+    }
+
+    /**
+     * Resumo memorizado para a chave (memória primeiro, depois o diretório persistente)
+     */
+    public Optional<String> get(Key key) {
+        synchronized (this) {
+            String cached = entries.get(key);
+            if (cached != null) {
+                hits++;
+                return Optional.of(cached);
+            }
+        }
+
+        String stored = loadPersistent(key);
+        synchronized (this) {
+            if (stored != null) {
+                diskHits++;
+                if (maxEntries > 0) entries.put(key, stored);
+                return Optional.of(stored);
+            }
+            misses++;
+        }
+        return Optional.empty();
+    }
+
+    public void put(Key key, String summary) {
+        if (key == null || summary == null) return;
+        if (maxEntries > 0) {
+            synchronized (this) {
+                entries.put(key, summary);
+            }
+        }
+        storePersistent(key, summary);
+    }
+
+    /**
+     * Limpa a memória (os arquivos persistidos são mantidos)
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(entries.size(), maxEntries, hits, diskHits, misses, evictions, persistentDir != null);
+    }
+
+    private String loadPersistent(Key key) {
+        if (persistentDir == null) return null;
+        Path file = persistentDir.resolve(key.fileName());
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ Falha ao ler resumo persistido " + file.getFileName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void storePersistent(Key key, String summary) {
+        if (persistentDir == null) return;
+        Path file = persistentDir.resolve(key.fileName());
+        try {
+            // Grava em arquivo temporário e move, para que um leitor nunca veja arquivo pela metade
+            Path temp = Files.createTempFile(persistentDir, "summary", ".tmp");
+            Files.write(temp, summary.getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("⚠️ Falha ao persistir resumo " + file.getFileName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Hash SHA-256 (hex) do conteúdo, estável entre execuções para a persistência
+     */
+    public static String hashContent(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    /**
+     * Estatísticas de acerto do cache de resumos
+     */
+    public static class CacheStats {
+        public final int size;
+        public final int maxEntries;
+        public final long hits;
+        public final long diskHits;
+        public final long misses;
+        public final long evictions;
+        public final boolean persistent;
+
+        public CacheStats(int size, int maxEntries, long hits, long diskHits, long misses,
+                          long evictions, boolean persistent) {
+            this.size = size;
+            this.maxEntries = maxEntries;
+            this.hits = hits;
+            this.diskHits = diskHits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.persistent = persistent;
+        }
+
+        public double getHitRate() {
+            long total = hits + diskHits + misses;
+            return total == 0 ? 0 : (double) (hits + diskHits) / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SummaryCache[%d/%d itens, %d hits (+%d disco), %d misses, %.1f%% acerto, %d evicções%s]",
+                    size, maxEntries, hits, diskHits, misses, getHitRate() * 100, evictions,
+                    persistent ? ", persistente" : "");
+        }
+    }
+}
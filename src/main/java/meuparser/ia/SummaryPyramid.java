@@ -0,0 +1,90 @@
+package meuparser.ia;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Pirâmide de resumos de uma página: manchete, resumo curto, resumo essencial e texto completo.
+ * Calculada uma vez (ContentSummarizer.buildPyramid) a partir de uma única ordenação de sentenças;
+ * cada nível contém as sentenças do nível anterior, então subir ou descer não recalcula nada.
+ */
+public class SummaryPyramid {
+
+    public enum Level {
+        HEADLINE("Manchete", "uma linha"),
+        SHORT("Curto", "~150 caracteres"),
+        ESSENTIAL("Resumido", "limite Braille da categoria"),
+        COMPLETE("Completo", "conteúdo integral");
+
+        private final String name;
+        private final String description;
+
+        Level(String name, String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Nível com mais detalhe (COMPLETE permanece COMPLETE)
+         */
+        public Level finer() {
+            return this == COMPLETE ? COMPLETE : values()[ordinal() + 1];
+        }
+
+        /**
+         * Nível com menos detalhe (HEADLINE permanece HEADLINE)
+         */
+        public Level coarser() {
+            return this == HEADLINE ? HEADLINE : values()[ordinal() - 1];
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + description + ")";
+        }
+    }
+
+    private final Map<Level, String> texts = new EnumMap<>(Level.class);
+
+    SummaryPyramid(String headline, String shortSummary, String essential, String complete) {
+        texts.put(Level.HEADLINE, headline);
+        texts.put(Level.SHORT, shortSummary);
+        texts.put(Level.ESSENTIAL, essential);
+        texts.put(Level.COMPLETE, complete);
+    }
+
+    /**
+     * Mesma pirâmide com um complemento ao fim do resumo essencial
+     * (ex.: lista de seções de um artigo longo); os níveis continuam aninhados
+     */
+    public SummaryPyramid withEssentialAppendix(String appendix) {
+        return new SummaryPyramid(get(Level.HEADLINE), get(Level.SHORT),
+                get(Level.ESSENTIAL) + "\n\n" + appendix, get(Level.COMPLETE));
+    }
+
+    public String get(Level level) {
+        return texts.get(level);
+    }
+
+    public int getCharacterCount(Level level) {
+        return texts.get(level).length();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("SummaryPyramid[");
+        for (Level level : Level.values()) {
+            if (level != Level.HEADLINE) sb.append(", ");
+            sb.append(level.getName()).append(": ").append(getCharacterCount(level)).append(" chars");
+        }
+        return sb.append("]").toString();
+    }
+}
@@ -1,7 +1,11 @@
 package meuparser.ia;
 
 import meuparser.MeuParser;
-import java.util.HashSet;
+import meuparser.ia.rules.SiteRuleEngine;
+import meuparser.ia.rules.SiteRuleProfile;
+import org.jsoup.nodes.Document;
+
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -22,6 +26,18 @@ public class UOLParserIntegrator implements AIParserIntegrator {
 
     @Override
     public Optional<String> processContent(MeuParser parser) {
+        return processar(parser, null);
+    }
+
+    /**
+     * Versão DOM: autor e data pelos seletores meta.* do perfil
+     */
+    @Override
+    public Optional<String> processDocument(Document document, MeuParser parser) {
+        return processar(parser, document);
+    }
+
+    private Optional<String> processar(MeuParser parser, Document document) {
         if (parser == null) {
             throw new IllegalArgumentException("O parser não pode ser nulo");
         }
@@ -35,45 +51,51 @@ public class UOLParserIntegrator implements AIParserIntegrator {
             return Optional.empty();
         }
 
-        // Processamento específico para UOL
-        // Implementação específica aqui
+        // Regras do perfil: linhas de boilerplate e metadados declarados (meta.*)
+        Optional<SiteRuleProfile> perfil = perfil();
+        SiteRuleEngine regras = SiteRuleEngine.getInstance();
+        String conteudo = perfil.map(p -> regras.stripBoilerplate(p, originalContent)).orElse(originalContent);
+        Map<String, String> metadados = perfil.map(p -> regras.extractMetadata(p, document)).orElse(Map.of());
 
-        // Como placeholder, apenas retorna o conteúdo original
-        String processedContent = "[CONTEÚDO DO UOL PROCESSADO]\n\n" + originalContent;
+        StringBuilder processed = new StringBuilder("[CONTEÚDO DO UOL PROCESSADO]\n");
+        if (metadados.containsKey("autor")) {
+            processed.append("[AUTOR: ").append(metadados.get("autor")).append("]\n");
+        }
+        if (metadados.containsKey("data")) {
+            processed.append("[DATA: ").append(metadados.get("data")).append("]\n");
+        }
+        String processedContent = processed.append('\n').append(conteudo).toString();
         parser.setTexto(processedContent);
 
         return Optional.of(processedContent);
     }
 
+    /**
+     * Metadados meta.* do perfil lidos no Document, sem reformatar o texto
+     */
+    @Override
+    public Map<String, String> extractMetadata(Document document) {
+        return perfil().map(p -> SiteRuleEngine.getInstance().extractMetadata(p, document)).orElse(Map.of());
+    }
+
     @Override
     public Set<String> getIrrelevantClasses() {
-        Set<String> classes = new HashSet<>();
-        // Classes genéricas
-        classes.add("menu");
-        classes.add("navigation");
-        // Classes específicas do UOL
-        classes.add("publicidade");
-        classes.add("banner");
-        // Adicionar mais classes específicas do UOL
-
-        return classes;
+        // Classes do UOL declaradas em siterules/uol.properties
+        return perfil().map(SiteRuleProfile::getIrrelevantClasses).orElse(Set.of());
     }
 
     @Override
     public Set<String> getIrrelevantIds() {
-        Set<String> ids = new HashSet<>();
-        // IDs genéricos
-        ids.add("menu");
-        // IDs específicos do UOL
-        ids.add("publicidade");
-        // Adicionar mais IDs específicos do UOL
-
-        return ids;
+        return perfil().map(SiteRuleProfile::getIrrelevantIds).orElse(Set.of());
     }
 
     @Override
     public String getMainContentSelector() {
-        return "texto, conteudo-materia"; // Seletores específicos do UOL
+        return perfil().map(SiteRuleProfile::getMainSelector).orElse(".texto, .conteudo-materia");
+    }
+
+    private static Optional<SiteRuleProfile> perfil() {
+        return SiteRuleEngine.getInstance().getProfile("uol");
     }
 
     @Override
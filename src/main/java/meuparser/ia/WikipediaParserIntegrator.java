@@ -1,6 +1,8 @@
 package meuparser.ia;
 
 import meuparser.MeuParser;
+import meuparser.ia.rules.SiteRuleEngine;
+import meuparser.ia.rules.SiteRuleProfile;
 
 import java.util.*;
 import java.util.regex.Matcher;
@@ -15,6 +17,48 @@ public class WikipediaParserIntegrator implements AIParserIntegrator {
     private final AIStats stats;
     private final SmartFormatter formatter;
 
+    private static final Pattern SECTION_PATTERN =
+            Pattern.compile("==\\s*(TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO):\\s*([^=]+)\\s*");
+
+    // Padrões de limpeza compilados uma vez (antes cada página recompilava todos)
+    private static final Pattern REFERENCIA = Pattern.compile("\\[\\d+\\]");
+    private static final Pattern NOTA = Pattern.compile("\\[nota \\d+\\]");
+    private static final Pattern EDITAR_CODIGO = Pattern.compile("\\[\\s*editar\\s*\\|\\s*editar código-fonte\\s*\\]");
+    private static final Pattern EDITAR = Pattern.compile("\\[\\s*editar\\s*\\]");
+    private static final Pattern CSS_PARSER_OUTPUT = Pattern.compile("\\.mw-parser-output[^{]+\\{[^}]*\\}");
+    private static final Pattern CSS_MEDIA_QUERY = Pattern.compile("@media\\([^)]+\\)\\{[^}]*\\}");
+    private static final Pattern CONTAGEM_LINGUAS = Pattern.compile("\\d+ línguas");
+    private static final Pattern CSS_PARSER_OUTPUT_BLOCO = Pattern.compile("\\.mw-parser-output\\s*\\{[^}]*\\}");
+    private static final Pattern CSS_MEDIA = Pattern.compile("@media[^{]*\\{[^}]*\\}");
+    private static final Pattern SCRIPT = Pattern.compile("(?s)<script.*?</script>");
+    private static final Pattern STYLE = Pattern.compile("(?s)<style.*?</style>");
+    private static final Pattern DO_FUNDIDO = Pattern.compile("\\(do([a-zA-Z])");
+    private static final Pattern CAIXA_FUNDIDA = Pattern.compile("([a-z])([A-Z])");
+    private static final Pattern EDITAR_QUALQUER = Pattern.compile("\\[\\s*(?:editar|edit)(?:\\|[^\\]]*)?\\s*\\]");
+    private static final Pattern CARECE_DE_FONTES = Pattern.compile("\\[\\[(?:carece de fontes|citation needed)\\]\\]\\?");
+    private static final Pattern SETA_NOTA = Pattern.compile("↑\\]");
+    private static final Pattern SETA_NOTA_LETRA = Pattern.compile("↑[a-z]\\]");
+    private static final Pattern SETA_NOTA_NUMERO = Pattern.compile("↑[0-9]+\\]");
+    private static final Pattern ITEM_LINK = Pattern.compile("- \\[LINK[^\\]]*\\]");
+    private static final Pattern LINK = Pattern.compile("\\[LINK[^\\]]*\\]");
+    private static final Pattern MARCADOR = Pattern.compile("•\\s*");
+    private static final Pattern RESUMO_COLCHETE = Pattern.compile("RESUMO: \\]");
+    private static final Pattern RESUMO_PAGINA = Pattern.compile("\\[RESUMO DA PÁGINA\\] \\]");
+    private static final Pattern TITULO_FECHADO = Pattern.compile("== (TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO): ([^=]+) ==");
+    private static final Pattern TITULO_ABERTO = Pattern.compile("== (TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO): ([^=]+)");
+    private static final Pattern MENU_NAVEGACAO = Pattern.compile("(?i)(?:^|\\n)[\\s\\-•]*(?:Página principal|Conteúdo destacado|Eventos atuais|Esplanada|Portal comunitário|Páginas novas|Contato)(?:\\s*-\\s*)?(?:$|\\n)");
+    private static final Pattern MARCA_INICIO = Pattern.compile("\\[INÍCIO DO CONTEÚDO PRINCIPAL\\]");
+    private static final Pattern MARCA_FIM = Pattern.compile("\\[FIM DO CONTEÚDO PRINCIPAL\\]");
+    private static final Pattern EM_INGLES = Pattern.compile("\\(em inglês\\)\\.");
+    private static final Pattern PONTO_DUPLO = Pattern.compile("\\.\\.");
+    private static final Pattern ESPACO_PONTO = Pattern.compile("\\s+\\.");
+    private static final Pattern ESPACO_VIRGULA = Pattern.compile("\\s+,");
+    private static final Pattern ESPACOS = Pattern.compile("\\s{2,}");
+    private static final Pattern FIM_DE_FRASE = Pattern.compile("(\\.) ([A-Z])");
+    private static final Pattern LINHAS_EXTRAS = Pattern.compile("\\n{3,}");
+    private static final Pattern LINHA_VAZIA = Pattern.compile("(?m)^\\s*$");
+    private static final Pattern LINK_IDIOMA = Pattern.compile("- \\[LINK \\d+: [^\\]]+\\]\\s*", Pattern.MULTILINE);
+
     public WikipediaParserIntegrator() {
         this.stats = new AIStats();
         this.formatter = new SmartFormatter();
@@ -144,19 +188,19 @@ public class WikipediaParserIntegrator implements AIParserIntegrator {
         String cleaned = content;
 
         // Remover referências e notas
-        cleaned = cleaned.replaceAll("\\[\\d+\\]", "");
-        cleaned = cleaned.replaceAll("\\[nota \\d+\\]", "");
+        cleaned = REFERENCIA.matcher(cleaned).replaceAll("");
+        cleaned = NOTA.matcher(cleaned).replaceAll("");
 
         // Remover links para edição
-        cleaned = cleaned.replaceAll("\\[\\s*editar\\s*\\|\\s*editar código-fonte\\s*\\]", "");
-        cleaned = cleaned.replaceAll("\\[\\s*editar\\s*\\]", "");
+        cleaned = EDITAR_CODIGO.matcher(cleaned).replaceAll("");
+        cleaned = EDITAR.matcher(cleaned).replaceAll("");
 
         // Remover códigos CSS específicos da Wikipedia
-        cleaned = cleaned.replaceAll("\\.mw-parser-output[^{]+\\{[^}]*\\}", "");
-        cleaned = cleaned.replaceAll("@media\\([^)]+\\)\\{[^}]*\\}", "");
+        cleaned = CSS_PARSER_OUTPUT.matcher(cleaned).replaceAll("");
+        cleaned = CSS_MEDIA_QUERY.matcher(cleaned).replaceAll("");
 
         // Remover elementos de navegação
-        cleaned = cleaned.replaceAll("\\d+ línguas", "");
+        cleaned = CONTAGEM_LINGUAS.matcher(cleaned).replaceAll("");
 
         return cleaned;
     }
@@ -168,8 +212,7 @@ public class WikipediaParserIntegrator implements AIParserIntegrator {
         StringBuilder organized = new StringBuilder();
 
         // Dividir o conteúdo em seções baseadas em títulos
-        Pattern sectionPattern = Pattern.compile("==\\s*(TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO):\\s*([^=]+)\\s*");
-        Matcher matcher = sectionPattern.matcher(content);
+        Matcher matcher = SECTION_PATTERN.matcher(content);
 
         int lastEnd = 0;
         while (matcher.find()) {
@@ -230,72 +273,72 @@ public class WikipediaParserIntegrator implements AIParserIntegrator {
         // ===== PARTE 2: LIMPEZA DE ELEMENTOS HTML E FORMATAÇãO =====
 
         // Remover código CSS e JavaScript
-        cleaned = cleaned.replaceAll("\\.mw-parser-output\\s*\\{[^}]*\\}", "");
-        cleaned = cleaned.replaceAll("@media[^{]*\\{[^}]*\\}", "");
-        cleaned = cleaned.replaceAll("(?s)<script.*?</script>", "");
-        cleaned = cleaned.replaceAll("(?s)<style.*?</style>", "");
+        cleaned = CSS_PARSER_OUTPUT_BLOCO.matcher(cleaned).replaceAll("");
+        cleaned = CSS_MEDIA.matcher(cleaned).replaceAll("");
+        cleaned = SCRIPT.matcher(cleaned).replaceAll("");
+        cleaned = STYLE.matcher(cleaned).replaceAll("");
 
         // Corrigir o problema de "palavras fundidas"
-        cleaned = cleaned.replaceAll("\\(do([a-zA-Z])", "(do $1");  // Corrige (dolatim) para (do latim)
-        cleaned = cleaned.replaceAll("([a-z])([A-Z])", "$1 $2");    // Insere espaço entre minúscula e maiúscula
+        cleaned = DO_FUNDIDO.matcher(cleaned).replaceAll("(do $1");  // Corrige (dolatim) para (do latim)
+        cleaned = CAIXA_FUNDIDA.matcher(cleaned).replaceAll("$1 $2");    // Insere espaço entre minúscula e maiúscula
 
         // ===== PARTE 3: REMOÇãO DE ELEMENTOS WIKIPÉDIA ESPECÍFICOS =====
 
         // Remover referências, notas e marcadores de edição
-        cleaned = cleaned.replaceAll("\\[\\d+\\]", "");
-        cleaned = cleaned.replaceAll("\\[nota \\d+\\]", "");
-        cleaned = cleaned.replaceAll("\\[\\s*(?:editar|edit)(?:\\|[^\\]]*)?\\s*\\]", "");
-        cleaned = cleaned.replaceAll("\\[\\[(?:carece de fontes|citation needed)\\]\\]\\?", "");
+        cleaned = REFERENCIA.matcher(cleaned).replaceAll("");
+        cleaned = NOTA.matcher(cleaned).replaceAll("");
+        cleaned = EDITAR_QUALQUER.matcher(cleaned).replaceAll("");
+        cleaned = CARECE_DE_FONTES.matcher(cleaned).replaceAll("");
 
         // Remover marcadores de referência nas notas de rodapé
-        cleaned = cleaned.replaceAll("↑\\]", "");
-        cleaned = cleaned.replaceAll("↑[a-z]\\]", "");
-        cleaned = cleaned.replaceAll("↑[0-9]+\\]", "");
+        cleaned = SETA_NOTA.matcher(cleaned).replaceAll("");
+        cleaned = SETA_NOTA_LETRA.matcher(cleaned).replaceAll("");
+        cleaned = SETA_NOTA_NUMERO.matcher(cleaned).replaceAll("");
 
         // Limpar marcadores de lista e formatação
-        cleaned = cleaned.replaceAll("- \\[LINK[^\\]]*\\]", "");
-        cleaned = cleaned.replaceAll("\\[LINK[^\\]]*\\]", "");
-        cleaned = cleaned.replaceAll("•\\s*", "• ");
+        cleaned = ITEM_LINK.matcher(cleaned).replaceAll("");
+        cleaned = LINK.matcher(cleaned).replaceAll("");
+        cleaned = MARCADOR.matcher(cleaned).replaceAll("• ");
 
         // ===== PARTE 4: CORREÇãO DO RESUMO =====
 
         // Corrigir o resumo
-        cleaned = cleaned.replaceAll("RESUMO: \\]", "RESUMO: ");
-        cleaned = cleaned.replaceAll("\\[RESUMO DA PÁGINA\\] \\]", "RESUMO: ");
+        cleaned = RESUMO_COLCHETE.matcher(cleaned).replaceAll("RESUMO: ");
+        cleaned = RESUMO_PAGINA.matcher(cleaned).replaceAll("RESUMO: ");
 
         // ===== PARTE 5: FORMATAÇãO E ORGANIZAÇãO FINAL =====
 
         // Substituir marcações dos títulos por formatação limpa
-        cleaned = cleaned.replaceAll("== (TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO): ([^=]+) ==", "$1: $2");
-        cleaned = cleaned.replaceAll("== (TÍTULO PRINCIPAL|SUBTÍTULO|SEÇãO): ([^=]+)", "$1: $2");
+        cleaned = TITULO_FECHADO.matcher(cleaned).replaceAll("$1: $2");
+        cleaned = TITULO_ABERTO.matcher(cleaned).replaceAll("$1: $2");
 
         // Remover seções de links para outros idiomas e menus
         cleaned = removeTextBetween(cleaned, "== TÍTULO PRINCIPAL: Gelo ==", "== SUBTÍTULO: Conteúdo");
         cleaned = removeTextBetween(cleaned, "== TÍTULO PRINCIPAL: Gelo", "Nota:");
 
         // Limpar elementos de navegação
-        cleaned = cleaned.replaceAll("(?i)(?:^|\\n)[\\s\\-•]*(?:Página principal|Conteúdo destacado|Eventos atuais|Esplanada|Portal comunitário|Páginas novas|Contato)(?:\\s*-\\s*)?(?:$|\\n)", "\n");
-        cleaned = cleaned.replaceAll("\\[INÍCIO DO CONTEÚDO PRINCIPAL\\]", "");
-        cleaned = cleaned.replaceAll("\\[FIM DO CONTEÚDO PRINCIPAL\\]", "");
+        cleaned = MENU_NAVEGACAO.matcher(cleaned).replaceAll("\n");
+        cleaned = MARCA_INICIO.matcher(cleaned).replaceAll("");
+        cleaned = MARCA_FIM.matcher(cleaned).replaceAll("");
 
         // Corrigir problemas específicos de formatação
-        cleaned = cleaned.replaceAll("\\(em inglês\\)\\.", ".");
-        cleaned = cleaned.replaceAll("\\.\\.", ".");
-        cleaned = cleaned.replaceAll("\\s+\\.", ".");
-        cleaned = cleaned.replaceAll("\\s+,", ",");
+        cleaned = EM_INGLES.matcher(cleaned).replaceAll(".");
+        cleaned = PONTO_DUPLO.matcher(cleaned).replaceAll(".");
+        cleaned = ESPACO_PONTO.matcher(cleaned).replaceAll(".");
+        cleaned = ESPACO_VIRGULA.matcher(cleaned).replaceAll(",");
 
         // Remover boilerplate da Wikipedia
         cleaned = removeWikipediaBoilerplate(cleaned);
 
         // Corrigir espaçamentos e quebras de linha
-        cleaned = cleaned.replaceAll("\\s{2,}", " ");
-        cleaned = cleaned.replaceAll("(\\.) ([A-Z])", ".$1\n\n$2");
-        cleaned = cleaned.replaceAll("\\n{3,}", "\n\n");
+        cleaned = ESPACOS.matcher(cleaned).replaceAll(" ");
+        cleaned = FIM_DE_FRASE.matcher(cleaned).replaceAll(".$1\n\n$2");
+        cleaned = LINHAS_EXTRAS.matcher(cleaned).replaceAll("\n\n");
 
         // ===== PARTE 6: LIMPEZA FINAL =====
 
         // Remover linhas em branco e espaços no início/fim
-        cleaned = cleaned.replaceAll("(?m)^\\s*$", "");
+        cleaned = LINHA_VAZIA.matcher(cleaned).replaceAll("");
 
         return cleaned.trim();
     }
@@ -409,33 +452,19 @@ public class WikipediaParserIntegrator implements AIParserIntegrator {
         }
 
         // Remover linhas com links para outros idiomas
-        Pattern langLinkPattern = Pattern.compile("- \\[LINK \\d+: [^\\]]+\\]\\s*", Pattern.MULTILINE);
-        Matcher langLinkMatcher = langLinkPattern.matcher(result);
-        result = langLinkMatcher.replaceAll("");
+        result = LINK_IDIOMA.matcher(result).replaceAll("");
 
         return result;
     }
 
     /**
-     * Método aprimorado para remover boilerplate da Wikipedia
+     * Remove boilerplate da Wikipedia com o Pattern único pré-compilado do perfil
+     * (frases em siterules/wikipedia.properties, boilerplate.lines)
      */
     private String removeWikipediaBoilerplate(String text) {
-        String[] boilerplates = {
-                "Esta página foi editada", "Obtida de", "Categorias ocultas",
-                "Editar hiperligações", "Origem: Wikipédia", "Código de conduta",
-                "Programadores", "Estatísticas", "Declaração sobre cookies",
-                "Versão móvel", "Categorias:", "ISSN", "doi:", "Consultado em",
-                "Wikimedia Commons", "Elemento Wikidata", "Política de privacidade",
-                "Sobre a Wikipédia", "Avisos gerais", "Versão para impressão"
-        };
-
-        String result = text;
-
-        for (String boilerplate : boilerplates) {
-            result = result.replaceAll("(?i)(?:^|\\n).*" + Pattern.quote(boilerplate) + ".*(?:$|\\n)", "\n");
-        }
-
-        return result;
+        return perfil()
+                .map(p -> SiteRuleEngine.getInstance().stripBoilerplate(p, text))
+                .orElse(text);
     }
     /**
      * Conta palavras-chave relevantes no conteúdo da Wikipedia
@@ -460,74 +489,22 @@ public class WikipediaParserIntegrator implements AIParserIntegrator {
 
     @Override
     public Set<String> getIrrelevantClasses() {
-        Set<String> classes = new HashSet<>();
-
-        // Classes genéricas
-        classes.add("menu");
-        classes.add("navigation");
-        classes.add("sidebar");
-        classes.add("footer");
-        classes.add("header");
-
-        // Classes específicas da Wikipedia
-        classes.add("mw-navigation");
-        classes.add("vector-menu");
-        classes.add("vector-header-container");
-        classes.add("mw-indicators");
-        classes.add("mw-editsection");
-        classes.add("infobox");
-        classes.add("toc");
-        classes.add("metadata");
-        classes.add("catlinks");
-        classes.add("printfooter");
-        classes.add("noprint");
-        classes.add("mw-jump-link");
-        classes.add("mw-references-wrap");
-        classes.add("navbox");
-        classes.add("mw-footer");
-        classes.add("mw-data-after-content");
-        classes.add("hlist");
-        classes.add("navbar");
-        classes.add("mw-empty-li");
-        classes.add("mobile-stack");
-
-        return classes;
+        // Classes genéricas e específicas da Wikipedia declaradas em siterules/wikipedia.properties
+        return perfil().map(SiteRuleProfile::getIrrelevantClasses).orElse(Set.of());
     }
 
     @Override
     public Set<String> getIrrelevantIds() {
-        Set<String> ids = new HashSet<>();
-
-        // IDs genéricos
-        ids.add("menu");
-        ids.add("navigation");
-        ids.add("sidebar");
-        ids.add("footer");
-        ids.add("header");
-
-        // IDs específicos da Wikipedia
-        ids.add("mw-navigation");
-        ids.add("mw-panel");
-        ids.add("p-logo");
-        ids.add("p-search");
-        ids.add("p-navigation");
-        ids.add("p-tb");
-        ids.add("footer");
-        ids.add("mw-page-base");
-        ids.add("siteSub");
-        ids.add("mw-head");
-        ids.add("mw-sidebar-button");
-        ids.add("toc");
-        ids.add("coordinates");
-        ids.add("p-lang-btn");
-        ids.add("searchInput");
-
-        return ids;
+        return perfil().map(SiteRuleProfile::getIrrelevantIds).orElse(Set.of());
     }
 
     @Override
     public String getMainContentSelector() {
-        return "mw-content-text, mw-parser-output, content";
+        return perfil().map(SiteRuleProfile::getMainSelector).orElse("#mw-content-text, .mw-parser-output");
+    }
+
+    private static Optional<SiteRuleProfile> perfil() {
+        return SiteRuleEngine.getInstance().getProfile("wikipedia");
     }
 
     @Override
@@ -1,13 +1,14 @@
 package meuparser.ia;
 
-import java.util.Arrays;
+import meuparser.ia.text.DocumentFrequencyTable;
+import meuparser.ia.text.TermDictionary;
+import meuparser.ia.text.TermFrequencies;
+import meuparser.ia.text.TextTokenizer;
+import meuparser.ia.text.TopK;
+
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Extrai palavras-chave de conteúdo HTML para auxiliar usuários com deficiência visual
@@ -16,19 +17,32 @@ import java.util.stream.Collectors;
 public class keywordExtractor {
 
     private static final int DEFAULT_KEYWORD_COUNT = 5;
-    private static final Set<String> STOPWORDS = new HashSet<>(Arrays.asList(
-            "a", "à", "ao", "aos", "aquela", "aquelas", "aquele", "aqueles", "aquilo", "as", "às", "até", "com", 
-            "como", "da", "das", "de", "dela", "delas", "dele", "deles", "depois", "do", "dos", "e", "é", "ela", 
-            "elas", "ele", "eles", "em", "entre", "era", "eram", "éramos", "essa", "essas", "esse", "esses", 
-            "esta", "estas", "este", "estes", "eu", "foi", "fomos", "for", "foram", "forem", "formos", "fosse", 
-            "fossem", "fôssemos", "há", "isso", "isto", "já", "lhe", "lhes", "mais", "mas", "me", "mesmo", 
-            "meu", "meus", "minha", "minhas", "muito", "na", "não", "nas", "nem", "no", "nos", "nós", "nossa", 
-            "nossas", "nosso", "nossos", "num", "numa", "o", "os", "ou", "para", "pela", "pelas", "pelo", 
-            "pelos", "por", "qual", "quando", "que", "quem", "são", "se", "seja", "sejam", "sejamos", "sem", 
-            "será", "serão", "serei", "seremos", "seria", "seriam", "seríamos", "seu", "seus", "só", "somos", 
-            "sou", "sua", "suas", "também", "te", "tem", "temos", "tenho", "teu", "teus", "tinha", "tinham", 
-            "tínhamos", "tua", "tuas", "um", "uma", "você", "vocês", "vos"
-    ));
+
+    /**
+     * Critério de ranqueamento das palavras-chave
+     */
+    public enum KeywordMode {
+        FREQUENCY,  // frequência bruta na página
+        TF_IDF      // frequência na página x raridade no corpus (tabela DF)
+    }
+
+    private final KeywordMode mode;
+    private final DocumentFrequencyTable dfTable;
+
+    /**
+     * Usa TF-IDF quando há tabela DF disponível, senão frequência bruta
+     */
+    public keywordExtractor() {
+        this(DocumentFrequencyTable.getDefault().orElse(null));
+    }
+
+    /**
+     * @param dfTable tabela DF do corpus (null = ranqueia por frequência)
+     */
+    public keywordExtractor(DocumentFrequencyTable dfTable) {
+        this.dfTable = dfTable;
+        this.mode = dfTable != null ? KeywordMode.TF_IDF : KeywordMode.FREQUENCY;
+    }
 
     /**
      * Extrai palavras-chave do conteúdo fornecido
@@ -52,60 +66,29 @@ public class keywordExtractor {
             return Collections.emptyList();
         }
         
-        // Remove marcações e caracteres especiais
-        content = cleanContent(content);
-        
-        // Divide o conteúdo em palavras
-        String[] words = content.toLowerCase().split("\\s+");
-        
-        // Conta frequência das palavras
-        Map<String, Integer> wordFrequency = new HashMap<>();
-        for (String word : words) {
-            if (isValidKeyword(word)) {
-                wordFrequency.put(word, wordFrequency.getOrDefault(word, 0) + 1);
-            }
-        }
-        
-        // Ordena por frequência e seleciona as principais
-        return wordFrequency.entrySet().stream()
-                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
-                .limit(count)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * Limpa o conteúdo removendo marcações e caracteres indesejados
-     */
-    private String cleanContent(String content) {
-        // Remove marcações especiais como [LINK: texto]
-        content = content.replaceAll("\\[.*?\\]", "");
-        
-        // Remove caracteres especiais e números
-        content = content.replaceAll("[^\\p{L}\\s]", " ");
-        
-        // Remove espaços em excesso
-        content = content.replaceAll("\\s+", " ").trim();
-        
-        return content;
-    }
-    
-    /**
-     * Verifica se uma palavra é um candidato válido para palavra-chave
-     */
-    private boolean isValidKeyword(String word) {
-        // Verifica comprimento mínimo
-        if (word == null || word.length() < 3) {
-            return false;
+        // Uma passada: ignora marcações [..], dobra caixa/acento, descarta stopwords e números
+        TextTokenizer tokenizer = TextTokenizer.KEYWORDS.withNewDictionary();
+        TermFrequencies frequencies = tokenizer.frequencies(content);
+        TermDictionary dictionary = tokenizer.getDictionary();
+
+        // Seleciona as principais com heap limitado a "count" (sem ordenar o vocabulário)
+        TopK top = new TopK(count);
+        if (mode == KeywordMode.TF_IDF) {
+            frequencies.forEach((termId, frequency) ->
+                    top.offer(termId, frequency * dfTable.idf(dictionary.term(termId))));
+        } else {
+            frequencies.forEach(top::offer);
         }
-        
-        // Verifica se não é uma stopword
-        if (STOPWORDS.contains(word)) {
-            return false;
+
+        List<String> keywords = new ArrayList<>(top.size());
+        for (int termId : top.drainDescending()) {
+            keywords.add(dictionary.surface(termId));
         }
-        
-        // Verifica se contém apenas letras
-        return word.matches("^\\p{L}+$");
+        return keywords;
+    }
+
+    public KeywordMode getMode() {
+        return mode;
     }
     
     /**
@@ -115,7 +98,16 @@ public class keywordExtractor {
      * @return String formatada com palavras-chave
      */
     public String generateKeywordSection(String content) {
-        List<String> keywords = extractKeywords(content);
+        return formatKeywordSection(extractKeywords(content));
+    }
+
+    /**
+     * Formata palavras-chave já extraídas (ex.: memorizadas em DocumentAnalysis)
+     *
+     * @param keywords Palavras-chave
+     * @return String formatada com palavras-chave
+     */
+    public String formatKeywordSection(List<String> keywords) {
         if (keywords.isEmpty()) {
             return "";
         }
@@ -0,0 +1,497 @@
+package meuparser.ia.nlp;
+
+import meuparser.ia.ContentClassifier;
+import meuparser.ia.DocumentAnalysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Provedor HYBRID: encaminha cada documento ao provedor mais barato que seja adequado.
+ *
+ * A adequação vem da categoria (artigos, notícias e conteúdo educacional pedem análise
+ * sintática; menus, formulários e lojas se contentam com o grafo de similaridade).
+ * O custo é previsto pelo tamanho do documento e pela latência observada de cada
+ * provedor (média móvel em ns por caractere). Se o escolhido falhar, estourar o
+ * tempo limite ou encontrar o pool cheio, o próximo candidato é tentado automaticamente.
+ *
+ * As decisões recentes e os histogramas de latência ficam expostos para ajuste.
+ *
+ * Quem já conhece a categoria (ContentSummarizer) a informa em
+ * {@link #summarize(String, ContentClassifier.ContentCategory, int)}; sem ela, o texto
+ * é classificado uma vez e a categoria fica memorizada para as chamadas seguintes.
+ */
+public class HybridNLPSummarizer implements INLPSummarizer {
+
+    // Latência alvo: o provedor adequado mais barato precisa caber nela
+    private static final long TARGET_MS = Long.getLong("blindbrowser.hybrid.targetMs", 150L);
+    // Tempo limite de cada tentativa antes de passar ao próximo provedor
+    private static final long TIMEOUT_MS = Long.getLong("blindbrowser.hybrid.timeoutMs", 2000L);
+    private static final int MAX_DECISIONS = 50;
+    private static final double COST_SMOOTHING = 0.2;
+
+    // Pool limitado: com ele cheio a tentativa é recusada e o roteamento passa ao próximo provedor.
+    // Nunca roda na thread chamadora, onde o tempo limite não teria como interromper a espera
+    private static final int THREADS = Integer.getInteger("blindbrowser.hybrid.threads", 2);
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            THREADS, THREADS, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(THREADS * 4),
+            r -> {
+                Thread t = new Thread(r, "hybrid-nlp");
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    // Publicado inteiro em initialize/cleanup (leitores sempre veem um mapa completo)
+    private volatile Map<NLPProviderFactory.NLPProvider, Delegate> delegates =
+            Collections.emptyMap();
+    private final Deque<RoutingDecision> decisions = new ArrayDeque<>();
+    private volatile boolean initialized = false;
+
+    // Última categoria classificada aqui (o mesmo texto costuma chegar várias vezes seguidas)
+    private volatile String lastClassified;
+    private volatile ContentClassifier.ContentCategory lastCategory;
+
+    /**
+     * Provedor delegado com suas estatísticas de latência
+     */
+    private static class Delegate {
+        final NLPProviderFactory.NLPProvider provider;
+        final INLPSummarizer summarizer;
+        final int quality;
+        final LatencyHistogram histogram = new LatencyHistogram();
+        volatile double nanosPerChar;
+        // Tentativa que estourou o tempo e ainda roda (nem todo provedor atende à interrupção)
+        volatile Future<?> lateTask;
+        private boolean warmedUp;
+
+        Delegate(NLPProviderFactory.NLPProvider provider, INLPSummarizer summarizer) {
+            this.provider = provider;
+            this.summarizer = summarizer;
+            this.quality = qualityOf(provider);
+            this.nanosPerChar = priorNanosPerChar(provider);
+        }
+
+        long predictMillis(int length) {
+            return (long) (nanosPerChar * length / 1_000_000);
+        }
+
+        boolean isBusyWithLateTask() {
+            Future<?> late = lateTask;
+            return late != null && !late.isDone();
+        }
+
+        synchronized void recordSuccess(long elapsedNanos, int length) {
+            histogram.record(elapsedNanos / 1_000_000);
+            // A primeira chamada inclui aquecimento (JIT, carga de modelos) e não entra na estimativa
+            if (!warmedUp) {
+                warmedUp = true;
+                return;
+            }
+            double sample = (double) elapsedNanos / Math.max(1, length);
+            nanosPerChar += COST_SMOOTHING * (sample - nanosPerChar);
+        }
+    }
+
+    /**
+     * Histograma de latência em faixas fixas (ms), com contadores de falha e timeout
+     */
+    public static class LatencyHistogram {
+        public static final long[] BUCKET_LIMITS_MS = {10, 25, 50, 100, 250, 500, 1000, 2500};
+
+        private final long[] buckets = new long[BUCKET_LIMITS_MS.length + 1];
+        private long count;
+        private long totalMillis;
+        private long maxMillis;
+        private long failures;
+        private long timeouts;
+
+        synchronized void record(long millis) {
+            int bucket = 0;
+            while (bucket < BUCKET_LIMITS_MS.length && millis >= BUCKET_LIMITS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket]++;
+            count++;
+            totalMillis += millis;
+            maxMillis = Math.max(maxMillis, millis);
+        }
+
+        synchronized void recordFailure() {
+            failures++;
+        }
+
+        synchronized void recordTimeout() {
+            timeouts++;
+        }
+
+        public synchronized long[] getBuckets() {
+            return buckets.clone();
+        }
+
+        public synchronized long getCount() {
+            return count;
+        }
+
+        public synchronized long getFailures() {
+            return failures;
+        }
+
+        public synchronized long getTimeouts() {
+            return timeouts;
+        }
+
+        public synchronized double getMeanMillis() {
+            return count == 0 ? 0 : (double) totalMillis / count;
+        }
+
+        /**
+         * Percentil aproximado: limite superior da faixa que contém o percentil
+         */
+        public synchronized long percentileMillis(double percentile) {
+            if (count == 0) return 0;
+            long rank = (long) Math.ceil(percentile * count);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_LIMITS_MS.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) return BUCKET_LIMITS_MS[i];
+            }
+            return maxMillis;
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("n=%d média=%.1f ms p50≤%d p95≤%d máx=%d falhas=%d timeouts=%d [",
+                    count, getMeanMillis(), percentileMillis(0.5), percentileMillis(0.95), maxMillis,
+                    failures, timeouts));
+            for (int i = 0; i < buckets.length; i++) {
+                if (i > 0) sb.append(' ');
+                sb.append(i < BUCKET_LIMITS_MS.length ? "<" + BUCKET_LIMITS_MS[i] : "≥" + BUCKET_LIMITS_MS[i - 1])
+                        .append(':').append(buckets[i]);
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    /**
+     * Decisão de roteamento de um documento
+     */
+    public static class RoutingDecision {
+        public final int length;
+        public final ContentClassifier.ContentCategory category;
+        public final int requiredQuality;
+        public final NLPProviderFactory.NLPProvider chosen;
+        public final long predictedMillis;
+        public final String reason;
+        public final List<String> fallbacks = new ArrayList<>();
+        public NLPProviderFactory.NLPProvider servedBy;
+        public long elapsedMillis;
+
+        RoutingDecision(int length, ContentClassifier.ContentCategory category, int requiredQuality,
+                        NLPProviderFactory.NLPProvider chosen, long predictedMillis, String reason) {
+            this.length = length;
+            this.category = category;
+            this.requiredQuality = requiredQuality;
+            this.chosen = chosen;
+            this.predictedMillis = predictedMillis;
+            this.reason = reason;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Routing[%s, %d chars → %s (previsto %d ms, %s)%s → servido por %s em %d ms]",
+                    category.name(), length, chosen, predictedMillis, reason,
+                    fallbacks.isEmpty() ? "" : " fallbacks " + fallbacks, servedBy, elapsedMillis);
+        }
+    }
+
+    @Override
+    public synchronized void initialize() {
+        if (initialized) return;
+
+        Map<NLPProviderFactory.NLPProvider, Delegate> ready = new EnumMap<>(NLPProviderFactory.NLPProvider.class);
+        for (NLPProviderFactory.NLPProvider provider : NLPProviderFactory.getAvailableProviders()) {
+            if (provider == NLPProviderFactory.NLPProvider.HYBRID) continue;
+
+            INLPSummarizer summarizer = NLPProviderFactory.createSummarizer(provider);
+            if (summarizer == null) continue;
+            try {
+                summarizer.initialize();
+                if (summarizer.isReady()) {
+                    ready.put(provider, new Delegate(provider, summarizer));
+                } else {
+                    System.out.println("⚠️ HYBRID: " + provider + " não ficou pronto, ignorado");
+                }
+            } catch (Exception e) {
+                System.err.println("⚠️ HYBRID: falha ao inicializar " + provider + ": " + e.getMessage());
+            }
+        }
+
+        delegates = ready;
+        initialized = !ready.isEmpty();
+        System.out.println("✅ HYBRID inicializado com: " + ready.keySet());
+    }
+
+    @Override
+    public String summarize(String content, int maxSentences) {
+        return route(content, categoryOf(content), s -> s.summarize(content, maxSentences));
+    }
+
+    @Override
+    public String summarize(String content, ContentClassifier.ContentCategory category, int maxSentences) {
+        ContentClassifier.ContentCategory resolved = category != null ? category : categoryOf(content);
+        return route(content, resolved, s -> s.summarize(content, resolved, maxSentences));
+    }
+
+    @Override
+    public List<String> extractKeysentences(String content, int count) {
+        return route(content, categoryOf(content), s -> s.extractKeysentences(content, count));
+    }
+
+    /**
+     * Relevância de uma sentença é chamada uma vez por sentença do documento: vai direto
+     * ao provedor mais barato, na thread chamadora, sem classificar nem passar pelo pool
+     */
+    @Override
+    public double calculateSentenceRelevance(String sentence, String fullContext) {
+        Delegate cheapest = null;
+        for (Delegate delegate : readyDelegates().values()) {
+            if (cheapest == null || delegate.nanosPerChar < cheapest.nanosPerChar) {
+                cheapest = delegate;
+            }
+        }
+        return cheapest.summarizer.calculateSentenceRelevance(sentence, fullContext);
+    }
+
+    private Map<NLPProviderFactory.NLPProvider, Delegate> readyDelegates() {
+        Map<NLPProviderFactory.NLPProvider, Delegate> current = delegates;
+        if (!initialized || current.isEmpty()) {
+            throw new IllegalStateException("HYBRID sem provedores prontos");
+        }
+        return current;
+    }
+
+    /**
+     * Categoria do texto, classificada só quando muda em relação à chamada anterior
+     */
+    private ContentClassifier.ContentCategory categoryOf(String content) {
+        ContentClassifier.ContentCategory category = lastCategory;
+        if (content.equals(lastClassified) && category != null) {
+            return category;
+        }
+        category = DocumentAnalysis.of(content).getCategory();
+        lastCategory = category;
+        lastClassified = content;
+        return category;
+    }
+
+    /**
+     * Escolhe a ordem dos provedores para o documento e executa com fallback
+     */
+    private <T> T route(String content, ContentClassifier.ContentCategory category, Function<INLPSummarizer, T> call) {
+        Map<NLPProviderFactory.NLPProvider, Delegate> current = readyDelegates();
+
+        int length = content.length();
+        int required = requiredQuality(category);
+        List<Delegate> order = candidateOrder(current, length, required);
+
+        Delegate first = order.get(0);
+        long predicted = first.predictMillis(length);
+        String reason = first.quality >= required
+                ? (predicted <= TARGET_MS ? "adequado mais barato" : "adequado, acima do alvo")
+                : "nenhum adequado cabe no alvo";
+        RoutingDecision decision = new RoutingDecision(length, category, required, first.provider, predicted, reason);
+
+        long routeStart = System.nanoTime();
+        RuntimeException lastError = null;
+        for (Delegate delegate : order) {
+            long start = System.nanoTime();
+            Future<T> future;
+            try {
+                future = EXECUTOR.submit(() -> call.apply(delegate.summarizer));
+            } catch (RejectedExecutionException e) {
+                decision.fallbacks.add(delegate.provider + ": pool cheio");
+                lastError = e;
+                continue;
+            }
+            try {
+                T result = future.get(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (result == null || (result instanceof String && ((String) result).trim().isEmpty())) {
+                    delegate.histogram.recordFailure();
+                    decision.fallbacks.add(delegate.provider + ": vazio");
+                    continue;
+                }
+                delegate.recordSuccess(System.nanoTime() - start, length);
+                decision.servedBy = delegate.provider;
+                decision.elapsedMillis = (System.nanoTime() - routeStart) / 1_000_000;
+                remember(decision);
+                return result;
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                delegate.lateTask = future;
+                delegate.histogram.recordTimeout();
+                // Penaliza a estimativa para que documentos parecidos evitem este provedor
+                delegate.nanosPerChar = Math.max(delegate.nanosPerChar,
+                        (double) TIMEOUT_MS * 1_000_000 / Math.max(1, length));
+                decision.fallbacks.add(delegate.provider + ": timeout");
+                lastError = new RuntimeException(delegate.provider + " excedeu " + TIMEOUT_MS + " ms");
+            } catch (ExecutionException e) {
+                delegate.histogram.recordFailure();
+                decision.fallbacks.add(delegate.provider + ": " + e.getCause().getMessage());
+                lastError = new RuntimeException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                lastError = new RuntimeException("HYBRID interrompido", e);
+                break;
+            }
+            System.err.println("⚠️ HYBRID: " + delegate.provider + " falhou, tentando próximo provedor");
+        }
+
+        decision.elapsedMillis = (System.nanoTime() - routeStart) / 1_000_000;
+        remember(decision);
+        throw lastError != null ? lastError : new RuntimeException("HYBRID: nenhum provedor produziu resultado");
+    }
+
+    /**
+     * Ordem de tentativa: adequados que cabem no alvo (mais barato primeiro), depois os
+     * demais adequados e por fim os inadequados, ambos por custo previsto.
+     * Provedores ainda presos numa tentativa que estourou o tempo vão para o fim.
+     */
+    private List<Delegate> candidateOrder(Map<NLPProviderFactory.NLPProvider, Delegate> current,
+                                          int length, int required) {
+        List<Delegate> order = new ArrayList<>(current.values());
+        order.sort(Comparator
+                .comparing(Delegate::isBusyWithLateTask)
+                .thenComparingInt((Delegate d) -> {
+                    boolean adequate = d.quality >= required;
+                    boolean fits = d.predictMillis(length) <= TARGET_MS;
+                    if (adequate && fits) return 0;
+                    if (fits) return 1;      // inadequado mas rápido: melhor do que estourar o alvo
+                    return adequate ? 2 : 3;
+                })
+                .thenComparingLong(d -> d.predictMillis(length)));
+        return order;
+    }
+
+    private synchronized void remember(RoutingDecision decision) {
+        if (decisions.size() == MAX_DECISIONS) {
+            decisions.removeFirst();
+        }
+        decisions.addLast(decision);
+        System.out.println("📊 HYBRID: " + decision);
+    }
+
+    /**
+     * Qualidade mínima por categoria: texto corrido pede análise sintática
+     */
+    private static int requiredQuality(ContentClassifier.ContentCategory category) {
+        switch (category) {
+            case ARTICLE:
+            case NEWS:
+            case EDUCATIONAL:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    private static int qualityOf(NLPProviderFactory.NLPProvider provider) {
+        switch (provider) {
+            case HUGGINGFACE_TRANSFORMERS:
+            case DL4J_NEURAL:
+                return 3;
+            case STANFORD_CORENLP:
+                return 2;
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Custo inicial antes da primeira medida (SummarizerBenchmark, páginas sintéticas)
+     */
+    private static double priorNanosPerChar(NLPProviderFactory.NLPProvider provider) {
+        switch (provider) {
+            case TEXTRANK: return 600;
+            case APACHE_OPENNLP: return 800;
+            case STANFORD_CORENLP: return 1_300;
+            default: return 5_000;
+        }
+    }
+
+    /**
+     * Decisões de roteamento mais recentes (a última no fim)
+     */
+    public synchronized List<RoutingDecision> getRecentDecisions() {
+        return Collections.unmodifiableList(new ArrayList<>(decisions));
+    }
+
+    /**
+     * Histograma de latência de cada provedor delegado
+     */
+    public Map<NLPProviderFactory.NLPProvider, LatencyHistogram> getLatencyHistograms() {
+        Map<NLPProviderFactory.NLPProvider, LatencyHistogram> histograms =
+                new EnumMap<>(NLPProviderFactory.NLPProvider.class);
+        delegates.forEach((provider, delegate) -> histograms.put(provider, delegate.histogram));
+        return histograms;
+    }
+
+    /**
+     * Resumo textual do roteamento para logs e ajuste
+     */
+    public String getRoutingReport() {
+        StringBuilder sb = new StringBuilder("📊 HYBRID - latência por provedor\n");
+        delegates.forEach((provider, delegate) -> sb.append(String.format("   - %s (qualidade %d, %.0f ns/char): %s\n",
+                provider, delegate.quality, delegate.nanosPerChar, delegate.histogram)));
+        return sb.toString();
+    }
+
+    @Override
+    public NLPProviderInfo getProviderInfo() {
+        long memory = 0;
+        for (Delegate delegate : delegates.values()) {
+            memory += delegate.summarizer.getProviderInfo().estimatedMemoryUsage;
+        }
+        return new NLPProviderInfo(
+                "Hybrid",
+                "1.0",
+                "Roteamento por tamanho, categoria e latência entre " + delegates.keySet(),
+                false, false, memory
+        );
+    }
+
+    @Override
+    public boolean isReady() {
+        return initialized;
+    }
+
+    @Override
+    public synchronized void cleanup() {
+        Map<NLPProviderFactory.NLPProvider, Delegate> previous = delegates;
+        initialized = false;
+        delegates = Collections.emptyMap();
+        for (Delegate delegate : previous.values()) {
+            delegate.summarizer.cleanup();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package meuparser.ia.nlp;
 
+import meuparser.ia.ContentClassifier;
+
 import java.util.List;
 
 /**
@@ -20,6 +22,23 @@ public interface INLPSummarizer {
         return summarize(content, 3);
     }
 
+    /**
+     * Gera resumo sabendo a categoria já classificada pelo chamador
+     * (provedores que escolhem a estratégia pela categoria não precisam reclassificar)
+     */
+    default String summarize(String content, ContentClassifier.ContentCategory category, int maxSentences) {
+        return summarize(content, maxSentences);
+    }
+
+    /**
+     * Resume vários documentos de uma vez, num pool limitado de workers
+     * ({@link SummaryBatch#DEFAULT_PARALLELISM}). Retorna imediatamente; os resultados
+     * chegam pelos futures (ordem de entrada) ou pelo stream em ordem de conclusão.
+     */
+    default SummaryBatch summarizeBatch(List<String> documents, int maxSentences) {
+        return SummaryBatch.submit(this, documents, maxSentences, SummaryBatch.DEFAULT_PARALLELISM);
+    }
+
     /**
      * Extrai sentenças mais importantes ordenadas por relevância
      */
@@ -14,6 +14,7 @@ public class NLPProviderFactory {
         APACHE_OPENNLP,      // Mais leve, boa performance
         DL4J_NEURAL,         // Deep Learning, melhor para tarefas complexas
         HUGGINGFACE_TRANSFORMERS, // Estado da arte, BERT/GPT
+        TEXTRANK,            // Grafo de similaridade (LexRank), sem modelos - rápido
         HYBRID              // Combina múltiplos provedores
     }
 
@@ -54,6 +55,17 @@ public class NLPProviderFactory {
         }
     }
 
+    /**
+     * Cria o sumarizador de um provedor específico, sem fallback para outro provedor
+     * (usado pelo HYBRID para montar seus delegados)
+     *
+     * @return instância não inicializada ou null se a classe não estiver disponível
+     */
+    static INLPSummarizer createSummarizer(NLPProvider provider) {
+        String className = getClassNameForProvider(provider);
+        return className != null ? createSummarizerByReflection(className) : null;
+    }
+
     /**
      * Cria sumarizador usando APENAS reflexão (não quebra compilação)
      */
@@ -95,6 +107,8 @@ public class NLPProviderFactory {
                 return "meuparser.ia.nlp.DL4JNeuralSummarizer";
             case HUGGINGFACE_TRANSFORMERS:
                 return "meuparser.ia.nlp.HuggingFaceTransformerSummarizer";
+            case TEXTRANK:
+                return "meuparser.ia.nlp.TextRankSummarizer";
             case HYBRID:
                 return "meuparser.ia.nlp.HybridNLPSummarizer";
             default:
@@ -163,6 +177,7 @@ public class NLPProviderFactory {
                 NLPProvider.HUGGINGFACE_TRANSFORMERS,
                 NLPProvider.DL4J_NEURAL,
                 NLPProvider.APACHE_OPENNLP,
+                NLPProvider.TEXTRANK,
                 NLPProvider.HYBRID
         };
 
@@ -1,5 +1,6 @@
 package meuparser.ia.nlp;
 
+import meuparser.scheduler.TaskScheduler;
 import edu.stanford.nlp.pipeline.*;
 import edu.stanford.nlp.ling.*;
 import edu.stanford.nlp.util.*;
@@ -16,6 +17,10 @@ public class StanfordCoreNLPSummarizer implements INLPSummarizer {
     private boolean initialized = false;
     private final Object initLock = new Object();
 
+    // Threads de anotação do CoreNLP num lote (independente das threads da faixa BATCH)
+    private static final int BATCH_ANNOTATION_THREADS = Integer.getInteger("blindbrowser.corenlp.batchThreads",
+            Runtime.getRuntime().availableProcessors());
+
     // Evita tentativas repetidas após falha permanente
     private static volatile boolean permanentlyDisabled = false;
 
@@ -87,25 +92,7 @@ public class StanfordCoreNLPSummarizer implements INLPSummarizer {
             Annotation document = new Annotation(cleanContent);
             pipeline.annotate(document);
 
-            // Extração de sentenças básica
-            List<CoreMap> sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
-
-            if (sentences == null || sentences.isEmpty()) {
-                return fallbackSummarize(content, maxSentences);
-            }
-
-            // ðŸ”§ CORREÇão CRÍTICA: Calcular limite baseado no tamanho do conteãºdo
-            int targetSentenceCount = calculateAdaptiveSentenceCount(content.length(), maxSentences);
-            int limit = Math.min(targetSentenceCount, sentences.size());
-
-            System.out.printf("📊 Stanford CoreNLP: %d sentenças disponíveis → selecionando %d sentenças (maxSentences: %d)\n",
-                    sentences.size(), limit, maxSentences);
-
-            // ✅ Seleciona sentenças baseado no limite calculado
-            String summary = sentences.stream()
-                    .limit(limit)
-                    .map(CoreMap::toString)
-                    .collect(Collectors.joining(" "));
+            String summary = buildSummary(content, document, maxSentences);
 
             long processingTime = System.currentTimeMillis() - startTime;
             System.out.printf("📊 Stanford CoreNLP: %d chars → %d chars em %d ms\n",
@@ -119,6 +106,85 @@ public class StanfordCoreNLPSummarizer implements INLPSummarizer {
         }
     }
 
+    /**
+     * Seleciona as sentenças do documento já anotado
+     */
+    private String buildSummary(String content, Annotation document, int maxSentences) {
+        // Extração de sentenças básica
+        List<CoreMap> sentences = document.get(CoreAnnotations.SentencesAnnotation.class);
+
+        if (sentences == null || sentences.isEmpty()) {
+            return fallbackSummarize(content, maxSentences);
+        }
+
+        // ðŸ”§ CORREÇão CRÍTICA: Calcular limite baseado no tamanho do conteãºdo
+        int targetSentenceCount = calculateAdaptiveSentenceCount(content.length(), maxSentences);
+        int limit = Math.min(targetSentenceCount, sentences.size());
+
+        System.out.printf("📊 Stanford CoreNLP: %d sentenças disponíveis → selecionando %d sentenças (maxSentences: %d)\n",
+                sentences.size(), limit, maxSentences);
+
+        // ✅ Seleciona sentenças baseado no limite calculado
+        return sentences.stream()
+                .limit(limit)
+                .map(CoreMap::toString)
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Lote com anotação multi-thread do próprio CoreNLP: os documentos são anotados
+     * em paralelo pelo pipeline e cada um é entregue assim que termina
+     */
+    @Override
+    public SummaryBatch summarizeBatch(List<String> documents, int maxSentences) {
+        if (!ensureInitialized()) {
+            return INLPSummarizer.super.summarizeBatch(documents, maxSentences);
+        }
+
+        SummaryBatch batch = new SummaryBatch(documents.size());
+        List<Annotation> annotations = new ArrayList<>();
+        Map<Annotation, Integer> positions = new IdentityHashMap<>();
+
+        for (int i = 0; i < documents.size(); i++) {
+            String cleanContent = preprocessContent(documents.get(i));
+            if (cleanContent.length() < 100) {
+                batch.complete(i, cleanContent);
+                continue;
+            }
+            Annotation annotation = new Annotation(cleanContent);
+            annotations.add(annotation);
+            positions.put(annotation, i);
+        }
+        if (annotations.isEmpty()) return batch;
+
+        // Roda como uma tarefa da faixa BATCH do agendador (baixa prioridade, segurada durante
+        // carregamentos); dentro dela o CoreNLP anota com suas próprias threads
+        int threads = Math.min(BATCH_ANNOTATION_THREADS, annotations.size());
+        TaskScheduler.getInstance().run(TaskScheduler.Lane.BATCH, "lote CoreNLP (" + documents.size() + " documentos)", () -> {
+            long startTime = System.currentTimeMillis();
+            try {
+                pipeline.annotate(annotations, threads, annotation -> {
+                    int index = positions.get(annotation);
+                    try {
+                        batch.complete(index, buildSummary(documents.get(index), annotation, maxSentences));
+                    } catch (Exception e) {
+                        batch.fail(index, e);
+                    }
+                });
+            } catch (Exception e) {
+                System.err.println("❌ Erro no lote Stanford CoreNLP: " + e.getMessage());
+            }
+            // Documentos cuja anotação falhou não passam pelo callback
+            batch.failPending(new IllegalStateException("Anotação não concluída pelo CoreNLP"));
+            System.out.printf("📊 Stanford CoreNLP: lote de %d documentos em %d ms (%d threads)\n",
+                    documents.size(), System.currentTimeMillis() - startTime, threads);
+        }).whenComplete((done, error) -> {
+            // Fila da faixa cheia ou lote cancelado antes de terminar
+            if (error != null) batch.failPending(error);
+        });
+        return batch;
+    }
+
     /**
      * CORRIGIDO: Calcula nãºmero mais conservador de sentenças para reduzir compressão excessiva
      */
@@ -0,0 +1,169 @@
+package meuparser.ia.nlp;
+
+import meuparser.scheduler.TaskScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Lote de documentos em sumarização.
+ * Os resultados ficam disponíveis como futures (na ordem de entrada) e como stream
+ * na ordem de conclusão, para que quem consome não espere o documento mais lento.
+ */
+public class SummaryBatch {
+
+    // Workers por lote: as threads da faixa BATCH do agendador, uma por núcleo
+    // (-Dblindbrowser.scheduler.batch.threads)
+    public static final int DEFAULT_PARALLELISM = TaskScheduler.Lane.BATCH.getThreads();
+
+    private final List<CompletableFuture<Item>> futures;
+    private final BlockingQueue<Item> completed = new LinkedBlockingQueue<>();
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Resultado de um documento do lote
+     */
+    public static class Item {
+        public final int index;          // posição do documento na coleção de entrada
+        public final String summary;     // null se falhou
+        public final Throwable error;    // null se teve sucesso
+        public final long elapsedMillis; // desde o início do lote
+
+        Item(int index, String summary, Throwable error, long elapsedMillis) {
+            this.index = index;
+            this.summary = summary;
+            this.error = error;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess()
+                    ? String.format("Item[#%d: %d chars em %d ms]", index, summary.length(), elapsedMillis)
+                    : String.format("Item[#%d: falha em %d ms - %s]", index, elapsedMillis, error.getMessage());
+        }
+    }
+
+    SummaryBatch(int size) {
+        List<CompletableFuture<Item>> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(new CompletableFuture<>());
+        }
+        this.futures = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Lote genérico: até parallelism workers na faixa BATCH do agendador (baixa prioridade,
+     * segurada enquanto houver carregamento), cada um pegando o próximo documento ainda não resumido
+     */
+    static SummaryBatch submit(INLPSummarizer summarizer, List<String> documents, int maxSentences, int parallelism) {
+        SummaryBatch batch = new SummaryBatch(documents.size());
+        if (documents.isEmpty()) return batch;
+
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.max(1, Math.min(parallelism, documents.size()));
+        List<CompletableFuture<Void>> accepted = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            CompletableFuture<Void> worker = TaskScheduler.getInstance().run(TaskScheduler.Lane.BATCH,
+                    "lote de resumos (" + documents.size() + " documentos)", () -> {
+                        int index;
+                        while ((index = next.getAndIncrement()) < documents.size()) {
+                            try {
+                                batch.complete(index, summarizer.summarize(documents.get(index), maxSentences));
+                            } catch (Exception e) {
+                                batch.fail(index, e);
+                            }
+                        }
+                    });
+            accepted.add(worker);
+        }
+        // Se nenhum worker foi aceito (fila cheia) ou todos foram cancelados, nada mais vai resumir o lote
+        CompletableFuture.allOf(accepted.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((done, error) -> batch.failPending(error != null ? error
+                        : new IllegalStateException("Lote encerrado sem resumir o documento")));
+        return batch;
+    }
+
+    void complete(int index, String summary) {
+        finish(new Item(index, summary, null, elapsedMillis()));
+    }
+
+    void fail(int index, Throwable error) {
+        finish(new Item(index, null, error, elapsedMillis()));
+    }
+
+    /**
+     * Marca como falha todos os documentos que ainda não terminaram
+     */
+    void failPending(Throwable error) {
+        for (int i = 0; i < futures.size(); i++) {
+            if (!futures.get(i).isDone()) {
+                fail(i, error);
+            }
+        }
+    }
+
+    private void finish(Item item) {
+        // complete() devolve false se o documento já terminou: não duplica no stream
+        if (futures.get(item.index).complete(item)) {
+            completed.add(item);
+        }
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public int size() {
+        return futures.size();
+    }
+
+    /**
+     * Futures na ordem dos documentos de entrada (falhas completam normalmente, com Item.error)
+     */
+    public List<CompletableFuture<Item>> getFutures() {
+        return futures;
+    }
+
+    public CompletableFuture<Item> get(int index) {
+        return futures.get(index);
+    }
+
+    /**
+     * Resultados na ordem em que terminam; bloqueia até o próximo ficar pronto.
+     * O stream consome a fila de conclusão, então deve ser percorrido uma única vez.
+     */
+    public Stream<Item> completionOrder() {
+        return IntStream.range(0, futures.size()).mapToObj(i -> {
+            try {
+                return completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Espera do lote interrompida", e);
+            }
+        });
+    }
+
+    /**
+     * Todos os resultados, na ordem de entrada, quando o lote inteiro terminar
+     */
+    public CompletableFuture<List<Item>> all() {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> {
+                    List<Item> items = new ArrayList<>(futures.size());
+                    futures.forEach(f -> items.add(f.join()));
+                    return items;
+                });
+    }
+}
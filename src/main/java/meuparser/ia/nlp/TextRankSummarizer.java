@@ -0,0 +1,478 @@
+package meuparser.ia.nlp;
+
+import meuparser.ia.text.TermFrequencies;
+import meuparser.ia.text.TextTokenizer;
+import meuparser.ia.text.TopK;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+/**
+ * Sumarizador extrativo por grafo (LexRank / TextRank contínuo), sem modelos externos.
+ *
+ * Cada sentença vira um vetor esparso tf-idf de IDs de termos (TextTokenizer); arestas
+ * ligam sentenças com cosseno acima de um limiar, calculado via listas invertidas
+ * (só pares que compartilham termos). A centralidade sai de power iteration com
+ * limite de iterações e de tempo. Documentos grandes calculam as linhas do grafo em paralelo.
+ */
+public class TextRankSummarizer implements INLPSummarizer {
+
+    private static final double DAMPING = 0.85;
+    private static final double SIMILARITY_THRESHOLD = 0.1;
+    private static final double TOLERANCE = 1e-4;
+    private static final int MAX_ITERATIONS = 100;
+    private static final int MIN_SENTENCE_LENGTH = 20;
+
+    // A partir de quantas sentenças a similaridade é calculada em paralelo
+    private static final int PARALLEL_THRESHOLD = Integer.getInteger("blindbrowser.textrank.parallel", 150);
+    // Orçamento de tempo da power iteration
+    private static final long ITERATION_BUDGET_MS = Long.getLong("blindbrowser.textrank.budgetMs", 50L);
+
+    // Acumulador por thread para o cálculo de uma linha do grafo (evita double[n] por sentença)
+    private static final ThreadLocal<RowScratch> SCRATCH = ThreadLocal.withInitial(RowScratch::new);
+
+    private boolean initialized = false;
+    private volatile RankStats lastStats;
+
+    /**
+     * Estatísticas da última ordenação (para benchmark e ajuste)
+     */
+    public static class RankStats {
+        public final int sentences;
+        public final long edges;
+        public final int iterations;
+        public final boolean converged;
+        public final boolean parallel;
+        public final long similarityMillis;
+        public final long iterationMillis;
+
+        RankStats(int sentences, long edges, int iterations, boolean converged, boolean parallel,
+                  long similarityMillis, long iterationMillis) {
+            this.sentences = sentences;
+            this.edges = edges;
+            this.iterations = iterations;
+            this.converged = converged;
+            this.parallel = parallel;
+            this.similarityMillis = similarityMillis;
+            this.iterationMillis = iterationMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("RankStats[%d sentenças, %d arestas, %d iterações%s, %s, similaridade %d ms, iteração %d ms]",
+                    sentences, edges, iterations, converged ? "" : " (limite)", parallel ? "paralelo" : "sequencial",
+                    similarityMillis, iterationMillis);
+        }
+    }
+
+    /**
+     * Sentenças do documento com sua centralidade no grafo
+     */
+    static class Ranking {
+        final List<String> sentences;
+        final double[] scores;
+
+        Ranking(List<String> sentences, double[] scores) {
+            this.sentences = sentences;
+            this.scores = scores;
+        }
+    }
+
+    /**
+     * Vetor esparso normalizado: IDs ordenados e pesos tf-idf
+     */
+    private static class SparseVector {
+        final int[] ids;
+        final double[] weights;
+
+        SparseVector(int[] ids, double[] weights) {
+            this.ids = ids;
+            this.weights = weights;
+        }
+    }
+
+    private static class RowScratch {
+        double[] accumulator = new double[0];
+        int[] touched = new int[0];
+    }
+
+    @Override
+    public void initialize() {
+        initialized = true;
+    }
+
+    @Override
+    public String summarize(String content, int maxSentences) {
+        long startTime = System.currentTimeMillis();
+        Ranking ranking = rank(content);
+        List<String> sentences = ranking.sentences;
+
+        if (sentences.size() <= maxSentences) {
+            return String.join(" ", sentences);
+        }
+
+        // Melhores sentenças, reapresentadas na ordem do documento
+        TopK top = new TopK(maxSentences);
+        for (int i = 0; i < sentences.size(); i++) {
+            top.offer(i, ranking.scores[i]);
+        }
+        int[] chosen = top.drainDescending();
+        Arrays.sort(chosen);
+
+        StringBuilder summary = new StringBuilder();
+        for (int index : chosen) {
+            if (summary.length() > 0) summary.append(' ');
+            summary.append(sentences.get(index));
+        }
+
+        System.out.printf("📊 TextRank: %d chars → %d chars em %d ms (%s)\n",
+                content.length(), summary.length(), System.currentTimeMillis() - startTime, lastStats);
+        return summary.toString();
+    }
+
+    @Override
+    public List<String> extractKeysentences(String content, int count) {
+        Ranking ranking = rank(content);
+        TopK top = new TopK(count);
+        for (int i = 0; i < ranking.sentences.size(); i++) {
+            top.offer(i, ranking.scores[i]);
+        }
+        List<String> result = new ArrayList<>();
+        for (int index : top.drainDescending()) {
+            result.add(ranking.sentences.get(index));
+        }
+        return result;
+    }
+
+    /**
+     * Cosseno entre a sentença e o centróide do contexto (0..1)
+     */
+    @Override
+    public double calculateSentenceRelevance(String sentence, String fullContext) {
+        TextTokenizer tokenizer = TextTokenizer.SIGNIFICANT.withNewDictionary();
+        SparseVector target = toVector(tokenizer.termIds(sentence), null, 0);
+        SparseVector centroid = toVector(tokenizer.termIds(preprocessContent(fullContext)), null, 0);
+        return cosine(target, centroid);
+    }
+
+    /**
+     * Monta o grafo de similaridade e calcula a centralidade de cada sentença
+     */
+    Ranking rank(String content) {
+        List<String> sentences = splitSentences(preprocessContent(content == null ? "" : content));
+        int n = sentences.size();
+        if (n == 0) {
+            lastStats = new RankStats(0, 0, 0, true, false, 0, 0);
+            return new Ranking(sentences, new double[0]);
+        }
+
+        long similarityStart = System.nanoTime();
+
+        // 1. Termos por sentença e frequência de sentenças por termo (para o idf)
+        int[][] termIds = new int[n][];
+        TermFrequencies sentenceFrequency = new TermFrequencies(n * 4);
+        TextTokenizer tokenizer = TextTokenizer.SIGNIFICANT.withNewDictionary(); // IDs só deste documento
+        for (int i = 0; i < n; i++) {
+            termIds[i] = tokenizer.termIds(sentences.get(i));
+            int[] distinct = distinct(termIds[i]);
+            for (int id : distinct) {
+                sentenceFrequency.add(id);
+            }
+        }
+
+        // 2. Vetores tf-idf normalizados
+        SparseVector[] vectors = new SparseVector[n];
+        for (int i = 0; i < n; i++) {
+            vectors[i] = toVector(termIds[i], sentenceFrequency, n);
+        }
+
+        // 3. Listas invertidas termo -> sentenças (pares termo/sentença ordenados)
+        Postings postings = buildPostings(vectors);
+
+        // 4. Linhas do grafo (paralelo para documentos grandes)
+        int[][] neighbors = new int[n][];
+        double[][] weights = new double[n][];
+        boolean parallel = n >= PARALLEL_THRESHOLD;
+        IntStream rows = IntStream.range(0, n);
+        (parallel ? rows.parallel() : rows).forEach(i -> buildRow(i, vectors, postings, neighbors, weights));
+
+        long edges = 0;
+        for (int[] row : neighbors) {
+            edges += row.length;
+        }
+        long similarityMillis = (System.nanoTime() - similarityStart) / 1_000_000;
+
+        // 5. Power iteration com limite de iterações e de tempo
+        long iterationStart = System.nanoTime();
+        long deadline = iterationStart + ITERATION_BUDGET_MS * 1_000_000;
+        double[] rowSums = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (double w : weights[i]) {
+                rowSums[i] += w;
+            }
+        }
+
+        double[] scores = new double[n];
+        double[] next = new double[n];
+        Arrays.fill(scores, 1.0 / n);
+        int iterations = 0;
+        boolean converged = false;
+
+        while (iterations < MAX_ITERATIONS) {
+            double danglingMass = 0.0;
+            for (int j = 0; j < n; j++) {
+                if (rowSums[j] == 0.0) danglingMass += scores[j];
+            }
+            double base = (1.0 - DAMPING) / n + DAMPING * danglingMass / n;
+
+            double delta = 0.0;
+            for (int i = 0; i < n; i++) {
+                double sum = 0.0;
+                int[] row = neighbors[i];
+                double[] rowWeights = weights[i];
+                for (int k = 0; k < row.length; k++) {
+                    int j = row[k];
+                    sum += rowWeights[k] / rowSums[j] * scores[j];
+                }
+                next[i] = base + DAMPING * sum;
+                delta += Math.abs(next[i] - scores[i]);
+            }
+
+            double[] swap = scores;
+            scores = next;
+            next = swap;
+            iterations++;
+
+            if (delta < TOLERANCE) {
+                converged = true;
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+        }
+
+        lastStats = new RankStats(n, edges, iterations, converged, parallel, similarityMillis,
+                (System.nanoTime() - iterationStart) / 1_000_000);
+        return new Ranking(sentences, scores);
+    }
+
+    private void buildRow(int i, SparseVector[] vectors, Postings postings, int[][] neighbors, double[][] weights) {
+        RowScratch scratch = SCRATCH.get();
+        int n = vectors.length;
+        if (scratch.accumulator.length < n) {
+            scratch.accumulator = new double[n];
+            scratch.touched = new int[n];
+        }
+        double[] accumulator = scratch.accumulator;
+        int[] touched = scratch.touched;
+        int touchedCount = 0;
+
+        // Produto interno só com sentenças que compartilham termos
+        SparseVector vector = vectors[i];
+        for (int k = 0; k < vector.ids.length; k++) {
+            int start = postings.start(vector.ids[k]);
+            if (start < 0) continue;
+            for (int p = start; p < postings.termIds.length && postings.termIds[p] == vector.ids[k]; p++) {
+                int j = postings.sentences[p];
+                if (j == i) continue;
+                if (accumulator[j] == 0.0) {
+                    touched[touchedCount++] = j;
+                }
+                accumulator[j] += vector.weights[k] * postings.weights[p];
+            }
+        }
+
+        int count = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            if (accumulator[touched[t]] > SIMILARITY_THRESHOLD) count++;
+        }
+        int[] row = new int[count];
+        double[] rowWeights = new double[count];
+        int c = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int j = touched[t];
+            if (accumulator[j] > SIMILARITY_THRESHOLD) {
+                row[c] = j;
+                rowWeights[c] = accumulator[j];
+                c++;
+            }
+            accumulator[j] = 0.0;
+        }
+        neighbors[i] = row;
+        weights[i] = rowWeights;
+    }
+
+    /**
+     * Listas invertidas em arrays paralelos ordenados por termo
+     */
+    private static class Postings {
+        final int[] termIds;
+        final int[] sentences;
+        final double[] weights;
+
+        Postings(int[] termIds, int[] sentences, double[] weights) {
+            this.termIds = termIds;
+            this.sentences = sentences;
+            this.weights = weights;
+        }
+
+        /**
+         * Primeira posição do termo (busca binária) ou -1
+         */
+        int start(int termId) {
+            int low = 0;
+            int high = termIds.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (termIds[mid] < termId) {
+                    low = mid + 1;
+                } else {
+                    if (termIds[mid] == termId) found = mid;
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+    }
+
+    private static Postings buildPostings(SparseVector[] vectors) {
+        int total = 0;
+        for (SparseVector vector : vectors) {
+            total += vector.ids.length;
+        }
+        // (termo << 32 | sentença) ordenado agrupa as sentenças de cada termo
+        long[] packed = new long[total];
+        int p = 0;
+        for (int i = 0; i < vectors.length; i++) {
+            for (int id : vectors[i].ids) {
+                packed[p++] = ((long) id << 32) | i;
+            }
+        }
+        Arrays.sort(packed);
+
+        int[] termIds = new int[total];
+        int[] sentences = new int[total];
+        double[] weights = new double[total];
+        for (int k = 0; k < total; k++) {
+            int termId = (int) (packed[k] >>> 32);
+            int sentence = (int) packed[k];
+            termIds[k] = termId;
+            sentences[k] = sentence;
+            SparseVector vector = vectors[sentence];
+            weights[k] = vector.weights[Arrays.binarySearch(vector.ids, termId)];
+        }
+        return new Postings(termIds, sentences, weights);
+    }
+
+    /**
+     * Vetor tf-idf normalizado; sem tabela de frequência, usa apenas tf
+     */
+    private static SparseVector toVector(int[] termIds, TermFrequencies sentenceFrequency, int sentenceCount) {
+        int[] sorted = termIds.clone();
+        Arrays.sort(sorted);
+        int[] ids = new int[sorted.length];
+        double[] weights = new double[sorted.length];
+        int distinct = 0;
+        for (int k = 0; k < sorted.length; k++) {
+            if (distinct > 0 && ids[distinct - 1] == sorted[k]) {
+                weights[distinct - 1] += 1.0;
+            } else {
+                ids[distinct] = sorted[k];
+                weights[distinct] = 1.0;
+                distinct++;
+            }
+        }
+
+        double norm = 0.0;
+        for (int k = 0; k < distinct; k++) {
+            if (sentenceFrequency != null) {
+                weights[k] *= Math.log((double) sentenceCount / sentenceFrequency.get(ids[k])) + 1.0;
+            }
+            norm += weights[k] * weights[k];
+        }
+        norm = Math.sqrt(norm);
+        for (int k = 0; k < distinct; k++) {
+            weights[k] /= norm;
+        }
+        return new SparseVector(Arrays.copyOf(ids, distinct), Arrays.copyOf(weights, distinct));
+    }
+
+    private static double cosine(SparseVector a, SparseVector b) {
+        double dot = 0.0;
+        int i = 0, j = 0;
+        while (i < a.ids.length && j < b.ids.length) {
+            if (a.ids[i] == b.ids[j]) {
+                dot += a.weights[i++] * b.weights[j++];
+            } else if (a.ids[i] < b.ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return dot;
+    }
+
+    private static int[] distinct(int[] ids) {
+        int[] sorted = ids.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int k = 0; k < sorted.length; k++) {
+            if (k == 0 || sorted[k] != sorted[k - 1]) {
+                sorted[count++] = sorted[k];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    private static List<String> splitSentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        BreakIterator iterator = BreakIterator.getSentenceInstance(new Locale("pt", "BR"));
+        iterator.setText(text);
+
+        int start = iterator.first();
+        for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+            String sentence = text.substring(start, end).trim();
+            if (sentence.length() >= MIN_SENTENCE_LENGTH) {
+                sentences.add(sentence);
+            }
+        }
+        return sentences;
+    }
+
+    private static String preprocessContent(String content) {
+        return content
+                .replaceAll("\\[.*?\\]", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    public RankStats getLastStats() {
+        return lastStats;
+    }
+
+    @Override
+    public NLPProviderInfo getProviderInfo() {
+        return new NLPProviderInfo(
+                "TextRank",
+                "1.0",
+                "LexRank sobre vetores tf-idf de IDs de termos - sem modelos",
+                false, false, 16_000_000L
+        );
+    }
+
+    @Override
+    public boolean isReady() {
+        return initialized;
+    }
+
+    @Override
+    public void cleanup() {
+        initialized = false;
+    }
+}
@@ -0,0 +1,250 @@
+package meuparser.ia.rules;
+
+import meuparser.ia.AIParserIntegratorFactory;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Motor compartilhado que carrega, valida e executa os perfis declarativos de site.
+ *
+ * Os perfis embutidos ficam em /siterules (listados em index.txt). Um diretório externo
+ * pode ser informado com -Dblindbrowser.siterules.dir para ajustar um site sem nova release:
+ * arquivos *.properties ali sobrescrevem o perfil embutido de mesmo "site".
+ * Toda validação e compilação acontece no carregamento; perfis inválidos são descartados com log.
+ */
+public final class SiteRuleEngine {
+
+    public static final String DIR_PROPERTY = "blindbrowser.siterules.dir";
+    private static final String CLASSPATH_DIR = "/siterules/";
+
+    private static volatile SiteRuleEngine instance;
+
+    private final Map<String, SiteRuleProfile> profiles;
+
+    private SiteRuleEngine(Map<String, SiteRuleProfile> profiles) {
+        this.profiles = Collections.unmodifiableMap(profiles);
+    }
+
+    /**
+     * Retorna o motor, carregando os perfis na primeira chamada
+     */
+    public static SiteRuleEngine getInstance() {
+        SiteRuleEngine local = instance;
+        if (local == null) {
+            synchronized (SiteRuleEngine.class) {
+                local = instance;
+                if (local == null) {
+                    local = load();
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /**
+     * Recarrega os perfis (ex.: após editar arquivos no diretório externo)
+     */
+    public static synchronized SiteRuleEngine reload() {
+        instance = load();
+        return instance;
+    }
+
+    private static SiteRuleEngine load() {
+        long start = System.currentTimeMillis();
+        Map<String, SiteRuleProfile> loaded = new LinkedHashMap<>();
+
+        for (String file : readClasspathIndex()) {
+            try (InputStream in = SiteRuleEngine.class.getResourceAsStream(CLASSPATH_DIR + file)) {
+                if (in == null) {
+                    System.err.println("⚠️ Perfil listado no índice não encontrado: " + file);
+                    continue;
+                }
+                register(loaded, in, "classpath:" + file);
+            } catch (IOException e) {
+                System.err.println("❌ Erro lendo perfil " + file + ": " + e.getMessage());
+            }
+        }
+
+        String externalDir = System.getProperty(DIR_PROPERTY);
+        if (externalDir != null && !externalDir.isBlank()) {
+            Path dir = Paths.get(externalDir);
+            if (Files.isDirectory(dir)) {
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.properties")) {
+                    for (Path path : files) {
+                        try (InputStream in = Files.newInputStream(path)) {
+                            register(loaded, in, path.toString());
+                        }
+                    }
+                } catch (IOException e) {
+                    System.err.println("❌ Erro lendo diretório de perfis " + dir + ": " + e.getMessage());
+                }
+            } else {
+                System.err.println("⚠️ " + DIR_PROPERTY + " não é um diretório: " + externalDir);
+            }
+        }
+
+        System.out.println("DEBUG: SiteRuleEngine - " + loaded.size() + " perfis compilados em "
+                + (System.currentTimeMillis() - start) + "ms " + loaded.keySet());
+        return new SiteRuleEngine(loaded);
+    }
+
+    private static List<String> readClasspathIndex() {
+        List<String> files = new ArrayList<>();
+        try (InputStream in = SiteRuleEngine.class.getResourceAsStream(CLASSPATH_DIR + "index.txt")) {
+            if (in == null) {
+                System.err.println("⚠️ Índice de perfis de site não encontrado no classpath");
+                return files;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    files.add(line);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Erro lendo índice de perfis: " + e.getMessage());
+        }
+        return files;
+    }
+
+    private static void register(Map<String, SiteRuleProfile> loaded, InputStream in, String source) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        try {
+            SiteRuleProfile profile = SiteRuleProfile.compile(props, source);
+            SiteRuleProfile previous = loaded.put(profile.getName(), profile);
+            if (previous != null) {
+                System.out.println("DEBUG: SiteRuleEngine - perfil '" + profile.getName()
+                        + "' de " + previous.getSource() + " sobrescrito por " + source);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ Perfil inválido ignorado (" + source + "): " + e.getMessage());
+        }
+    }
+
+    // ===== CONSULTA =====
+
+    public Optional<SiteRuleProfile> getProfile(String name) {
+        return Optional.ofNullable(profiles.get(name));
+    }
+
+    public Optional<SiteRuleProfile> findByUrl(String url) {
+        if (url == null || url.isEmpty()) return Optional.empty();
+        String host = AIParserIntegratorFactory.extractHost(url);
+        return profiles.values().stream()
+                .filter(p -> p.matchesHost(host))
+                .max(Comparator.comparingInt(p -> p.matchLength(host)));
+    }
+
+    public Map<String, SiteRuleProfile> getProfiles() {
+        return profiles;
+    }
+
+    // ===== EXECUÇÃO =====
+
+    /**
+     * Seleciona o conteúdo principal usando o seletor compilado do perfil
+     */
+    public Elements selectMain(SiteRuleProfile profile, Document document) {
+        if (document == null || profile.getMainEvaluator() == null) {
+            return new Elements();
+        }
+        return document.select(profile.getMainEvaluator());
+    }
+
+    /**
+     * Remove do conteúdo os elementos irrelevantes do perfil (uma única passada por raiz)
+     *
+     * @return número de elementos removidos
+     */
+    public int removeIrrelevant(SiteRuleProfile profile, Elements content) {
+        if (content == null || profile.getRemoveEvaluator() == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (Element root : content) {
+            Elements matches = root.select(profile.getRemoveEvaluator());
+            removed += matches.size();
+            matches.remove();
+        }
+        return removed;
+    }
+
+    /**
+     * Extrai um campo de metadado declarado (meta.<campo>), tentando as alternativas em ordem
+     *
+     * @return valor encontrado ou string vazia
+     */
+    public String extractField(SiteRuleProfile profile, Document document, String field) {
+        if (document == null) return "";
+        for (SiteRuleProfile.FieldLookup lookup : profile.getFieldLookups(field)) {
+            Element element = document.selectFirst(lookup.evaluator);
+            if (element == null) continue;
+            String value = (lookup.attribute != null ? element.attr(lookup.attribute) : element.text()).trim();
+            if (!value.isEmpty()) {
+                return value;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Extrai todos os campos de metadado declarados no perfil
+     */
+    public Map<String, String> extractMetadata(SiteRuleProfile profile, Document document) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String field : profile.getMetadataFields()) {
+            String value = extractField(profile, document, field);
+            if (!value.isEmpty()) {
+                values.put(field, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Indica se um trecho (parágrafo, item de lista) é boilerplate do perfil: curto e começando
+     * por uma das frases. Usado durante a extração, antes de o trecho entrar no texto
+     */
+    public boolean isBoilerplate(SiteRuleProfile profile, String text) {
+        if (text == null || profile.getBoilerplatePattern() == null) {
+            return false;
+        }
+        return profile.getBoilerplatePattern().matcher(text).find();
+    }
+
+    /**
+     * Remove as linhas curtas de boilerplate declaradas no perfil com o Pattern pré-compilado
+     */
+    public String stripBoilerplate(SiteRuleProfile profile, String text) {
+        if (text == null || profile.getBoilerplatePattern() == null) {
+            return text;
+        }
+        return profile.getBoilerplatePattern().matcher(text).replaceAll("");
+    }
+}
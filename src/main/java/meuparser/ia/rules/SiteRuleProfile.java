@@ -0,0 +1,252 @@
+package meuparser.ia.rules;
+
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+import org.jsoup.select.Selector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Perfil de regras de um site, já validado e compilado.
+ * Seletores viram Evaluators do jsoup e frases de boilerplate viram um único Pattern,
+ * de modo que nenhuma página paga parsing de seletor ou compilação de regex.
+ * Instâncias são imutáveis e podem ser compartilhadas entre threads.
+ */
+public final class SiteRuleProfile {
+
+    private final String name;
+    private final String source;
+    private final List<String> hosts;
+    private final String mainSelector;
+    private final Evaluator mainEvaluator;
+    private final Set<String> irrelevantClasses;
+    private final Set<String> irrelevantIds;
+    private final Evaluator removeEvaluator;
+    private final Map<String, List<FieldLookup>> metadataFields;
+    private final Pattern boilerplatePattern;
+
+    // Caracteres aceitos depois da frase de boilerplate: linhas mais longas são conteúdo
+    private static final int BOILERPLATE_MAX_TAIL = 120;
+
+    /**
+     * Uma alternativa de busca de um campo de metadado
+     */
+    static final class FieldLookup {
+        final Evaluator evaluator;
+        final String attribute;     // null = texto do elemento
+
+        FieldLookup(Evaluator evaluator, String attribute) {
+            this.evaluator = evaluator;
+            this.attribute = attribute;
+        }
+    }
+
+    private SiteRuleProfile(String name, String source, List<String> hosts, String mainSelector,
+                            Set<String> irrelevantClasses, Set<String> irrelevantIds,
+                            String extraRemoveSelectors, Map<String, List<FieldLookup>> metadataFields,
+                            List<String> boilerplateLines) {
+        this.name = name;
+        this.source = source;
+        this.hosts = hosts;
+        this.mainSelector = mainSelector;
+        this.mainEvaluator = mainSelector.isEmpty() ? null : compileSelector("main.selector", mainSelector);
+        this.irrelevantClasses = irrelevantClasses;
+        this.irrelevantIds = irrelevantIds;
+        this.metadataFields = metadataFields;
+
+        // Todos os seletores de remoção viram um único Evaluator (uma passada no DOM)
+        List<String> removeParts = new ArrayList<>();
+        irrelevantClasses.forEach(c -> removeParts.add("." + c));
+        irrelevantIds.forEach(id -> removeParts.add("#" + id));
+        if (!extraRemoveSelectors.isEmpty()) {
+            removeParts.add(extraRemoveSelectors);
+        }
+        this.removeEvaluator = removeParts.isEmpty() ? null
+                : compileSelector("remove.*", String.join(", ", removeParts));
+
+        // Boilerplate: só linhas curtas que COMEÇAM pela frase (palavra inteira, com marcador de lista
+        // opcional). Frases no meio de um parágrafo ("O Brasil publica estatísticas...") não contam
+        this.boilerplatePattern = boilerplateLines.isEmpty() ? null : Pattern.compile(
+                "(?imu)^[ \\t]*(?:[•*-][ \\t]*)?(?:"
+                        + boilerplateLines.stream().map(SiteRuleProfile::boilerplatePhrase).collect(Collectors.joining("|"))
+                        + ")[^\\r\\n]{0," + BOILERPLATE_MAX_TAIL + "}(?:\\R|$)");
+    }
+
+    /**
+     * Frase literal; se terminar em letra ou dígito, exige fim de palavra ("Estatísticas" não casa "Estatísticass")
+     */
+    private static String boilerplatePhrase(String phrase) {
+        char last = phrase.charAt(phrase.length() - 1);
+        return Pattern.quote(phrase) + (Character.isLetterOrDigit(last) ? "(?![\\p{L}\\p{N}])" : "");
+    }
+
+    /**
+     * Valida e compila um perfil a partir das propriedades lidas do arquivo
+     *
+     * @throws IllegalArgumentException se o perfil for inválido (campo obrigatório ausente, seletor inválido)
+     */
+    public static SiteRuleProfile compile(Properties props, String source) {
+        String name = props.getProperty("site", "").trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("campo obrigatório 'site' ausente");
+        }
+
+        List<String> hosts = splitList(props.getProperty("hosts", ""), ",").stream()
+                .map(h -> h.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toList());
+        if (hosts.isEmpty()) {
+            throw new IllegalArgumentException("perfil '" + name + "' sem 'hosts'");
+        }
+
+        Set<String> classes = Collections.unmodifiableSet(new LinkedHashSet<>(
+                splitList(props.getProperty("remove.classes", ""), ",")));
+        Set<String> ids = Collections.unmodifiableSet(new LinkedHashSet<>(
+                splitList(props.getProperty("remove.ids", ""), ",")));
+
+        Map<String, List<FieldLookup>> fields = new LinkedHashMap<>();
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith("meta.")) {
+                String field = key.substring("meta.".length());
+                fields.put(field, compileField(key, props.getProperty(key)));
+            }
+        }
+
+        return new SiteRuleProfile(
+                name,
+                source,
+                Collections.unmodifiableList(hosts),
+                props.getProperty("main.selector", "").trim(),
+                classes,
+                ids,
+                props.getProperty("remove.selectors", "").trim(),
+                Collections.unmodifiableMap(fields),
+                splitList(props.getProperty("boilerplate.lines", ""), "|"));
+    }
+
+    private static List<FieldLookup> compileField(String key, String value) {
+        List<FieldLookup> lookups = new ArrayList<>();
+        for (String alternative : splitList(value, "|")) {
+            if (alternative.startsWith("meta:")) {
+                String metaKey = alternative.substring("meta:".length());
+                lookups.add(new FieldLookup(compileSelector(key,
+                        "meta[property=" + metaKey + "], meta[name=" + metaKey + "]"), "content"));
+                continue;
+            }
+            String selector = alternative;
+            String attribute = null;
+            int at = alternative.lastIndexOf('@');
+            if (at > 0) {
+                selector = alternative.substring(0, at).trim();
+                attribute = alternative.substring(at + 1).trim();
+            }
+            lookups.add(new FieldLookup(compileSelector(key, selector), attribute));
+        }
+        if (lookups.isEmpty()) {
+            throw new IllegalArgumentException("campo '" + key + "' sem alternativas");
+        }
+        return Collections.unmodifiableList(lookups);
+    }
+
+    private static Evaluator compileSelector(String key, String selector) {
+        try {
+            return QueryParser.parse(selector);
+        } catch (Selector.SelectorParseException e) {
+            throw new IllegalArgumentException("seletor inválido em '" + key + "': " + e.getMessage());
+        }
+    }
+
+    private static List<String> splitList(String value, String separator) {
+        if (value == null || value.isBlank()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(Pattern.quote(separator)))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Verifica se o host é atendido por este perfil (comparação por sufixo de domínio)
+     */
+    public boolean matchesHost(String host) {
+        return matchLength(host) > 0;
+    }
+
+    /**
+     * Tamanho do sufixo mais longo que casa com o host (0 = não casa).
+     * Permite que "brasilescola.uol.com.br" prevaleça sobre "uol.com.br"
+     */
+    public int matchLength(String host) {
+        if (host == null) return 0;
+        int best = 0;
+        for (String suffix : hosts) {
+            if (host.equals(suffix) || host.endsWith("." + suffix)) {
+                best = Math.max(best, suffix.length());
+            }
+        }
+        return best;
+    }
+
+    // Getters
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public List<String> getHosts() {
+        return hosts;
+    }
+
+    public String getMainSelector() {
+        return mainSelector;
+    }
+
+    public Set<String> getIrrelevantClasses() {
+        return irrelevantClasses;
+    }
+
+    public Set<String> getIrrelevantIds() {
+        return irrelevantIds;
+    }
+
+    public Set<String> getMetadataFields() {
+        return metadataFields.keySet();
+    }
+
+    Evaluator getMainEvaluator() {
+        return mainEvaluator;
+    }
+
+    Evaluator getRemoveEvaluator() {
+        return removeEvaluator;
+    }
+
+    List<FieldLookup> getFieldLookups(String field) {
+        return metadataFields.getOrDefault(field, Collections.emptyList());
+    }
+
+    Pattern getBoilerplatePattern() {
+        return boilerplatePattern;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SiteRuleProfile[%s hosts=%s campos=%s origem=%s]",
+                name, hosts, metadataFields.keySet(), source);
+    }
+}
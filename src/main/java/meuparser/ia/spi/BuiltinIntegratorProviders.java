@@ -0,0 +1,97 @@
+package meuparser.ia.spi;
+
+import meuparser.ia.AIParserIntegrator;
+import meuparser.ia.BrasilEscolaParserIntegrator;
+import meuparser.ia.G1ParserIntegrator;
+import meuparser.ia.UOLParserIntegrator;
+import meuparser.ia.WikipediaParserIntegrator;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Providers dos integradores que acompanham o BlindBrowser.
+ * Cada provider é uma classe mínima: carregá-la para ler @IntegratorHosts
+ * não dispara a inicialização estática do integrador correspondente.
+ */
+public final class BuiltinIntegratorProviders {
+
+    // https://pt.wikipedia.org/wiki/Titulo -> https://pt.wikipedia.org/api/rest_v1/page/mobile-html/Titulo
+    private static final Pattern WIKI_ARTICLE = Pattern.compile("^(https?://[^/]+\\.wikipedia\\.org)/wiki/([^?#]+)$");
+    // Matérias do G1 (.ghtml) têm versão AMP em /google/amp/
+    private static final Pattern G1_ARTICLE = Pattern.compile("^(https?://g1\\.globo\\.com)/(?!google/amp/)(.+\\.ghtml)$");
+    private static final Pattern FOLHA_ARTICLE = Pattern.compile("^(https?://www1\\.folha\\.uol\\.com\\.br)/(?!amp/)(.+\\.shtml)$");
+    private static final Pattern UOL_ARTICLE = Pattern.compile("^(https?://[^?#]+?)(?<!\\.amp)\\.htm$");
+
+    private BuiltinIntegratorProviders() {
+    }
+
+    private static Optional<String> rewrite(Pattern pattern, String url, String replacement) {
+        if (url == null) return Optional.empty();
+        Matcher matcher = pattern.matcher(url.trim());
+        return matcher.matches() ? Optional.of(matcher.replaceFirst(replacement)) : Optional.empty();
+    }
+
+    @IntegratorHosts(value = {"wikipedia.org", "wikimedia.org"}, priority = 100)
+    public static class WikipediaProvider implements IntegratorProvider {
+        @Override
+        public AIParserIntegrator create(String url) {
+            return new WikipediaParserIntegrator();
+        }
+
+        @Override
+        public Optional<String> lightweightUrl(String url) {
+            return rewrite(WIKI_ARTICLE, url, "$1/api/rest_v1/page/mobile-html/$2");
+        }
+    }
+
+    // Prioridade acima do UOL: antes o ramo da Folha era inalcançável
+    @IntegratorHosts(value = {"folha.uol.com.br"}, priority = 60)
+    public static class FolhaProvider implements IntegratorProvider {
+        @Override
+        public AIParserIntegrator create(String url) {
+            return new G1ParserIntegrator("folha");
+        }
+
+        @Override
+        public Optional<String> lightweightUrl(String url) {
+            return rewrite(FOLHA_ARTICLE, url, "$1/amp/$2");
+        }
+    }
+
+    @IntegratorHosts(value = {"brasilescola.uol.com.br", "educacao.uol.com.br",
+            "mundoeducacao.uol.com.br", "mundoeducacao.com.br", "infoescola.com"}, priority = 50)
+    public static class BrasilEscolaProvider implements IntegratorProvider {
+        @Override
+        public AIParserIntegrator create(String url) {
+            return new BrasilEscolaParserIntegrator();
+        }
+    }
+
+    @IntegratorHosts(value = {"globo.com"}, priority = 10)
+    public static class G1Provider implements IntegratorProvider {
+        @Override
+        public AIParserIntegrator create(String url) {
+            return new G1ParserIntegrator("globo");
+        }
+
+        @Override
+        public Optional<String> lightweightUrl(String url) {
+            return rewrite(G1_ARTICLE, url, "$1/google/amp/$2");
+        }
+    }
+
+    @IntegratorHosts(value = {"uol.com.br"}, priority = 0)
+    public static class UOLProvider implements IntegratorProvider {
+        @Override
+        public AIParserIntegrator create(String url) {
+            return new UOLParserIntegrator("uol");
+        }
+
+        @Override
+        public Optional<String> lightweightUrl(String url) {
+            return rewrite(UOL_ARTICLE, url, "$1.amp.htm");
+        }
+    }
+}
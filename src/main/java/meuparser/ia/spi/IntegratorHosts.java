@@ -0,0 +1,39 @@
+package meuparser.ia.spi;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Metadados declarativos de um IntegratorProvider.
+ * Lidos pela factory via ServiceLoader.Provider.type() ANTES de instanciar o provider,
+ * de modo que a classe do integrador (e seus Patterns estáticos) só é carregada
+ * quando um host compatível aparece pela primeira vez.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface IntegratorHosts {
+
+    /**
+     * Sufixos de host atendidos (ex.: "wikipedia.org" casa com "pt.wikipedia.org")
+     */
+    String[] value();
+
+    /**
+     * Prioridade na resolução - maior vence quando mais de um provider casa com o host
+     */
+    int priority() default 0;
+
+    /**
+     * Ciclo de vida da instância criada pelo provider
+     */
+    Lifecycle lifecycle() default Lifecycle.PER_REQUEST;
+
+    enum Lifecycle {
+        PER_REQUEST,    // Nova instância a cada página (comportamento original)
+        SINGLETON       // Instância única reutilizada por toda a sessão
+    }
+}
@@ -0,0 +1,38 @@
+package meuparser.ia.spi;
+
+import meuparser.ia.AIParserIntegrator;
+
+import java.util.Optional;
+
+/**
+ * SPI para integradores de site carregados via java.util.ServiceLoader.
+ * Implementações devem ser anotadas com {@link IntegratorHosts} e registradas em
+ * META-INF/services/meuparser.ia.spi.IntegratorProvider (podem vir de jars separados).
+ *
+ * IMPORTANTE: a implementação deve referenciar a classe do integrador apenas dentro
+ * de create(), para que o carregamento continue preguiçoso.
+ */
+public interface IntegratorProvider {
+
+    /**
+     * Cria o integrador para a URL informada
+     */
+    AIParserIntegrator create(String url);
+
+    /**
+     * Fonte leve opcional para a mesma página (ex.: REST/mobile-html da Wikipedia, AMP de notícias).
+     * O fetcher tenta esta URL primeiro e volta para a página completa se falhar.
+     * Fica no provider (e não no integrador) para não instanciar o integrador só para resolver a URL.
+     *
+     * @return URL alternativa ou empty se não houver versão leve para esta página
+     */
+    default Optional<String> lightweightUrl(String url) {
+        return Optional.empty();
+    }
+
+    /**
+     * Chamado quando a factory descarta instâncias SINGLETON (ex.: reload do SPI)
+     */
+    default void release(AIParserIntegrator integrator) {
+    }
+}
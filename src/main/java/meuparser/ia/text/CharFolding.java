@@ -0,0 +1,70 @@
+package meuparser.ia.text;
+
+/**
+ * Fold de caracteres usado por tokenizador e autômatos: minúscula sem acento.
+ * Opera caractere a caractere (não altera posições), sem Normalizer nem regex.
+ */
+public final class CharFolding {
+
+    // Tabela de fold para Latin-1: minúscula sem diacrítico
+    private static final char[] FOLD = new char[256];
+
+    static {
+        for (char c = 0; c < 256; c++) {
+            FOLD[c] = Character.toLowerCase(c);
+        }
+        mapAll("àáâãäåÀÁÂÃÄÅ", 'a');
+        mapAll("çÇ", 'c');
+        mapAll("èéêëÈÉÊË", 'e');
+        mapAll("ìíîïÌÍÎÏ", 'i');
+        mapAll("ñÑ", 'n');
+        mapAll("òóôõöÒÓÔÕÖ", 'o');
+        mapAll("ùúûüÙÚÛÜ", 'u');
+        mapAll("ýÿÝ", 'y');
+    }
+
+    private CharFolding() {
+    }
+
+    private static void mapAll(String chars, char target) {
+        for (char c : chars.toCharArray()) {
+            FOLD[c] = target;
+        }
+    }
+
+    /**
+     * Minúscula sem acento (Latin-1); demais caracteres só em minúscula
+     */
+    public static char fold(char c) {
+        return c < 256 ? FOLD[c] : Character.toLowerCase(c);
+    }
+
+    /**
+     * Fold de uma sequência inteira (para termos fixos, não para o texto da página)
+     */
+    public static String fold(CharSequence text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            folded.append(fold(text.charAt(i)));
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Hash dos caracteres já dobrados, igual para dicionário e tokenizador
+     */
+    static int hash(char[] chars, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + chars[i];
+        }
+        return mix(h);
+    }
+
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return h;
+    }
+}
@@ -0,0 +1,214 @@
+package meuparser.ia.text;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tabela de frequência de documentos (DF) de um corpus pt-BR, gerada offline por
+ * {@code meuparser.pipelines.DocumentFrequencyBuilder} e lida via memória mapeada.
+ * Nada é desserializado: a busca é binária direto no arquivo mapeado.
+ *
+ * Formato (big-endian):
+ *   int magic "BBDF", int versão, int nº de documentos, int nº de termos (T),
+ *   int[T+1] offsets no bloco de termos, int[T] DF, bloco de termos em UTF-8
+ *   (termos dobrados - minúsculos, sem acento - ordenados por bytes sem sinal).
+ *
+ * Origem da tabela padrão: -Dblindbrowser.df.file=&lt;arquivo&gt; ou, se ausente,
+ * o recurso /textstats/df-ptbr.bin do classpath (copiado para memória direta).
+ */
+public final class DocumentFrequencyTable {
+
+    public static final String FILE_PROPERTY = "blindbrowser.df.file";
+    private static final String CLASSPATH_RESOURCE = "/textstats/df-ptbr.bin";
+    private static final int MAGIC = 0x42424446; // "BBDF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+
+    private final ByteBuffer buffer;
+    private final int documentCount;
+    private final int termCount;
+    private final int offsetsStart;
+    private final int dfStart;
+    private final int termsStart;
+
+    private DocumentFrequencyTable(ByteBuffer buffer, String source) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Tabela DF inválida: " + source);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Versão de tabela DF não suportada (" + buffer.getInt(4) + "): " + source);
+        }
+        this.documentCount = buffer.getInt(8);
+        this.termCount = buffer.getInt(12);
+        this.offsetsStart = HEADER_BYTES;
+        this.dfStart = offsetsStart + (termCount + 1) * 4;
+        this.termsStart = dfStart + termCount * 4;
+        if (termsStart + buffer.getInt(offsetsStart + termCount * 4) > buffer.capacity()) {
+            throw new IOException("Tabela DF truncada: " + source);
+        }
+    }
+
+    /**
+     * Tabela padrão, carregada uma vez no primeiro uso (idiom holder)
+     */
+    private static class Holder {
+        static final Optional<DocumentFrequencyTable> DEFAULT = loadDefault();
+    }
+
+    public static Optional<DocumentFrequencyTable> getDefault() {
+        return Holder.DEFAULT;
+    }
+
+    private static Optional<DocumentFrequencyTable> loadDefault() {
+        String file = System.getProperty(FILE_PROPERTY);
+        try {
+            if (file != null && !file.isBlank()) {
+                DocumentFrequencyTable table = open(Paths.get(file));
+                System.out.println("DEBUG: Tabela DF mapeada de " + file + " - " + table);
+                return Optional.of(table);
+            }
+            try (InputStream in = DocumentFrequencyTable.class.getResourceAsStream(CLASSPATH_RESOURCE)) {
+                if (in != null) {
+                    byte[] bytes = in.readAllBytes();
+                    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes);
+                    direct.flip();
+                    DocumentFrequencyTable table = new DocumentFrequencyTable(direct, "classpath:" + CLASSPATH_RESOURCE);
+                    System.out.println("DEBUG: Tabela DF carregada do classpath - " + table);
+                    return Optional.of(table);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Tabela DF indisponível, palavras-chave por frequência: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Mapeia um arquivo de tabela DF (somente leitura)
+     */
+    public static DocumentFrequencyTable open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new DocumentFrequencyTable(mapped, path.toString());
+        }
+    }
+
+    /**
+     * Grava uma tabela DF
+     *
+     * @param documentCount número de documentos do corpus
+     * @param frequencies   termo (será dobrado) -> nº de documentos em que aparece
+     */
+    public static void write(Path path, int documentCount, Map<String, Integer> frequencies) throws IOException {
+        byte[][] terms = new byte[frequencies.size()][];
+        int[] dfs = new int[frequencies.size()];
+        Integer[] order = new Integer[frequencies.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = CharFolding.fold(entry.getKey()).getBytes(StandardCharsets.UTF_8);
+            dfs[i] = entry.getValue();
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (a, b) -> compare(terms[a], terms[b]));
+
+        try (OutputStream file = Files.newOutputStream(path);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(documentCount);
+            out.writeInt(terms.length);
+            int offset = 0;
+            for (int index : order) {
+                out.writeInt(offset);
+                offset += terms[index].length;
+            }
+            out.writeInt(offset);
+            for (int index : order) {
+                out.writeInt(dfs[index]);
+            }
+            for (int index : order) {
+                out.write(terms[index]);
+            }
+        }
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            int diff = (a[i] & 0xff) - (b[i] & 0xff);
+            if (diff != 0) return diff;
+        }
+        return a.length - b.length;
+    }
+
+    /**
+     * Nº de documentos do corpus que contêm o termo (já dobrado ou não)
+     *
+     * @return DF ou 0 se o termo não aparece no corpus
+     */
+    public int documentFrequency(String term) {
+        byte[] key = CharFolding.fold(term).getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareAt(mid, key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return buffer.getInt(dfStart + mid * 4);
+            }
+        }
+        return 0;
+    }
+
+    private int compareAt(int index, byte[] key) {
+        int start = termsStart + buffer.getInt(offsetsStart + index * 4);
+        int length = termsStart + buffer.getInt(offsetsStart + (index + 1) * 4) - start;
+        int n = Math.min(length, key.length);
+        for (int i = 0; i < n; i++) {
+            int diff = (buffer.get(start + i) & 0xff) - (key[i] & 0xff);
+            if (diff != 0) return diff;
+        }
+        return length - key.length;
+    }
+
+    /**
+     * IDF suavizado: ln((1 + N) / (1 + df)) + 1 - termos ausentes do corpus recebem o maior peso
+     */
+    public double idf(String term) {
+        return Math.log((1.0 + documentCount) / (1.0 + documentFrequency(term))) + 1.0;
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DF[%d documentos, %d termos, %d KB]",
+                documentCount, termCount, buffer.capacity() / 1024);
+    }
+}
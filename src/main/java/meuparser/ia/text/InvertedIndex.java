@@ -0,0 +1,497 @@
+package meuparser.ia.text;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice invertido de um documento: termo dobrado (minúsculo, sem acento) -> posições.
+ * Construído uma vez por página; cada busca percorre só as listas dos termos consultados,
+ * sem reprocessar o texto. Suporta termos, frases entre aspas e prefixos ("educ*"),
+ * com sentenças ordenadas por BM25.
+ *
+ * Posições são ordinais de token; offsets de caracteres referem-se ao texto indexado.
+ */
+public final class InvertedIndex {
+
+    // Parâmetros usuais do BM25
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Expansões máximas de um prefixo (evita "a*" varrer o vocabulário inteiro)
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final String text;
+    private final TermDictionary dictionary;
+
+    // Tokens na ordem do texto
+    private final int[] tokenTerms;
+    private final int[] tokenStarts;
+    private final int[] tokenEnds;
+    private final int[] tokenSentences;
+    private final int tokenCount;
+
+    // Sentenças: [sentenceStarts[s], sentenceStarts[s + 1]) em caracteres
+    private final int[] sentenceStarts;
+    private final int[] sentenceLengths; // em tokens
+    private final int sentenceCount;
+    private final double averageSentenceLength;
+
+    // Listas de posições em formato compacto: termo termIds[i] -> postings[postingStarts[i] .. postingStarts[i + 1])
+    private final int[] termIds;        // IDs globais, ordenados
+    private final int[] postingStarts;
+    private final int[] postings;
+
+    // Vocabulário ordenado por texto, para expansão de prefixos
+    private final String[] sortedTerms;
+    private final int[] sortedTermIds;
+
+    /**
+     * Sentença encontrada, com as ocorrências dos termos da consulta
+     */
+    public static class Hit {
+        public final int sentence;
+        public final double score;
+        public final int start;            // offsets da sentença no texto indexado
+        public final int end;
+        public final int[] matchStarts;    // offsets de cada ocorrência (frase = trecho inteiro)
+        public final int[] matchEnds;
+
+        Hit(int sentence, double score, int start, int end, int[] matchStarts, int[] matchEnds) {
+            this.sentence = sentence;
+            this.score = score;
+            this.start = start;
+            this.end = end;
+            this.matchStarts = matchStarts;
+            this.matchEnds = matchEnds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Hit[sentença %d, score %.3f, %d ocorrências]", sentence, score, matchStarts.length);
+        }
+    }
+
+    /**
+     * Resultado de uma consulta: melhores sentenças e total de sentenças/ocorrências encontradas
+     */
+    public static class SearchHits {
+        public final List<Hit> hits;
+        public final int matchingSentences;
+        public final int occurrences;
+        public final boolean allTerms; // false = nenhuma sentença tinha todos os termos (resultado parcial)
+
+        SearchHits(List<Hit> hits, int matchingSentences, int occurrences, boolean allTerms) {
+            this.hits = hits;
+            this.matchingSentences = matchingSentences;
+            this.occurrences = occurrences;
+            this.allTerms = allTerms;
+        }
+
+        public boolean isEmpty() {
+            return hits.isEmpty();
+        }
+    }
+
+    /**
+     * Uma cláusula da consulta (termo, prefixo ou frase) e suas ocorrências
+     */
+    private static final class Clause {
+        int[] positions = new int[0]; // token inicial de cada ocorrência, crescente
+        int span = 1;                 // tokens cobertos por ocorrência
+    }
+
+    public InvertedIndex(String text) {
+        this(text, TextTokenizer.SEARCH);
+    }
+
+    public InvertedIndex(String text, TextTokenizer tokenizer) {
+        this.text = text != null ? text : "";
+        if (tokenizer.getDictionary() == null) {
+            tokenizer = tokenizer.withNewDictionary(); // dicionário próprio do índice
+        }
+        this.dictionary = tokenizer.getDictionary();
+
+        // 1. Tokens e limites de sentença numa única passada
+        int capacity = Math.max(16, this.text.length() / 5);
+        int[][] tokens = {new int[capacity], new int[capacity], new int[capacity], new int[capacity]};
+        int[][] sentences = {new int[64]};
+        int[] counts = {0, 0}; // tokens, sentenças
+        int[] previousEnd = {0};
+
+        tokenizer.tokenize(this.text, (termId, start, end) -> {
+            int n = counts[0];
+            if (n == 0 || endsSentence(this.text, previousEnd[0], start)) {
+                if (counts[1] == sentences[0].length) {
+                    sentences[0] = Arrays.copyOf(sentences[0], counts[1] * 2);
+                }
+                sentences[0][counts[1]++] = n == 0 ? 0 : start;
+            }
+            if (n == tokens[0].length) {
+                for (int i = 0; i < tokens.length; i++) {
+                    tokens[i] = Arrays.copyOf(tokens[i], n * 2);
+                }
+            }
+            tokens[0][n] = termId;
+            tokens[1][n] = start;
+            tokens[2][n] = end;
+            tokens[3][n] = counts[1] - 1;
+            counts[0]++;
+            previousEnd[0] = end;
+        });
+
+        this.tokenCount = counts[0];
+        this.tokenTerms = tokens[0];
+        this.tokenStarts = tokens[1];
+        this.tokenEnds = tokens[2];
+        this.tokenSentences = tokens[3];
+        this.sentenceCount = counts[1];
+        this.sentenceStarts = Arrays.copyOf(sentences[0], sentenceCount + 1);
+        this.sentenceStarts[sentenceCount] = this.text.length();
+
+        this.sentenceLengths = new int[sentenceCount];
+        for (int i = 0; i < tokenCount; i++) {
+            sentenceLengths[tokenSentences[i]]++;
+        }
+        this.averageSentenceLength = sentenceCount == 0 ? 0 : (double) tokenCount / sentenceCount;
+
+        // 2. Listas de posições: ordena (termo, posição) e agrupa por termo
+        long[] pairs = new long[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            pairs[i] = ((long) tokenTerms[i] << 32) | i;
+        }
+        Arrays.sort(pairs);
+
+        int[] ids = new int[tokenCount];
+        int[] starts = new int[tokenCount + 1];
+        this.postings = new int[tokenCount];
+        int distinct = 0;
+        for (int i = 0; i < tokenCount; i++) {
+            int termId = (int) (pairs[i] >>> 32);
+            if (distinct == 0 || ids[distinct - 1] != termId) {
+                ids[distinct] = termId;
+                starts[distinct] = i;
+                distinct++;
+            }
+            postings[i] = (int) pairs[i];
+        }
+        starts[distinct] = tokenCount;
+        this.termIds = Arrays.copyOf(ids, distinct);
+        this.postingStarts = Arrays.copyOf(starts, distinct + 1);
+
+        // 3. Vocabulário ordenado para prefixos
+        String[] terms = new String[distinct];
+        for (int i = 0; i < distinct; i++) {
+            terms[i] = dictionary.term(termIds[i]);
+        }
+        Integer[] order = new Integer[distinct];
+        for (int i = 0; i < distinct; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> terms[a].compareTo(terms[b]));
+        this.sortedTerms = new String[distinct];
+        this.sortedTermIds = new int[distinct];
+        for (int i = 0; i < distinct; i++) {
+            sortedTerms[i] = terms[order[i]];
+            sortedTermIds[i] = termIds[order[i]];
+        }
+    }
+
+    /**
+     * Fim de sentença entre dois tokens: . ! ? seguido de espaço, ou quebra de linha
+     */
+    private static boolean endsSentence(String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '\n') return true;
+            if ((c == '.' || c == '!' || c == '?') && i + 1 < to && Character.isWhitespace(text.charAt(i + 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca as sentenças mais relevantes.
+     * Sintaxe: palavras soltas (sem acento/caixa), "frase exata" e prefixo* ;
+     * um termo sem ocorrências exatas é tentado como prefixo.
+     * Sentenças com todos os termos vêm primeiro; se nenhuma tiver, vale qualquer termo.
+     *
+     * @param query consulta do usuário
+     * @param limit máximo de sentenças retornadas
+     */
+    public SearchHits search(String query, int limit) {
+        List<Clause> clauses = parse(query);
+        if (clauses.isEmpty() || sentenceCount == 0) {
+            return new SearchHits(new ArrayList<>(), 0, 0, false);
+        }
+
+        double[] scores = new double[sentenceCount];
+        int[] matchedClauses = new int[sentenceCount];
+        int[] tf = new int[sentenceCount];
+        int occurrences = 0;
+
+        for (Clause clause : clauses) {
+            // Frequência da cláusula por sentença (posições crescentes: sentenças agrupadas)
+            int documentFrequency = 0;
+            for (int position : clause.positions) {
+                int sentence = tokenSentences[position];
+                if (tf[sentence]++ == 0) documentFrequency++;
+            }
+            occurrences += clause.positions.length;
+
+            double idf = Math.log(1 + (sentenceCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            for (int position : clause.positions) {
+                int sentence = tokenSentences[position];
+                int frequency = tf[sentence];
+                if (frequency == 0) continue; // sentença já pontuada nesta cláusula
+                double norm = K1 * (1 - B + B * sentenceLengths[sentence] / averageSentenceLength);
+                scores[sentence] += idf * frequency * (K1 + 1) / (frequency + norm);
+                matchedClauses[sentence]++;
+                tf[sentence] = 0;
+            }
+        }
+
+        int best = 0;
+        int matching = 0;
+        for (int s = 0; s < sentenceCount; s++) {
+            best = Math.max(best, matchedClauses[s]);
+        }
+        boolean allTerms = best == clauses.size();
+        int required = allTerms ? clauses.size() : 1;
+
+        TopK top = new TopK(limit);
+        for (int s = 0; s < sentenceCount; s++) {
+            if (matchedClauses[s] >= required) {
+                matching++;
+                top.offer(s, scores[s]);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int sentence : top.drainDescending()) {
+            hits.add(buildHit(sentence, scores[sentence], clauses));
+        }
+        return new SearchHits(hits, matching, occurrences, allTerms && best > 0);
+    }
+
+    private Hit buildHit(int sentence, double score, List<Clause> clauses) {
+        int[] starts = new int[8];
+        int[] ends = new int[8];
+        int count = 0;
+        for (Clause clause : clauses) {
+            for (int position : positionsIn(clause.positions, sentence)) {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                    ends = Arrays.copyOf(ends, count * 2);
+                }
+                starts[count] = tokenStarts[position];
+                ends[count] = tokenEnds[position + clause.span - 1];
+                count++;
+            }
+        }
+
+        // Ordena as ocorrências pelo offset (cláusulas diferentes se intercalam)
+        long[] ordered = new long[count];
+        for (int i = 0; i < count; i++) {
+            ordered[i] = ((long) starts[i] << 32) | ends[i];
+        }
+        Arrays.sort(ordered);
+        int[] matchStarts = new int[count];
+        int[] matchEnds = new int[count];
+        for (int i = 0; i < count; i++) {
+            matchStarts[i] = (int) (ordered[i] >>> 32);
+            matchEnds[i] = (int) ordered[i];
+        }
+        return new Hit(sentence, score, sentenceStarts[sentence], sentenceStarts[sentence + 1], matchStarts, matchEnds);
+    }
+
+    /**
+     * Trecho das posições (crescentes) que caem na sentença
+     */
+    private int[] positionsIn(int[] positions, int sentence) {
+        int from = lowerBound(positions, firstToken(sentence));
+        int to = from;
+        while (to < positions.length && tokenSentences[positions[to]] == sentence) {
+            to++;
+        }
+        return Arrays.copyOfRange(positions, from, to);
+    }
+
+    private int firstToken(int sentence) {
+        int low = 0;
+        int high = tokenCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (tokenSentences[mid] < sentence) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // Consulta
+
+    private List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        if (query == null) return clauses;
+
+        int i = 0;
+        int n = query.length();
+        while (i < n) {
+            char c = query.charAt(i);
+            if (c == '"') {
+                int close = query.indexOf('"', i + 1);
+                if (close == -1) close = n;
+                List<String> words = words(query.substring(i + 1, close));
+                if (!words.isEmpty()) {
+                    clauses.add(words.size() == 1 ? term(words.get(0), false) : phrase(words));
+                }
+                i = close + 1;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i;
+                while (end < n && Character.isLetterOrDigit(query.charAt(end))) end++;
+                boolean prefix = end < n && query.charAt(end) == '*';
+                clauses.add(term(CharFolding.fold(query.substring(i, end)), prefix));
+                i = prefix ? end + 1 : end;
+            } else {
+                i++;
+            }
+        }
+        return clauses;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end < text.length() && Character.isLetterOrDigit(text.charAt(end))) end++;
+            words.add(CharFolding.fold(text.substring(i, end)));
+            i = end;
+        }
+        return words;
+    }
+
+    private Clause term(String folded, boolean prefix) {
+        Clause clause = new Clause();
+        if (!prefix) {
+            clause.positions = postingsOf(dictionary.lookup(folded));
+        }
+        if (clause.positions.length == 0) {
+            clause.positions = prefixPostings(folded);
+        }
+        return clause;
+    }
+
+    /**
+     * Frase: ancora no termo mais raro e confere os vizinhos na sequência de tokens
+     */
+    private Clause phrase(List<String> words) {
+        int[] ids = new int[words.size()];
+        int anchor = 0;
+        int[] anchorPostings = null;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = dictionary.lookup(words.get(i));
+            int[] candidates = postingsOf(ids[i]);
+            if (anchorPostings == null || candidates.length < anchorPostings.length) {
+                anchor = i;
+                anchorPostings = candidates;
+            }
+        }
+
+        Clause clause = new Clause();
+        clause.span = ids.length;
+        int[] matches = new int[anchorPostings.length];
+        int count = 0;
+        for (int position : anchorPostings) {
+            int first = position - anchor;
+            if (first < 0 || first + ids.length > tokenCount) continue;
+            boolean match = true;
+            for (int k = 0; k < ids.length && match; k++) {
+                match = tokenTerms[first + k] == ids[k]
+                        && tokenSentences[first + k] == tokenSentences[first];
+            }
+            if (match) matches[count++] = first;
+        }
+        clause.positions = Arrays.copyOf(matches, count);
+        return clause;
+    }
+
+    private int[] postingsOf(int termId) {
+        if (termId < 0) return new int[0];
+        int i = Arrays.binarySearch(termIds, termId);
+        return i < 0 ? new int[0] : Arrays.copyOfRange(postings, postingStarts[i], postingStarts[i + 1]);
+    }
+
+    /**
+     * União (ordenada) das posições de todos os termos que começam com o prefixo
+     */
+    private int[] prefixPostings(String prefix) {
+        if (prefix.isEmpty()) return new int[0];
+        int from = lowerBound(sortedTerms, prefix);
+        int to = from;
+        int total = 0;
+        while (to < sortedTerms.length && to - from < MAX_PREFIX_EXPANSIONS
+                && sortedTerms[to].startsWith(prefix)) {
+            int i = Arrays.binarySearch(termIds, sortedTermIds[to]);
+            total += postingStarts[i + 1] - postingStarts[i];
+            to++;
+        }
+
+        int[] merged = new int[total];
+        int count = 0;
+        for (int t = from; t < to; t++) {
+            int i = Arrays.binarySearch(termIds, sortedTermIds[t]);
+            for (int p = postingStarts[i]; p < postingStarts[i + 1]; p++) {
+                merged[count++] = postings[p];
+            }
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+
+    private static int lowerBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static int lowerBound(String[] values, String key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid].compareTo(key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    // Informações
+
+    public String getText() {
+        return text;
+    }
+
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    public int getSentenceCount() {
+        return sentenceCount;
+    }
+
+    /**
+     * Número de termos distintos do documento
+     */
+    public int getVocabularySize() {
+        return termIds.length;
+    }
+}
@@ -0,0 +1,110 @@
+package meuparser.ia.text;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Conjunto imutável de stopwords com hash perfeito: cada palavra tem um slot exclusivo,
+ * então a consulta é um hash e no máximo uma comparação, direto sobre o buffer do
+ * tokenizador (sem criar String por token).
+ */
+public final class StopwordSet {
+
+    // Stopwords do português (união das listas do sumarizador e do extrator de palavras-chave)
+    public static final StopwordSet PORTUGUESE = of(Arrays.asList(
+            "a", "à", "ao", "aos", "aquela", "aquelas", "aquele", "aqueles", "aquilo", "as", "às", "até",
+            "antes", "após", "ainda", "bem", "caso", "com", "como", "contra", "contudo", "da", "das", "de",
+            "dela", "delas", "dele", "deles", "depois", "desde", "dizer", "do", "dos", "durante", "e", "é",
+            "ela", "elas", "ele", "eles", "em", "embora", "entre", "entretanto", "era", "eram", "éramos",
+            "essa", "essas", "esse", "esses", "esta", "estar", "estas", "este", "estes", "eu", "fazer", "foi",
+            "fomos", "for", "foram", "forem", "formos", "fosse", "fossem", "fôssemos", "há", "haver", "ir",
+            "isso", "isto", "já", "lhe", "lhes", "mais", "mal", "mas", "me", "melhor", "menos", "mesmo",
+            "meu", "meus", "minha", "minhas", "muito", "na", "não", "nas", "nem", "no", "nos", "nós", "nossa",
+            "nossas", "nosso", "nossos", "num", "numa", "o", "onde", "os", "ou", "para", "pela", "pelas",
+            "pelo", "pelos", "pior", "por", "porém", "porque", "qual", "quando", "que", "quem", "são", "se",
+            "seja", "sejam", "sejamos", "sem", "ser", "será", "serão", "serei", "seremos", "seria", "seriam",
+            "seríamos", "seu", "seus", "sim", "só", "sob", "sobre", "somos", "sou", "sua", "suas", "também",
+            "te", "tem", "temos", "tenho", "ter", "teu", "teus", "tinha", "tinham", "tínhamos", "todavia",
+            "tu", "tua", "tuas", "um", "uma", "umas", "uns", "ver", "você", "vocês", "vos", "vós", "vossa",
+            "vossas", "vosso", "vossos"
+    ));
+
+    private final char[][] slots;
+    private final int mask;
+    private final int seed;
+    private final int size;
+
+    private StopwordSet(char[][] slots, int seed, int size) {
+        this.slots = slots;
+        this.mask = slots.length - 1;
+        this.seed = seed;
+        this.size = size;
+    }
+
+    /**
+     * Constrói o conjunto procurando uma semente sem colisões (palavras são dobradas:
+     * minúsculas e sem acento, como os tokens)
+     */
+    public static StopwordSet of(Collection<String> words) {
+        Set<String> folded = new LinkedHashSet<>();
+        for (String word : words) {
+            folded.add(CharFolding.fold(word));
+        }
+        char[][] keys = new char[folded.size()][];
+        int k = 0;
+        for (String word : folded) {
+            keys[k++] = word.toCharArray();
+        }
+
+        int capacity = Math.max(2, Integer.highestOneBit(Math.max(2, keys.length * 2) - 1) << 1);
+        while (true) {
+            for (int seed = 1; seed <= 4096; seed++) {
+                char[][] slots = new char[capacity][];
+                boolean perfect = true;
+                for (char[] key : keys) {
+                    int slot = hash(key, 0, key.length, seed) & (capacity - 1);
+                    if (slots[slot] != null) {
+                        perfect = false;
+                        break;
+                    }
+                    slots[slot] = key;
+                }
+                if (perfect) {
+                    return new StopwordSet(slots, seed, keys.length);
+                }
+            }
+            capacity <<= 1;
+        }
+    }
+
+    private static int hash(char[] chars, int offset, int length, int seed) {
+        int h = seed;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+        return CharFolding.mix(h);
+    }
+
+    /**
+     * @param folded buffer com o token já dobrado
+     */
+    public boolean contains(char[] folded, int offset, int length) {
+        char[] candidate = slots[hash(folded, offset, length, seed) & mask];
+        if (candidate == null || candidate.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate[i] != folded[offset + i]) return false;
+        }
+        return true;
+    }
+
+    public boolean contains(String word) {
+        char[] folded = CharFolding.fold(word).toCharArray();
+        return contains(folded, 0, folded.length);
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,139 @@
+package meuparser.ia.text;
+
+import java.util.Arrays;
+
+/**
+ * Dicionário de termos internados: cada termo dobrado (minúsculo, sem acento) recebe um
+ * ID inteiro estável. Tokens repetidos não criam String - só termos novos alocam.
+ * Guarda também a primeira forma de superfície vista (minúscula, com acento) para exibição.
+ *
+ * Um dicionário por documento (análise, índice de busca, chamada de ranking): os IDs só
+ * valem dentro dele, o dicionário morre com o documento e threads de documentos
+ * diferentes nunca disputam o mesmo lock. Entre páginas, o termo é comparado por
+ * string (ex.: tabela DF).
+ */
+public final class TermDictionary {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private int[] table;                      // slot -> id + 1 (0 = vazio), endereçamento aberto
+    private int[] hashes;
+    private char[][] terms;
+    private String[] termStrings;
+    private String[] surfaces;
+    private int size;
+
+    public TermDictionary() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedTerms número esperado de termos distintos (cresce se passar)
+     */
+    public TermDictionary(int expectedTerms) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedTerms - 1)) << 1;
+        table = new int[capacity * 2];
+        hashes = new int[capacity];
+        terms = new char[capacity][];
+        termStrings = new String[capacity];
+        surfaces = new String[capacity];
+    }
+
+    /**
+     * Retorna o ID do termo, criando-o se necessário
+     *
+     * @param folded  buffer com o termo dobrado
+     * @param surface buffer com a forma original em minúsculas (mesmo tamanho)
+     */
+    public synchronized int intern(char[] folded, char[] surface, int length) {
+        int hash = CharFolding.hash(folded, length);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+
+        while (table[slot] != 0) {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash && equals(terms[id], folded, length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int id = size++;
+        if (id == terms.length) {
+            int capacity = terms.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            terms = Arrays.copyOf(terms, capacity);
+            termStrings = Arrays.copyOf(termStrings, capacity);
+            surfaces = Arrays.copyOf(surfaces, capacity);
+        }
+        hashes[id] = hash;
+        terms[id] = Arrays.copyOf(folded, length);
+        surfaces[id] = new String(surface, 0, length);
+        table[slot] = id + 1;
+
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * ID de um termo já conhecido
+     *
+     * @return ID ou -1 se o termo nunca foi visto
+     */
+    public synchronized int lookup(CharSequence term) {
+        char[] folded = CharFolding.fold(term).toCharArray();
+        int hash = CharFolding.hash(folded, folded.length);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int id = table[slot] - 1;
+            if (hashes[id] == hash && equals(terms[id], folded, folded.length)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Termo dobrado (minúsculo, sem acento)
+     */
+    public synchronized String term(int id) {
+        if (termStrings[id] == null) {
+            termStrings[id] = new String(terms[id]);
+        }
+        return termStrings[id];
+    }
+
+    /**
+     * Primeira forma de superfície vista (minúscula, com acentos) - para exibir ao usuário
+     */
+    public synchronized String surface(int id) {
+        return surfaces[id];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void rehash() {
+        int[] newTable = new int[table.length * 2];
+        int mask = newTable.length - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (newTable[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            newTable[slot] = id + 1;
+        }
+        table = newTable;
+    }
+
+    private static boolean equals(char[] term, char[] buffer, int length) {
+        if (term.length != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (term[i] != buffer[i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,113 @@
+package meuparser.ia.text;
+
+/**
+ * Contagem de termos por ID em arrays primitivos (endereçamento aberto int -> int),
+ * sem boxing nem Map&lt;String,Integer&gt;.
+ */
+public final class TermFrequencies {
+
+    /**
+     * Consumidor de pares (termo, contagem)
+     */
+    @FunctionalInterface
+    public interface TermCountConsumer {
+        void accept(int termId, int count);
+    }
+
+    private int[] keys;    // id + 1 (0 = vazio)
+    private int[] counts;
+    private int size;
+    private int total;
+    private int maxCount;
+
+    public TermFrequencies() {
+        this(64);
+    }
+
+    public TermFrequencies(int expectedTerms) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedTerms * 2) - 1) << 1;
+        this.keys = new int[capacity];
+        this.counts = new int[capacity];
+    }
+
+    public void add(int termId) {
+        int slot = slotOf(termId);
+        if (keys[slot] == 0) {
+            keys[slot] = termId + 1;
+            size++;
+            if (size * 2 > keys.length) {
+                rehash();
+                slot = slotOf(termId);
+            }
+        }
+        int count = ++counts[slot];
+        total++;
+        if (count > maxCount) {
+            maxCount = count;
+        }
+    }
+
+    /**
+     * @return ocorrências do termo (0 se ausente)
+     */
+    public int get(int termId) {
+        int slot = slotOf(termId);
+        return keys[slot] == 0 ? 0 : counts[slot];
+    }
+
+    /**
+     * Frequência normalizada pelo termo mais frequente (0..1)
+     */
+    public double normalized(int termId) {
+        return maxCount == 0 ? 0.0 : (double) get(termId) / maxCount;
+    }
+
+    public void forEach(TermCountConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                consumer.accept(keys[slot] - 1, counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Número de termos distintos
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Número total de ocorrências
+     */
+    public int total() {
+        return total;
+    }
+
+    public int maxCount() {
+        return maxCount;
+    }
+
+    private int slotOf(int termId) {
+        int mask = keys.length - 1;
+        int slot = CharFolding.mix(termId) & mask;
+        while (keys[slot] != 0 && keys[slot] != termId + 1) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new int[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slotOf(oldKeys[i] - 1);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package meuparser.ia.text;
+
+import java.util.Arrays;
+
+/**
+ * Tokenizador compartilhado: percorre o texto uma única vez, dobrando caixa e acento,
+ * filtra stopwords no próprio buffer e emite IDs de termos internados.
+ * Diferente de split("\\W+"), mantém palavras acentuadas inteiras ("notícia", "educação").
+ *
+ * As constantes (SIGNIFICANT, KEYWORDS...) são só configurações, sem dicionário: quem tokeniza
+ * pede uma cópia ligada ao dicionário do documento com {@link #withNewDictionary()} ou
+ * {@link #withDictionary(TermDictionary)}, e os IDs valem dentro desse dicionário.
+ * Instâncias são imutáveis e podem ser usadas por várias threads.
+ */
+public final class TextTokenizer {
+
+    /**
+     * Recebe cada token aceito: ID do termo e posição [start, end) no texto original
+     */
+    @FunctionalInterface
+    public interface TokenSink {
+        void accept(int termId, int start, int end);
+    }
+
+    /** Palavras significativas para pontuação de sentenças (sem stopwords nem números puros) */
+    public static final TextTokenizer SIGNIFICANT = new TextTokenizer(3, StopwordSet.PORTUGUESE, false, false);
+
+    /** Candidatos a palavra-chave: só letras, ignorando marcações como [LINK: ...] */
+    public static final TextTokenizer KEYWORDS = new TextTokenizer(3, StopwordSet.PORTUGUESE, true, true);
+
+    /** Todos os termos com 3+ caracteres (métricas de sobreposição de conteúdo) */
+    public static final TextTokenizer ALL_TERMS = new TextTokenizer(3, null, false, false);
+
+    /** Todos os tokens, inclusive stopwords e números (índice de busca com frases) */
+    public static final TextTokenizer SEARCH = new TextTokenizer(1, null, false, false, null, true);
+
+    private final int minLength;
+    private final StopwordSet stopwords;
+    private final boolean lettersOnly;
+    private final boolean skipMarkup;
+    private final TermDictionary dictionary;
+    private final boolean keepNumbers;
+
+    /**
+     * @param minLength   comprimento mínimo do token
+     * @param stopwords   stopwords a descartar (null = nenhuma)
+     * @param lettersOnly descarta tokens com dígitos; se false, descarta apenas tokens só de dígitos
+     * @param skipMarkup  ignora trechos entre colchetes ([LINK: ...], [IMAGEM ...])
+     */
+    public TextTokenizer(int minLength, StopwordSet stopwords, boolean lettersOnly, boolean skipMarkup) {
+        this(minLength, stopwords, lettersOnly, skipMarkup, null);
+    }
+
+    public TextTokenizer(int minLength, StopwordSet stopwords, boolean lettersOnly, boolean skipMarkup,
+                         TermDictionary dictionary) {
+        this(minLength, stopwords, lettersOnly, skipMarkup, dictionary, false);
+    }
+
+    private TextTokenizer(int minLength, StopwordSet stopwords, boolean lettersOnly, boolean skipMarkup,
+                          TermDictionary dictionary, boolean keepNumbers) {
+        this.keepNumbers = keepNumbers;
+        this.minLength = minLength;
+        this.stopwords = stopwords;
+        this.lettersOnly = lettersOnly;
+        this.skipMarkup = skipMarkup;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Mesma configuração, emitindo IDs do dicionário informado
+     */
+    public TextTokenizer withDictionary(TermDictionary dictionary) {
+        return new TextTokenizer(minLength, stopwords, lettersOnly, skipMarkup, dictionary, keepNumbers);
+    }
+
+    /**
+     * Mesma configuração com um dicionário novo (um por documento)
+     */
+    public TextTokenizer withNewDictionary() {
+        return withDictionary(new TermDictionary());
+    }
+
+    /**
+     * Percorre o texto e entrega cada token aceito ao sink
+     *
+     * @throws IllegalStateException se o tokenizador não tem dicionário (constantes de configuração)
+     */
+    public void tokenize(CharSequence text, TokenSink sink) {
+        if (dictionary == null) {
+            throw new IllegalStateException("Tokenizador sem dicionário: use withNewDictionary()/withDictionary()");
+        }
+        if (text == null) return;
+        char[] folded = new char[32];
+        char[] surface = new char[32];
+        int length = 0;
+        int start = 0;
+        int digits = 0;
+        int n = text.length();
+
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (length == 0) {
+                    start = i;
+                }
+                if (length == folded.length) {
+                    folded = Arrays.copyOf(folded, length * 2);
+                    surface = Arrays.copyOf(surface, length * 2);
+                }
+                folded[length] = CharFolding.fold(c);
+                surface[length] = Character.toLowerCase(c);
+                length++;
+                if (Character.isDigit(c)) {
+                    digits++;
+                }
+                continue;
+            }
+
+            if (length > 0) {
+                emit(folded, surface, length, digits, start, i, sink);
+                length = 0;
+                digits = 0;
+            }
+
+            if (skipMarkup && c == '[') {
+                int close = indexOf(text, ']', i + 1);
+                if (close != -1) {
+                    i = close;
+                }
+            }
+        }
+        if (length > 0) {
+            emit(folded, surface, length, digits, start, n, sink);
+        }
+    }
+
+    private void emit(char[] folded, char[] surface, int length, int digits, int start, int end, TokenSink sink) {
+        if (length < minLength) return;
+        if (lettersOnly ? digits > 0 : digits == length && !keepNumbers) return;
+        if (stopwords != null && stopwords.contains(folded, 0, length)) return;
+        sink.accept(dictionary.intern(folded, surface, length), start, end);
+    }
+
+    private static int indexOf(CharSequence text, char target, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == target) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * IDs dos tokens aceitos, na ordem do texto
+     */
+    public int[] termIds(CharSequence text) {
+        int[][] buffer = {new int[64]};
+        int[] count = {0};
+        tokenize(text, (termId, start, end) -> {
+            if (count[0] == buffer[0].length) {
+                buffer[0] = Arrays.copyOf(buffer[0], count[0] * 2);
+            }
+            buffer[0][count[0]++] = termId;
+        });
+        return Arrays.copyOf(buffer[0], count[0]);
+    }
+
+    /**
+     * IDs distintos, ordenados (para interseção/diferença entre textos)
+     */
+    public int[] distinctTermIds(CharSequence text) {
+        int[] ids = termIds(text);
+        Arrays.sort(ids);
+        int distinct = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Frequência de cada termo do texto
+     */
+    public TermFrequencies frequencies(CharSequence text) {
+        TermFrequencies frequencies = new TermFrequencies(text == null ? 16 : text.length() / 16);
+        tokenize(text, (termId, start, end) -> frequencies.add(termId));
+        return frequencies;
+    }
+
+    public TermDictionary getDictionary() {
+        return dictionary;
+    }
+}
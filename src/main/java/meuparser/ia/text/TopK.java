@@ -0,0 +1,90 @@
+package meuparser.ia.text;
+
+/**
+ * Seleção dos k maiores scores com um min-heap limitado em arrays primitivos:
+ * O(V log k) e memória O(k), sem ordenar nem copiar o vocabulário inteiro.
+ */
+public final class TopK {
+
+    private final int[] ids;
+    private final double[] scores;
+    private int size;
+
+    public TopK(int k) {
+        this.ids = new int[Math.max(0, k)];
+        this.scores = new double[Math.max(0, k)];
+    }
+
+    /**
+     * Oferece um candidato; entra se o heap não está cheio ou se supera o menor score
+     */
+    public void offer(int id, double score) {
+        if (ids.length == 0) return;
+        if (size < ids.length) {
+            ids[size] = id;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (less(ids[0], scores[0], id, score)) {
+            ids[0] = id;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * IDs selecionados, do maior para o menor score (esvazia o heap)
+     */
+    public int[] drainDescending() {
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = ids[0];
+            size--;
+            ids[0] = ids[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Ordem do heap: menor score no topo; empate - ID maior é "menor" (termo mais antigo vence)
+    private static boolean less(int idA, double scoreA, int idB, double scoreB) {
+        return scoreA < scoreB || (scoreA == scoreB && idA > idB);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(ids[i], scores[i], ids[parent], scores[parent])) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) break;
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && less(ids[right], scores[right], ids[left], scores[left])) {
+                smallest = right;
+            }
+            if (!less(ids[smallest], scores[smallest], ids[i], scores[i])) break;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
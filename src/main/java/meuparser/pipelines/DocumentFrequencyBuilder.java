@@ -0,0 +1,110 @@
+package meuparser.pipelines;
+
+import meuparser.ia.text.DocumentFrequencyTable;
+import meuparser.ia.text.TermDictionary;
+import meuparser.ia.text.TextTokenizer;
+import org.jsoup.Jsoup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Gera offline a tabela DF usada no modo TF-IDF das palavras-chave.
+ *
+ * Uso: DocumentFrequencyBuilder &lt;pasta do corpus&gt; &lt;arquivo de saída&gt; [--lines] [--min-df=N]
+ *   - cada arquivo .txt/.html da pasta (recursivo) é um documento;
+ *     com --lines, cada linha não vazia de um .txt é um documento (dumps de artigos)
+ *   - termos com DF abaixo de --min-df (padrão 2) são descartados para manter o arquivo compacto
+ * Depois: -Dblindbrowser.df.file=&lt;arquivo de saída&gt; ou copiar para /textstats/df-ptbr.bin
+ */
+public class DocumentFrequencyBuilder {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: DocumentFrequencyBuilder <pasta do corpus> <saída> [--lines] [--min-df=N]");
+            System.exit(1);
+        }
+        Path corpus = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        boolean lines = false;
+        int minDf = 2;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--lines")) {
+                lines = true;
+            } else if (args[i].startsWith("--min-df=")) {
+                minDf = Integer.parseInt(args[i].substring("--min-df=".length()));
+            }
+        }
+
+        System.out.println("📚 Construindo tabela DF a partir de " + corpus);
+        long start = System.currentTimeMillis();
+
+        // Contagem por ID de termo: mesma tokenização das palavras-chave (KEYWORDS)
+        TermDictionary dictionary = new TermDictionary();
+        TextTokenizer tokenizer = new TextTokenizer(3, null, true, true, dictionary);
+        int[][] df = {new int[1 << 16]};
+        int documents = 0;
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(corpus)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(p -> p.toString().endsWith(".txt") || p.toString().endsWith(".html"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        for (Path file : files) {
+            if (lines && file.toString().endsWith(".txt")) {
+                try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank()) {
+                            countDocument(tokenizer, line, df);
+                            documents++;
+                        }
+                    }
+                }
+            } else {
+                String text = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                if (file.toString().endsWith(".html")) {
+                    text = Jsoup.parse(text).text();
+                }
+                countDocument(tokenizer, text, df);
+                documents++;
+            }
+            if (documents % 10000 == 0 && documents > 0) {
+                System.out.println("   " + documents + " documentos, " + dictionary.size() + " termos");
+            }
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (int id = 0; id < dictionary.size(); id++) {
+            if (df[0][id] >= minDf) {
+                frequencies.put(dictionary.term(id), df[0][id]);
+            }
+        }
+        DocumentFrequencyTable.write(output, documents, frequencies);
+
+        System.out.printf("✅ %d documentos, %d termos (DF >= %d) -> %s (%d KB) em %d ms%n",
+                documents, frequencies.size(), minDf, output, Files.size(output) / 1024,
+                System.currentTimeMillis() - start);
+    }
+
+    private static void countDocument(TextTokenizer tokenizer, String text, int[][] df) {
+        for (int id : tokenizer.distinctTermIds(text)) {
+            if (id >= df[0].length) {
+                df[0] = java.util.Arrays.copyOf(df[0], Math.max(id + 1, df[0].length * 2));
+            }
+            df[0][id]++;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package meuparser.pipelines;
+
+import com.sun.net.httpserver.HttpServer;
+import meuparser.JsoupParser;
+import meuparser.fetch.PageFetcher;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Benchmark de fontes leves (REST/mobile-html, AMP) vs página completa.
+ * Usa um servidor HTTP local com respostas gravadas, sem depender da rede:
+ *   -Dbench.recordings=<pasta>  pares <nome>.full.html / <nome>.light.html gravados dos sites reais
+ *                               (sem a pasta, usa páginas sintéticas no formato Wikipedia/G1)
+ *   -Dbench.kbps=<n>            limita a banda simulada (padrão 1000 KB/s; 0 = sem limite)
+ *   -Dbench.iterations=<n>      repetições por cenário (padrão 5)
+ */
+public class LightweightSourceBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    private static final int KBPS = Integer.getInteger("bench.kbps", 1000);
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("⚡ BENCHMARK - FONTE LEVE vs PÁGINA COMPLETA");
+        System.out.println("══════════════════════════════════════════════");
+
+        Map<String, String[]> recordings = loadRecordings();
+        HttpServer server = startServer(recordings);
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        System.out.printf("Servidor local: %s | Banda simulada: %s | Iterações: %d%n%n",
+                base, KBPS > 0 ? KBPS + " KB/s" : "sem limite", ITERATIONS);
+
+        PageFetcher fullFetcher = new PageFetcher(url -> Optional.empty(), PageFetcher.DEFAULT_TIMEOUT);
+        PageFetcher lightFetcher = new PageFetcher(
+                url -> Optional.of(url.replace("/full/", "/light/")), PageFetcher.DEFAULT_TIMEOUT);
+
+        try {
+            for (String name : recordings.keySet()) {
+                String url = base + "/full/" + name;
+
+                Result full = measure(new JsoupParser(fullFetcher), url);
+                Result light = measure(new JsoupParser(lightFetcher), url);
+
+                System.out.printf("📄 %s%n", name);
+                System.out.printf("   Completa: %,9d bytes | %6.1f ms | %,7d chars extraídos%n",
+                        full.bytes, full.avgMillis, full.chars);
+                System.out.printf("   Leve:     %,9d bytes | %6.1f ms | %,7d chars extraídos%n",
+                        light.bytes, light.avgMillis, light.chars);
+                System.out.printf("   Economia: %.1f%% bytes | %.1f%% tempo%n%n",
+                        (1.0 - (double) light.bytes / full.bytes) * 100,
+                        (1.0 - light.avgMillis / full.avgMillis) * 100);
+            }
+            System.out.println("📊 Completa -> " + fullFetcher.getStats());
+            System.out.println("📊 Leve     -> " + lightFetcher.getStats());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static class Result {
+        long bytes;
+        double avgMillis;
+        int chars;
+    }
+
+    /**
+     * Mede download + parsing + extração (JsoupParser.ExtraiTexto) por página
+     */
+    private static Result measure(JsoupParser parser, String url) {
+        parser.ExtraiTexto(url); // aquecimento
+        Result result = new Result();
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            parser.ExtraiTexto(url);
+            total += System.nanoTime() - start;
+        }
+        result.avgMillis = total / 1_000_000.0 / ITERATIONS;
+        result.bytes = parser.getLastFetch() != null ? parser.getLastFetch().bytes : 0;
+        result.chars = parser.getTexto().length();
+        return result;
+    }
+
+    private static HttpServer startServer(Map<String, String[]> recordings) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String[] parts = exchange.getRequestURI().getPath().split("/");
+            String[] pair = parts.length == 3 ? recordings.get(parts[2]) : null;
+            if (pair == null) {
+                exchange.sendResponseHeaders(404, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = pair["light".equals(parts[1]) ? 1 : 0].getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                writeThrottled(out, body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static void writeThrottled(OutputStream out, byte[] body) throws IOException {
+        int chunk = 16 * 1024;
+        for (int off = 0; off < body.length; off += chunk) {
+            int len = Math.min(chunk, body.length - off);
+            out.write(body, off, len);
+            if (KBPS > 0) {
+                try {
+                    Thread.sleep(Math.max(1, len * 1000L / (KBPS * 1024L)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Carrega respostas gravadas ou gera as sintéticas
+     */
+    private static Map<String, String[]> loadRecordings() throws IOException {
+        Map<String, String[]> recordings = new LinkedHashMap<>();
+        String dir = System.getProperty("bench.recordings");
+
+        if (dir != null) {
+            Path path = Paths.get(dir);
+            try (var files = Files.list(path)) {
+                for (Path full : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".full.html"))::iterator) {
+                    String name = full.getFileName().toString().replace(".full.html", "");
+                    Path light = path.resolve(name + ".light.html");
+                    if (Files.exists(light)) {
+                        recordings.put(name, new String[]{Files.readString(full), Files.readString(light)});
+                    }
+                }
+            }
+            System.out.println("Respostas gravadas carregadas de " + dir + ": " + recordings.keySet());
+        }
+
+        if (recordings.isEmpty()) {
+            // Páginas sintéticas só exercitam o caminho; a economia medida nelas não vale como evidência
+            System.out.println("⚠️ Usando páginas sintéticas (sem -Dbench.recordings): os números abaixo só validam "
+                    + "o funcionamento, não representam a economia em sites reais");
+            recordings.put("wikipedia-artigo", syntheticWikipedia(40));
+            recordings.put("g1-materia", syntheticNews(8));
+        }
+        return recordings;
+    }
+
+    private static final String PARAGRAFO = "<p>O telefone é um dispositivo de telecomunicações projetado para transmitir sons "
+            + "por meio de sinais elétricos. Sua invenção transformou a comunicação no século XIX e permitiu "
+            + "que pessoas conversassem à distância em tempo real, impulsionando a economia e a sociedade.</p>\n";
+
+    private static String[] syntheticWikipedia(int sections) {
+        StringBuilder article = new StringBuilder();
+        for (int i = 1; i <= sections; i++) {
+            article.append("<h2>Seção ").append(i).append("</h2>\n").append(PARAGRAFO.repeat(3));
+        }
+        StringBuilder skin = new StringBuilder("<html><head><title>Telefone – Wikipédia</title>");
+        for (int i = 0; i < 300; i++) {
+            skin.append("<style>.mw-parser-output .hatnote-").append(i)
+                    .append("{font-style:italic;padding-left:1.6em;margin-bottom:0.5em}</style>");
+        }
+        skin.append("<script>").append("var RLCONF={\"wgPageName\":\"Telefone\"};".repeat(400)).append("</script>");
+        skin.append("</head><body class=\"skin-theme-clientpref-day\"><div id=\"mw-navigation\">");
+        for (int i = 0; i < 400; i++) {
+            skin.append("<li><a href=\"/wiki/Lingua_").append(i).append("\">Língua ").append(i).append("</a></li>");
+        }
+        skin.append("</div><div id=\"content\"><div id=\"mw-content-text\"><div class=\"mw-parser-output\">")
+                .append(article).append("</div></div></div><footer>")
+                .append("<li>Esta página foi editada pela última vez</li>".repeat(50)).append("</footer></body></html>");
+
+        String light = "<html><head><title>Telefone</title></head><body><div id=\"pcs\">"
+                + "<section data-mw-section-id=\"0\">" + article + "</section></div></body></html>";
+        return new String[]{skin.toString(), light};
+    }
+
+    private static String[] syntheticNews(int paragraphs) {
+        String body = "<h1>Matéria de teste</h1>" + PARAGRAFO.repeat(paragraphs);
+        StringBuilder full = new StringBuilder("<html><head><title>g1</title>");
+        full.append("<script>").append("window.ads.push({slot:'banner',size:[728,90]});".repeat(1500)).append("</script>");
+        full.append("</head><body><div class=\"glb-topo\">").append("<a href=\"#\">Menu</a>".repeat(300)).append("</div>");
+        full.append("<article>").append(body).append("</article>");
+        full.append("<div class=\"mais-do-g1\">").append("<div class=\"publicidade\">anúncio</div>".repeat(200)).append("</div></body></html>");
+
+        String light = "<html><head><title>g1 AMP</title></head><body><article>" + body + "</article></body></html>";
+        return new String[]{full.toString(), light};
+    }
+}
@@ -1,6 +1,7 @@
 package meuparser.pipelines;
 
 import meuparser.ia.AIStats;
+import meuparser.ia.text.TextTokenizer;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -134,24 +135,21 @@ public class MetricsCollector {
             GroundTruthSample truth = groundTruth.get(i);
             ExtractionResult result = results.get(i);
 
-            Set<String> trueContent = tokenizeContent(truth.mainContent);
-            Set<String> extractedContent = tokenizeContent(result.extractedContent);
+            // Mesmo dicionário para os dois textos: IDs comparáveis entre eles
+            TextTokenizer tokenizer = TextTokenizer.ALL_TERMS.withNewDictionary();
+            int[] trueContent = tokenizeContent(tokenizer, truth.mainContent);
+            int[] extractedContent = tokenizeContent(tokenizer, result.extractedContent);
 
-            // Calcula TP, FP, FN
-            Set<String> truePositives = new HashSet<>(extractedContent);
-            truePositives.retainAll(trueContent);
-
-            Set<String> falsePositives = new HashSet<>(extractedContent);
-            falsePositives.removeAll(trueContent);
-
-            Set<String> falseNegatives = new HashSet<>(trueContent);
-            falseNegatives.removeAll(extractedContent);
+            // Calcula TP, FP, FN (IDs distintos e ordenados: interseção linear)
+            int truePositives = countIntersection(extractedContent, trueContent);
+            int falsePositives = extractedContent.length - truePositives;
+            int falseNegatives = trueContent.length - truePositives;
 
             // Precisão e Recall para esta amostra
-            double precision = truePositives.isEmpty() ? 0.0 :
-                    (double) truePositives.size() / (truePositives.size() + falsePositives.size());
-            double recall = truePositives.isEmpty() ? 0.0 :
-                    (double) truePositives.size() / (truePositives.size() + falseNegatives.size());
+            double precision = truePositives == 0 ? 0.0 :
+                    (double) truePositives / (truePositives + falsePositives);
+            double recall = truePositives == 0 ? 0.0 :
+                    (double) truePositives / (truePositives + falseNegatives);
 
             totalPrecision += precision;
             totalRecall += recall;
@@ -237,12 +235,29 @@ public class MetricsCollector {
         }
     }
 
-    private Set<String> tokenizeContent(String content) {
+    /**
+     * Termos distintos (3+ caracteres, sem caixa/acento) como IDs ordenados
+     */
+    private int[] tokenizeContent(TextTokenizer tokenizer, String content) {
         if (content == null || content.trim().isEmpty()) {
-            return new HashSet<>();
+            return new int[0];
+        }
+        return tokenizer.distinctTermIds(content);
+    }
+
+    private int countIntersection(int[] a, int[] b) {
+        int i = 0, j = 0, common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
         }
-        return Arrays.stream(content.toLowerCase().split("\\W+"))
-                .filter(token -> token.length() > 2) // Remove tokens muito pequenos
-                .collect(Collectors.toSet());
+        return common;
     }
 }
\ No newline at end of file
@@ -138,6 +138,9 @@ public class PerformanceProfiler {
             metrics.totalTime = metrics.parseTime + metrics.classTime + metrics.sumTime + metrics.formatTime;
             metrics.success = true;
 
+            // T_sum de páginas repetidas vem do cache (-Dblindbrowser.summary.cacheSize=0 para medir sem ele)
+            System.out.println("📊 " + ContentSummarizer.getCacheStats());
+
             // Cleanup
             summarizer.cleanup();
 
@@ -0,0 +1,163 @@
+package meuparser.pipelines;
+
+import meuparser.ia.nlp.INLPSummarizer;
+import meuparser.ia.nlp.NLPProviderFactory;
+import meuparser.ia.nlp.SummaryBatch;
+import meuparser.ia.nlp.TextRankSummarizer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark de latência dos provedores NLP disponíveis (INLPSummarizer) sobre o mesmo corpus:
+ *   -Dbench.corpus=<pasta>     arquivos .txt com textos extraídos (saída do JsoupParser)
+ *                              (sem a pasta, usa páginas sintéticas de 2K a 300K caracteres)
+ *   -Dbench.iterations=<n>     repetições por documento (padrão 10)
+ *   -Dbench.sentences=<n>      sentenças pedidas ao resumo (padrão 3)
+ *   -Dblindbrowser.scheduler.batch.threads=<n>  workers da medição em lote (faixa BATCH, padrão: núcleos)
+ *   -Dblindbrowser.corenlp.batchThreads=<n>     threads de anotação do lote CoreNLP (padrão: núcleos)
+ */
+public class SummarizerBenchmark {
+
+    private static final int ITERATIONS = Integer.getInteger("bench.iterations", 10);
+    private static final int SENTENCES = Integer.getInteger("bench.sentences", 3);
+    private static final int VOCABULARY = 2000; // termos sintéticos por tópico
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("⚡ BENCHMARK - PROVEDORES DE SUMARIZAÇÃO");
+        System.out.println("══════════════════════════════════════════════");
+
+        Map<String, String> corpus = loadCorpus();
+        NLPProviderFactory.NLPProvider original = NLPProviderFactory.getCurrentProvider();
+
+        try {
+            for (NLPProviderFactory.NLPProvider provider : NLPProviderFactory.getAvailableProviders()) {
+                NLPProviderFactory.setProvider(provider);
+                INLPSummarizer summarizer = NLPProviderFactory.createSummarizer();
+                if (summarizer == null) continue;
+
+                long initStart = System.currentTimeMillis();
+                summarizer.initialize();
+                if (!summarizer.isReady()) {
+                    System.out.println("⚠️ " + provider + " não ficou pronto, ignorado");
+                    continue;
+                }
+                System.out.printf("%n📄 %s (inicialização %d ms)%n", provider, System.currentTimeMillis() - initStart);
+
+                for (Map.Entry<String, String> doc : corpus.entrySet()) {
+                    measure(summarizer, doc.getKey(), doc.getValue());
+                }
+                measureBatch(summarizer, new ArrayList<>(corpus.values()));
+                summarizer.cleanup();
+            }
+        } finally {
+            NLPProviderFactory.setProvider(original);
+        }
+    }
+
+    private static void measure(INLPSummarizer summarizer, String name, String text) {
+        summarizer.summarize(text, SENTENCES); // aquecimento
+
+        long[] samples = new long[ITERATIONS];
+        String summary = "";
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            summary = summarizer.summarize(text, SENTENCES);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double avg = Arrays.stream(samples).average().orElse(0) / 1e6;
+        double p95 = samples[Math.min(samples.length - 1, (int) Math.ceil(samples.length * 0.95) - 1)] / 1e6;
+
+        String extra = summarizer instanceof TextRankSummarizer
+                ? " | " + ((TextRankSummarizer) summarizer).getLastStats() : "";
+        System.out.printf("   %-22s %,9d chars | média %8.2f ms | p95 %8.2f ms | resumo %,5d chars%s%n",
+                name, text.length(), avg, p95, summary.length(), extra);
+    }
+
+    /**
+     * Corpus inteiro: um documento por vez vs. API de lote (ordem de conclusão)
+     */
+    private static void measureBatch(INLPSummarizer summarizer, List<String> documents) {
+        long start = System.nanoTime();
+        for (String document : documents) {
+            summarizer.summarize(document, SENTENCES);
+        }
+        double sequential = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        SummaryBatch batch = summarizer.summarizeBatch(documents, SENTENCES);
+        long failures = batch.completionOrder().filter(item -> !item.isSuccess()).count();
+        double batched = (System.nanoTime() - start) / 1e6;
+
+        System.out.printf("   %-22s %,9d docs  | sequencial %8.2f ms | lote %8.2f ms (%d threads, %d falhas)%n",
+                "corpus em lote", documents.size(), sequential, batched, SummaryBatch.DEFAULT_PARALLELISM, failures);
+    }
+
+    private static Map<String, String> loadCorpus() throws IOException {
+        Map<String, String> corpus = new LinkedHashMap<>();
+        String dir = System.getProperty("bench.corpus");
+        if (dir != null) {
+            try (Stream<Path> files = Files.list(Paths.get(dir))) {
+                for (Path file : (Iterable<Path>) files.filter(p -> p.toString().endsWith(".txt")).sorted()::iterator) {
+                    corpus.put(file.getFileName().toString(),
+                            new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+                }
+            }
+            System.out.println("Corpus: " + corpus.size() + " documentos de " + dir);
+            return corpus;
+        }
+
+        for (int size : new int[]{2_000, 20_000, 100_000, 300_000}) {
+            corpus.put("sintético-" + size / 1000 + "K", syntheticArticle(size, size));
+        }
+        System.out.println("Corpus: páginas sintéticas (use -Dbench.corpus=<pasta> para textos reais)");
+        return corpus;
+    }
+
+    /**
+     * Artigo sintético com tópicos recorrentes, para que o grafo tenha estrutura
+     */
+    private static String syntheticArticle(int chars, long seed) {
+        String[][] topics = {
+                {"telefone", "sinal", "chamada", "rede", "operadora", "linha", "central", "voz"},
+                {"governo", "economia", "inflação", "juros", "mercado", "crescimento", "política", "reforma"},
+                {"escola", "aluno", "professor", "ensino", "aprendizagem", "disciplina", "avaliação", "currículo"},
+                {"saúde", "hospital", "vacina", "doença", "tratamento", "paciente", "médico", "pesquisa"}
+        };
+        String[] glue = {"o", "a", "de", "para", "com", "que", "em", "segundo", "durante", "sobre"};
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder("TÍTULO PRINCIPAL: Artigo sintético\n\n");
+        while (text.length() < chars) {
+            String[] topic = topics[random.nextInt(topics.length)];
+            int words = 10 + random.nextInt(15);
+            StringBuilder sentence = new StringBuilder();
+            for (int w = 0; w < words; w++) {
+                String word;
+                if (random.nextInt(3) == 0) {
+                    word = glue[random.nextInt(glue.length)];
+                } else if (random.nextInt(3) == 0) {
+                    word = topic[random.nextInt(topic.length)];
+                } else {
+                    // Cauda longa (distribuição aproximadamente Zipf), como num vocabulário real
+                    double r = random.nextDouble();
+                    word = topic[random.nextInt(topic.length)] + "x" + (int) (VOCABULARY * r * r * r);
+                }
+                sentence.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word).append(' ');
+            }
+            text.append(sentence.toString().trim()).append(". ");
+            if (random.nextInt(6) == 0) text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,401 @@
+package meuparser.scheduler;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Agendador central das tarefas em segundo plano, separado em faixas (lanes) com prioridade.
+ *
+ * Cada faixa tem threads e fila próprias e limitadas, então um carregamento pedido pelo usuário
+ * (FOREGROUND) nunca espera atrás de prefetch ou de lotes. Enquanto há carregamento em andamento:
+ *   - PREFETCH é cancelado (refazer é barato, e a banda vai para a página pedida);
+ *   - BACKGROUND e BATCH não começam tarefas novas (esperam até MAX_HOLD_MS).
+ * Threads e fila de cada faixa: -Dblindbrowser.scheduler.<faixa>.threads / .queue
+ * (ex.: -Dblindbrowser.scheduler.prefetch.threads=2).
+ *
+ * Tarefas longas e contínuas (leitura da porta serial, reprodução da narração) continuam
+ * em threads dedicadas: não são trabalho enfileirável.
+ */
+public final class TaskScheduler {
+
+    // Limite de espera de BACKGROUND/BATCH por carregamentos (evita inanição com navegação contínua)
+    private static final long MAX_HOLD_MS = Long.getLong("blindbrowser.scheduler.maxHoldMs", 30_000);
+
+    // Esperas acima disto são registradas no log
+    private static final long SLOW_WAIT_MS = Long.getLong("blindbrowser.scheduler.slowWaitMs", 250);
+
+    private enum Preemption {
+        NONE,   // nunca interrompida
+        HOLD,   // não começa enquanto houver carregamento
+        CANCEL  // cancelada quando um carregamento começa
+    }
+
+    private enum Overflow {
+        REJECT,         // fila cheia: a tarefa nova falha com RejectedExecutionException
+        DISCARD_OLDEST  // fila cheia: a tarefa mais antiga (mais desatualizada) é cancelada
+    }
+
+    public enum Lane {
+        FOREGROUND("Carregamento", 4, 16, Preemption.NONE, Overflow.REJECT, Thread.NORM_PRIORITY + 1),
+        SUMMARY("Resumo", 1, 16, Preemption.NONE, Overflow.DISCARD_OLDEST, Thread.NORM_PRIORITY),
+        BACKGROUND("Segundo plano", 2, 32, Preemption.HOLD, Overflow.DISCARD_OLDEST, Thread.NORM_PRIORITY - 1),
+        PREFETCH("Prefetch", 1, 8, Preemption.CANCEL, Overflow.DISCARD_OLDEST, Thread.MIN_PRIORITY),
+        // Lote: uma thread por núcleo (prioridade mínima e segurada durante carregamentos)
+        BATCH("Lote", Runtime.getRuntime().availableProcessors(), 16, Preemption.HOLD, Overflow.REJECT,
+                Thread.MIN_PRIORITY);
+
+        private final String name;
+        private final int threads;
+        private final int queueCapacity;
+        private final Preemption preemption;
+        private final Overflow overflow;
+        private final int priority;
+
+        Lane(String name, int threads, int queueCapacity, Preemption preemption, Overflow overflow, int priority) {
+            this.name = name;
+            String key = "blindbrowser.scheduler." + name().toLowerCase() + ".";
+            this.threads = Math.max(1, Integer.getInteger(key + "threads", threads));
+            this.queueCapacity = Math.max(1, Integer.getInteger(key + "queue", queueCapacity));
+            this.preemption = preemption;
+            this.overflow = overflow;
+            this.priority = priority;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Threads da faixa (já com a configuração -Dblindbrowser.scheduler.&lt;faixa&gt;.threads)
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static volatile TaskScheduler instance;
+
+    private final Map<Lane, LaneExecutor> lanes = new EnumMap<>(Lane.class);
+    private final Object foregroundMonitor = new Object();
+    private int foregroundRunning; // guardado por foregroundMonitor
+
+    private TaskScheduler() {
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new LaneExecutor(lane));
+        }
+    }
+
+    public static TaskScheduler getInstance() {
+        TaskScheduler local = instance;
+        if (local == null) {
+            synchronized (TaskScheduler.class) {
+                local = instance;
+                if (local == null) {
+                    local = new TaskScheduler();
+                    instance = local;
+                }
+            }
+        }
+        return local;
+    }
+
+    /**
+     * Agenda uma tarefa na faixa. Cancelar o future retornado interrompe a tarefa se já começou.
+     */
+    public <T> CompletableFuture<T> submit(Lane lane, String name, Callable<T> task) {
+        return submit(lane, name, task, null);
+    }
+
+    /**
+     * @param onDiscarded recebe o resultado de uma tarefa que terminou depois de cancelada
+     *                    (ex.: liberar o que ela iniciou); pode ser null
+     */
+    public <T> CompletableFuture<T> submit(Lane lane, String name, Callable<T> task, Consumer<? super T> onDiscarded) {
+        ScheduledTask<T> scheduled = new ScheduledTask<>(lanes.get(lane), name, task, onDiscarded);
+        lanes.get(lane).execute(scheduled);
+        return scheduled.result;
+    }
+
+    public CompletableFuture<Void> run(Lane lane, String name, Runnable task) {
+        return submit(lane, name, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    private void foregroundStarted() {
+        synchronized (foregroundMonitor) {
+            foregroundRunning++;
+        }
+        for (LaneExecutor executor : lanes.values()) {
+            if (executor.lane.preemption == Preemption.CANCEL) {
+                executor.preemptAll();
+            }
+        }
+    }
+
+    private void foregroundFinished() {
+        synchronized (foregroundMonitor) {
+            if (--foregroundRunning == 0) {
+                foregroundMonitor.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Segura uma tarefa de faixa HOLD enquanto houver carregamento (até MAX_HOLD_MS)
+     */
+    private void awaitForegroundIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + MAX_HOLD_MS;
+        synchronized (foregroundMonitor) {
+            long remaining;
+            while (foregroundRunning > 0 && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                foregroundMonitor.wait(remaining);
+            }
+        }
+    }
+
+    /**
+     * Fila e threads de uma faixa, com métricas
+     */
+    private final class LaneExecutor {
+        final Lane lane;
+        final ThreadPoolExecutor pool;
+        final Set<ScheduledTask<?>> active = ConcurrentHashMap.newKeySet();
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicLong submitted = new AtomicLong();
+        final AtomicLong completed = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong cancelled = new AtomicLong();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicLong preempted = new AtomicLong();
+        final AtomicLong started = new AtomicLong();
+        final AtomicLong totalWaitNanos = new AtomicLong();
+        final AtomicLong maxWaitNanos = new AtomicLong();
+
+        LaneExecutor(Lane lane) {
+            this.lane = lane;
+            AtomicInteger threadCount = new AtomicInteger();
+            this.pool = new ThreadPoolExecutor(lane.threads, lane.threads, 30, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(lane.queueCapacity), r -> {
+                Thread t = new Thread(r, "sched-" + lane.name().toLowerCase() + "-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                t.setPriority(lane.priority);
+                return t;
+            }, (r, executor) -> overflow((ScheduledTask<?>) r));
+            this.pool.allowCoreThreadTimeOut(true);
+        }
+
+        void execute(ScheduledTask<?> task) {
+            submitted.incrementAndGet();
+            active.add(task);
+            pool.execute(task);
+        }
+
+        private void overflow(ScheduledTask<?> task) {
+            if (lane.overflow == Overflow.DISCARD_OLDEST) {
+                Runnable oldest = pool.getQueue().poll();
+                if (oldest instanceof ScheduledTask) {
+                    ScheduledTask<?> discarded = (ScheduledTask<?>) oldest;
+                    discarded.result.cancel(true);
+                    active.remove(discarded);
+                    cancelled.incrementAndGet();
+                    System.out.println("DEBUG: Fila " + lane + " cheia - descartada: " + discarded.name);
+                }
+                if (pool.getQueue().offer(task)) return;
+            }
+            rejected.incrementAndGet();
+            active.remove(task);
+            task.result.completeExceptionally(new RejectedExecutionException(
+                    "Fila " + lane + " cheia (" + lane.queueCapacity + "): " + task.name));
+        }
+
+        void preemptAll() {
+            for (ScheduledTask<?> task : active) {
+                if (task.result.cancel(true)) {
+                    preempted.incrementAndGet();
+                }
+            }
+        }
+
+        void recordWait(long nanos) {
+            started.incrementAndGet();
+            totalWaitNanos.addAndGet(nanos);
+            maxWaitNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        LaneStats stats() {
+            long starts = started.get();
+            return new LaneStats(lane, lane.threads, running.get(), pool.getQueue().size(), lane.queueCapacity,
+                    submitted.get(), completed.get(), failed.get(), cancelled.get(), rejected.get(), preempted.get(),
+                    starts > 0 ? totalWaitNanos.get() / starts / 1_000_000.0 : 0, maxWaitNanos.get() / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Tarefa agendada: mede a espera, aplica a preempção da faixa e liga o cancelamento
+     * do future à interrupção da thread
+     */
+    private final class ScheduledTask<T> implements Runnable {
+        final LaneExecutor executor;
+        final String name;
+        final Callable<T> callable;
+        final Consumer<? super T> onDiscarded;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final long submittedAt = System.nanoTime();
+        private Thread runner; // guardado por this
+
+        ScheduledTask(LaneExecutor executor, String name, Callable<T> callable, Consumer<? super T> onDiscarded) {
+            this.executor = executor;
+            this.name = name;
+            this.callable = callable;
+            this.onDiscarded = onDiscarded;
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) interruptRunner();
+            });
+        }
+
+        private synchronized void interruptRunner() {
+            if (runner != null) runner.interrupt();
+        }
+
+        @Override
+        public void run() {
+            Lane lane = executor.lane;
+            try {
+                synchronized (this) {
+                    if (result.isDone()) return; // cancelada ainda na fila
+                    runner = Thread.currentThread();
+                }
+
+                if (lane.preemption == Preemption.HOLD) {
+                    awaitForegroundIdle();
+                }
+                long waitNanos = System.nanoTime() - submittedAt;
+                executor.recordWait(waitNanos);
+                if (waitNanos / 1_000_000 >= SLOW_WAIT_MS) {
+                    System.out.printf("DEBUG: [%s] %s esperou %d ms na fila%n", lane, name, waitNanos / 1_000_000);
+                }
+                execute(lane);
+            } catch (InterruptedException e) {
+                result.completeExceptionally(new CancellationException(name + " interrompida na espera"));
+            } finally {
+                synchronized (this) {
+                    runner = null;
+                }
+                Thread.interrupted(); // a interrupção era desta tarefa, não da próxima na mesma thread
+                executor.active.remove(this);
+                if (result.isCancelled()) executor.cancelled.incrementAndGet();
+            }
+        }
+
+        private void execute(Lane lane) {
+            if (lane == Lane.FOREGROUND) foregroundStarted();
+            executor.running.incrementAndGet();
+            try {
+                T value = callable.call();
+                if (result.complete(value)) {
+                    executor.completed.incrementAndGet();
+                } else if (onDiscarded != null && value != null) {
+                    onDiscarded.accept(value);
+                }
+            } catch (Throwable t) {
+                if (!result.isCancelled()) executor.failed.incrementAndGet();
+                result.completeExceptionally(t);
+            } finally {
+                executor.running.decrementAndGet();
+                if (lane == Lane.FOREGROUND) foregroundFinished();
+            }
+        }
+    }
+
+    public SchedulerStats getStats() {
+        List<LaneStats> stats = new ArrayList<>();
+        for (LaneExecutor executor : lanes.values()) {
+            stats.add(executor.stats());
+        }
+        return new SchedulerStats(stats);
+    }
+
+    /**
+     * Métricas de uma faixa: ocupação, fila e tempo de espera (submissão → início)
+     */
+    public static class LaneStats {
+        public final Lane lane;
+        public final int threads;
+        public final int running;
+        public final int queued;
+        public final int queueCapacity;
+        public final long submitted;
+        public final long completed;
+        public final long failed;
+        public final long cancelled;
+        public final long rejected;
+        public final long preempted;
+        public final double averageWaitMillis;
+        public final double maxWaitMillis;
+
+        public LaneStats(Lane lane, int threads, int running, int queued, int queueCapacity,
+                         long submitted, long completed, long failed, long cancelled, long rejected, long preempted,
+                         double averageWaitMillis, double maxWaitMillis) {
+            this.lane = lane;
+            this.threads = threads;
+            this.running = running;
+            this.queued = queued;
+            this.queueCapacity = queueCapacity;
+            this.submitted = submitted;
+            this.completed = completed;
+            this.failed = failed;
+            this.cancelled = cancelled;
+            this.rejected = rejected;
+            this.preempted = preempted;
+            this.averageWaitMillis = averageWaitMillis;
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-14s %d/%d ativas | fila %d/%d | %d enviadas, %d ok, %d falhas, %d canceladas "
+                            + "(%d preempções), %d rejeitadas | espera média %.1f ms, máx %.1f ms",
+                    lane.getName(), running, threads, queued, queueCapacity, submitted, completed, failed,
+                    cancelled, preempted, rejected, averageWaitMillis, maxWaitMillis);
+        }
+    }
+
+    public static class SchedulerStats {
+        public final List<LaneStats> lanes;
+
+        public SchedulerStats(List<LaneStats> lanes) {
+            this.lanes = lanes;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("📊 Agendador:\n");
+            for (LaneStats lane : lanes) {
+                sb.append("   - ").append(lane).append('\n');
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
+import meuparser.scheduler.TaskScheduler;
 
 /**
  * TTSManager CORRIGIDO - Versão Final
@@ -19,7 +20,7 @@ import java.util.concurrent.*;
 public class TTSManager {
 
     private Synthesizer synthesizer;
-    private boolean isNarrating = false;
+    private volatile boolean isNarrating = false;
     private boolean isPaused = false;
     private float speechRate = 150.0f;
     private Thread narrationThread;
@@ -87,7 +88,8 @@ public class TTSManager {
         System.out.println("⚙️ TTS inicializado com voz padrão do sistema");
         System.out.println("🔄 Verificação de Edge TTS será feita em background");
 
-        CompletableFuture.runAsync(this::checkEdgeTTSInBackground);
+        TaskScheduler.getInstance().run(TaskScheduler.Lane.BACKGROUND, "verificar Edge TTS",
+                this::checkEdgeTTSInBackground);
     }
 
     private void checkEdgeTTSInBackground() {
@@ -138,6 +140,14 @@ public class TTSManager {
      * CORRIGIDO: Narra usando a voz brasileira selecionada
      */
     public void narrate(String text) {
+        narrate(text, null);
+    }
+
+    /**
+     * Narra e, se a narração chegar ao fim sem ser parada, chama onFinished
+     * (na thread da narração; usado para continuar na próxima página)
+     */
+    public void narrate(String text, Runnable onFinished) {
         if (text == null || text.trim().isEmpty()) {
             JOptionPane.showMessageDialog(null,
                     "Não há texto para narrar",
@@ -157,8 +167,11 @@ public class TTSManager {
         isPaused = false;
 
         narrationThread = new Thread(() -> {
+            boolean completed = false;
             try {
                 narrateWithBrazilianVoice(text);
+                // Parada pelo usuário (F6 ou nova narração) não conta como fim
+                completed = isNarrating && !Thread.currentThread().isInterrupted();
             } catch (Exception e) {
                 System.err.println("❗ Erro durante narração: " + e.getMessage());
                 e.printStackTrace();
@@ -166,6 +179,9 @@ public class TTSManager {
                 isNarrating = false;
                 manuallyPaused = false;
             }
+            if (completed && onFinished != null) {
+                onFinished.run();
+            }
         });
 
         narrationThread.start();